@@ -0,0 +1,19 @@
+package com.bid.bidding;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 시퀀서가 받아들인 입찰 (원장에 기록될 한 줄)
+@Getter
+@AllArgsConstructor
+public class AcceptedBid {
+
+	private final Long tenderId;    // Tender.id (내부)
+	private final Long plnmNo;      // Tender.tenderId (응답의 tenderId)
+	private final String cltrMnmtNo;
+	private final Long userId;
+	private final Long bidPrice;
+	private final LocalDateTime bidTime;
+}
@@ -0,0 +1,131 @@
+package com.bid.bidding;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.bid.dto.request.BidRequestDTO;
+import com.bid.dto.response.BidResponseDTO;
+import com.bid.exception.BidPendingException;
+import com.bid.exception.BidRejectedException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.AllArgsConstructor;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 입찰 요청의 Idempotency-Key → 처리 결과 저장소 (크기/기간 제한, 노드 메모리).
+ * 같은 사용자가 같은 키로 다시 보내면 입찰을 다시 처리하지 않고 처음 결과(성공 응답 또는 같은 거절)를 돌려줍니다.
+ * 키를 먼저 putIfAbsent 로 차지한 요청만 실행하고, 동시에 도착한 중복은 그 결과를 기다리므로 두 번 처리되는 일이 없습니다.
+ * 서버 오류로 끝난 요청과 시점에 따라 달라지는 거절(다른 입찰에 밀림 등)은 키를 비워서 클라이언트가 같은 키로 다시 시도할 수 있게 합니다.
+ * 시퀀서 대기 시간을 넘긴 입찰(BidPendingException)은 곧 커밋될 수 있으므로 키를 비우지 않고, 커밋 결과가 나오면 그 결과로 채웁니다.
+ * (키를 비우면 재시도가 같은 입찰을 한 번 더 넣게 됨)
+ */
+@Component
+@RequiredArgsConstructor
+public class BidIdempotencyStore {
+
+	public static final int MAX_KEY_LENGTH = 128;
+
+	// 다시 보내면 결과가 달라질 수 있는 거절 사유 (BidRejectedException.reason) - 결과로 남기지 않습니다.
+	private static final Set<String> TRANSIENT_REJECTIONS = Set.of("outbid", "duplicate");
+
+	private final MeterRegistry meterRegistry;
+
+	@Value("${bid.idempotency.max-size:100000}")
+	private long maxSize;
+
+	@Value("${bid.idempotency.ttl:24h}")
+	private Duration ttl;
+
+	@Value("${bid.idempotency.await-timeout-ms:10000}")
+	private long awaitTimeoutMs;
+
+	private Cache<String, Entry> entries; // userId:key
+
+	@PostConstruct
+	void init() {
+		entries = Caffeine.newBuilder().maximumSize(maxSize).expireAfterWrite(ttl).build();
+	}
+
+	public BidResponseDTO execute(Long userId, String idempotencyKey, BidRequestDTO request, Supplier<BidResponseDTO> action) {
+		if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+			throw new IllegalArgumentException("Idempotency-Key 는 1~" + MAX_KEY_LENGTH + "자여야 합니다.");
+		}
+		String storeKey = userId + ":" + idempotencyKey;
+		String fingerprint = request.getTenderId() + ":" + request.getBidPrice();
+		Entry created = new Entry(fingerprint, new CompletableFuture<>());
+		Entry existing = entries.asMap().putIfAbsent(storeKey, created);
+		if (existing != null) {
+			if (!existing.fingerprint.equals(fingerprint)) {
+				meterRegistry.counter("bid.idempotency", "result", "conflict").increment();
+				throw new IllegalArgumentException("같은 Idempotency-Key 로 다른 입찰을 보낼 수 없습니다.");
+			}
+			meterRegistry.counter("bid.idempotency", "result", "replayed").increment();
+			return await(existing.result);
+		}
+
+		try {
+			BidResponseDTO response = action.get();
+			created.result.complete(response);
+			return response;
+		} catch (BidPendingException e) {
+			// 결과가 정해질 때까지 키를 잡아 두고, 같은 키의 재시도는 그 결과를 기다립니다.
+			e.getResult().whenComplete((response, error) -> {
+				if (error == null) {
+					created.result.complete(response);
+				} else {
+					fail(storeKey, created, error instanceof CompletionException ? error.getCause() : error);
+				}
+			});
+			throw e;
+		} catch (RuntimeException e) {
+			fail(storeKey, created, e);
+			throw e;
+		}
+	}
+
+	// 확정된 거절은 결과로 남기고(재시도하면 같은 메시지), 서버 오류와 일시적인 거절은 키를 비웁니다.
+	private void fail(String storeKey, Entry created, Throwable error) {
+		boolean transientRejection = error instanceof BidRejectedException rejected
+				&& TRANSIENT_REJECTIONS.contains(rejected.getReason());
+		if (!(error instanceof IllegalArgumentException) || transientRejection) {
+			entries.asMap().remove(storeKey, created);
+		}
+		created.result.completeExceptionally(error);
+	}
+
+	// 처음 요청이 아직 끝나지 않았으면 처음 요청과 같이 '처리 중'으로 응답합니다.
+	private BidResponseDTO await(CompletableFuture<BidResponseDTO> result) {
+		try {
+			return result.get(awaitTimeoutMs, TimeUnit.MILLISECONDS);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw new IllegalStateException("입찰 처리 중 오류가 발생 했습니다.", e.getCause());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("입찰 처리가 중단되었습니다.", e);
+		} catch (TimeoutException e) {
+			throw new BidPendingException("같은 Idempotency-Key 의 입찰이 아직 처리 중입니다.", result);
+		}
+	}
+
+	@AllArgsConstructor
+	private static class Entry {
+		private final String fingerprint; // tenderId:bidPrice (같은 키로 다른 입찰을 보내면 거절)
+		private final CompletableFuture<BidResponseDTO> result;
+	}
+}
@@ -0,0 +1,197 @@
+package com.bid.bidding;
+
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.bid.event.TenderBidPlacedEvent;
+import com.bid.event.TenderChangePublisher;
+import com.bid.repository.TenderBidStatsSql;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 시퀀서가 받아들인 입찰의 쓰기 지연(write-behind) 원장.
+ * 전용 스레드 하나가 큐에 쌓인 입찰을 한 번에 꺼내 bids 배치 INSERT + 공고별 최고가 UPDATE + 입찰 집계를 한 트랜잭션으로 커밋하고,
+ * 커밋된 뒤에야 입찰자에게 응답합니다. (그룹 커밋: 직전 커밋 동안 쌓인 입찰이 다음 배치가 됨)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BidLedger {
+
+	private static final String INSERT_BID = "INSERT INTO bids (tender_id, user_id, bid_price, bid_time) VALUES (?, ?, ?, ?)";
+	// 배치가 실패해 다시 시도되거나 순서가 섞여도 공고 가격이 내려가지 않도록 "더 높을 때만" 올립니다.
+	private static final String RAISE_PRICE = "UPDATE tenders SET min_bid_price = ? WHERE id = ? AND (min_bid_price IS NULL OR min_bid_price < ?)";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final NamedParameterJdbcTemplate namedJdbcTemplate; // 집계 SQL 은 리포지토리와 같은 이름 파라미터 문장 (TenderBidStatsSql)
+	private final TransactionTemplate transactionTemplate;
+	private final TenderChangePublisher changePublisher;
+
+	@Value("${bid.sequencer.enabled:false}")
+	private boolean enabled;
+
+	@Value("${bid.ledger.batch-size:500}")
+	private int batchSize;
+
+	private final BlockingQueue<PendingEntry> queue = new LinkedBlockingQueue<>();
+	private volatile boolean running;
+	private Thread flusher;
+
+	@PostConstruct
+	void start() {
+		if (!enabled) {
+			return;
+		}
+		running = true;
+		flusher = new Thread(this::flushLoop, "BidLedger-flusher");
+		flusher.start();
+	}
+
+	// 남은 입찰을 모두 커밋한 뒤 멈춥니다. (시퀀서가 먼저 멈춰 더 이상 들어오지 않음)
+	@PreDestroy
+	void stop() throws InterruptedException {
+		if (flusher == null) {
+			return;
+		}
+		running = false;
+		flusher.join(TimeUnit.SECONDS.toMillis(30));
+	}
+
+	// 커밋되면 완료, 실패하면 예외로 완료되는 future
+	public CompletableFuture<AcceptedBid> append(AcceptedBid bid) {
+		CompletableFuture<AcceptedBid> committed = new CompletableFuture<>();
+		queue.add(new PendingEntry(bid, committed));
+		return committed;
+	}
+
+	private void flushLoop() {
+		List<PendingEntry> batch = new ArrayList<>(batchSize);
+		while (running || !queue.isEmpty()) {
+			try {
+				PendingEntry first = queue.poll(100, TimeUnit.MILLISECONDS);
+				if (first == null) {
+					continue;
+				}
+				batch.add(first);
+				queue.drainTo(batch, batchSize - 1);
+				flush(batch);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			} finally {
+				batch.clear();
+			}
+		}
+	}
+
+	private void flush(List<PendingEntry> batch) {
+		long startTime = System.nanoTime();
+		Map<Long, AcceptedBid> highestByTender = new HashMap<>();
+		Map<Long, Integer> countByTender = new HashMap<>();
+		for (PendingEntry entry : batch) {
+			highestByTender.merge(entry.getBid().getTenderId(), entry.getBid(),
+					(a, b) -> a.getBidPrice() >= b.getBidPrice() ? a : b);
+			countByTender.merge(entry.getBid().getTenderId(), 1, Integer::sum);
+		}
+		try {
+			transactionTemplate.executeWithoutResult(status -> {
+				Map<Long, BatchStats> statsByTender = statsOf(batch);
+				jdbcTemplate.batchUpdate(INSERT_BID, batch, batch.size(), (ps, entry) -> {
+					AcceptedBid bid = entry.getBid();
+					ps.setLong(1, bid.getTenderId());
+					ps.setLong(2, bid.getUserId());
+					ps.setLong(3, bid.getBidPrice());
+					ps.setTimestamp(4, Timestamp.valueOf(bid.getBidTime()));
+				});
+				for (AcceptedBid highest : highestByTender.values()) {
+					jdbcTemplate.update(RAISE_PRICE, highest.getBidPrice(), highest.getTenderId(), highest.getBidPrice());
+				}
+				statsByTender.forEach((tenderId, stats) -> namedJdbcTemplate.update(TenderBidStatsSql.RECORD_BIDS,
+						new MapSqlParameterSource("tenderId", tenderId).addValue("bidCount", stats.bidCount)
+								.addValue("topPrice", stats.topPrice).addValue("newBidders", stats.newBidders)
+								.addValue("lastBidTime", Timestamp.valueOf(stats.lastBidTime))));
+			});
+		} catch (RuntimeException e) {
+			log.error("Bid ledger flush failed. {} bids rejected: {}", batch.size(), e.getMessage(), e);
+			batch.forEach(entry -> entry.getCommitted().completeExceptionally(e));
+			return;
+		}
+		batch.forEach(entry -> entry.getCommitted().complete(entry.getBid()));
+		// 공고별 이벤트 하나에 배치 안의 입찰 수를 실어 보내 입찰 수를 세는 쪽이 덜 세지 않게 합니다.
+		highestByTender.values().forEach(bid -> changePublisher.publish(new TenderBidPlacedEvent(bid.getTenderId(),
+				bid.getCltrMnmtNo(), bid.getBidPrice(), countByTender.get(bid.getTenderId()))));
+		log.debug("Bid ledger flushed {} bids for {} tenders in {}us", batch.size(), highestByTender.size(),
+				(System.nanoTime() - startTime) / 1000);
+	}
+
+	// 공고별 배치 합계. 고유 입찰자는 배치 안의 (공고, 사용자) 쌍을 tender_bidders 에 한 번의 배치로 넣고,
+	// 행별 갱신 건수가 1 인(새로 들어간) 쌍만 셉니다. 드라이버가 건수 대신 SUCCESS_NO_INFO 를 돌려주면
+	// 새 입찰자를 구분할 수 없으므로 배치를 실패시킵니다. (MariaDB 는 useBulkStmts=false 로 행별 건수를 받음)
+	private Map<Long, BatchStats> statsOf(List<PendingEntry> batch) {
+		Map<Long, BatchStats> statsByTender = new HashMap<>();
+		Map<String, AcceptedBid> firstBidByBidder = new LinkedHashMap<>();
+		for (PendingEntry entry : batch) {
+			AcceptedBid bid = entry.getBid();
+			BatchStats stats = statsByTender.computeIfAbsent(bid.getTenderId(), id -> new BatchStats());
+			stats.bidCount++;
+			stats.topPrice = Math.max(stats.topPrice, bid.getBidPrice());
+			if (stats.lastBidTime == null || bid.getBidTime().isAfter(stats.lastBidTime)) {
+				stats.lastBidTime = bid.getBidTime();
+			}
+			firstBidByBidder.putIfAbsent(bid.getTenderId() + ":" + bid.getUserId(), bid);
+		}
+
+		List<AcceptedBid> bidders = new ArrayList<>(firstBidByBidder.values());
+		SqlParameterSource[] params = bidders.stream()
+				.map(bid -> new MapSqlParameterSource("tenderId", bid.getTenderId()).addValue("userId", bid.getUserId()))
+				.toArray(SqlParameterSource[]::new);
+		int[] counts = namedJdbcTemplate.batchUpdate(TenderBidStatsSql.ADD_BIDDER, params);
+		for (int i = 0; i < counts.length; i++) {
+			if (counts[i] == Statement.SUCCESS_NO_INFO) {
+				throw new IllegalStateException("JDBC 드라이버가 tender_bidders 배치의 행별 갱신 건수를 돌려주지 않았습니다. (useBulkStmts=false 필요)");
+			}
+			if (counts[i] > 0) {
+				statsByTender.get(bidders.get(i).getTenderId()).newBidders++;
+			}
+		}
+		return statsByTender;
+	}
+
+	private static class BatchStats {
+		private long bidCount;
+		private long topPrice;
+		private long newBidders;
+		private LocalDateTime lastBidTime;
+	}
+
+	@Getter
+	@AllArgsConstructor
+	private static class PendingEntry {
+		private final AcceptedBid bid;
+		private final CompletableFuture<AcceptedBid> committed;
+	}
+}
@@ -0,0 +1,125 @@
+package com.bid.bidding;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.bid.event.TenderBidPlacedEvent;
+import com.bid.event.TenderStatusChangedEvent;
+import com.bid.event.TenderSyncEvent;
+import com.bid.exception.BidRejectedException;
+import com.bid.repository.TenderRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.AllArgsConstructor;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 트랜잭션(또는 시퀀서)에 들어가기 전의 입찰 사전 검증.
+ * 공고별 입찰 기간/가격 스냅샷을 캐시해 두고, 기간 밖·최저가 미달·같은 입찰의 반복 제출을 DB 커넥션 없이 거절합니다.
+ * 가격은 오르기만 하므로 스냅샷 가격이 실제보다 낮을 수는 있어도 높을 수는 없고,
+ * 스냅샷으로 거절한 입찰은 실제 가격으로도 거절됩니다. 통과한 입찰의 최종 판단은 조건부 UPDATE(또는 시퀀서)가 합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class BidPreValidator {
+
+	private final TenderRepository tenderRepository;
+	private final MeterRegistry meterRegistry;
+
+	@Value("${bid.prevalidation.snapshot-max-size:10000}")
+	private long snapshotMaxSize;
+
+	@Value("${bid.prevalidation.snapshot-ttl:1m}")
+	private Duration snapshotTtl;
+
+	@Value("${bid.prevalidation.duplicate-window:10s}")
+	private Duration duplicateWindow;
+
+	private Cache<Long, Snapshot> snapshots;
+	private Cache<String, Boolean> recentBids; // tenderId:userId:bidPrice
+
+	@PostConstruct
+	void init() {
+		snapshots = Caffeine.newBuilder().maximumSize(snapshotMaxSize).expireAfterWrite(snapshotTtl).build();
+		recentBids = Caffeine.newBuilder().maximumSize(snapshotMaxSize * 10).expireAfterWrite(duplicateWindow).build();
+	}
+
+	// 거절하면 BidRejectedException. 통과한 입찰은 처리 결과와 상관없이 complete(...) 로 중복 표시를 정리해야 합니다.
+	public void validate(Long tenderId, Long userId, long bidPrice) {
+		Snapshot snapshot = snapshots.get(tenderId, id -> tenderRepository.findBidRuleById(id)
+				.map(rule -> new Snapshot(rule.getAnnouncementDate(), rule.getDeadline(), rule.getMinBidPrice(),
+						rule.getInitialOpenPriceFrom()))
+				.orElse(null));
+		try {
+			if (snapshot == null) {
+				throw new BidRejectedException("not_found", "존재하지 않는 입찰 공고입니다.");
+			}
+			BidRules.check(snapshot.announcementDate, snapshot.deadline, snapshot.minBidPrice, snapshot.initialOpenPriceFrom,
+					bidPrice, LocalDateTime.now());
+			// 같은 사용자가 같은 공고에 같은 가격을 처리 중이거나 방금 낸 경우 (더블 클릭/재전송)
+			if (recentBids.asMap().putIfAbsent(duplicateKey(tenderId, userId, bidPrice), Boolean.TRUE) != null) {
+				throw new BidRejectedException("duplicate", "같은 입찰이 이미 처리 중이거나 방금 등록되었습니다.");
+			}
+		} catch (BidRejectedException e) {
+			recordRejection("prevalidation", e.getReason());
+			throw e;
+		}
+	}
+
+	// 수락되면 중복 표시를 남겨 두고, 실패하면 바로 다시 낼 수 있도록 지웁니다.
+	public void complete(Long tenderId, Long userId, long bidPrice, boolean accepted) {
+		if (!accepted) {
+			recentBids.invalidate(duplicateKey(tenderId, userId, bidPrice));
+		}
+	}
+
+	// 사전 검증을 통과했지만 커밋 단계에서 거절된 입찰 (동시 입찰에 밀린 경우 등)
+	public void recordRejection(String stage, String reason) {
+		meterRegistry.counter("bid.rejected", "stage", stage, "reason", reason).increment();
+	}
+
+	@EventListener
+	public void onBidPlaced(TenderBidPlacedEvent event) {
+		snapshots.asMap().computeIfPresent(event.getTenderId(), (id, snapshot) -> snapshot.raisedTo(event.getBidPrice()));
+	}
+
+	@EventListener
+	public void onTenderSync(TenderSyncEvent event) {
+		List<Long> changedIds = new ArrayList<>(event.getUpdatedIds());
+		changedIds.addAll(event.getDeactivatedIds());
+		snapshots.invalidateAll(changedIds);
+	}
+
+	@EventListener
+	public void onStatusChanged(TenderStatusChangedEvent event) {
+		snapshots.invalidateAll(event.getTenderIds());
+	}
+
+	private static String duplicateKey(Long tenderId, Long userId, long bidPrice) {
+		return tenderId + ":" + userId + ":" + bidPrice;
+	}
+
+	@AllArgsConstructor
+	private static class Snapshot {
+		private final LocalDateTime announcementDate;
+		private final LocalDateTime deadline;
+		private final Long minBidPrice;
+		private final Long initialOpenPriceFrom;
+
+		Snapshot raisedTo(Long bidPrice) {
+			if (bidPrice == null || (minBidPrice != null && minBidPrice >= bidPrice)) {
+				return this;
+			}
+			return new Snapshot(announcementDate, deadline, bidPrice, initialOpenPriceFrom);
+		}
+	}
+}
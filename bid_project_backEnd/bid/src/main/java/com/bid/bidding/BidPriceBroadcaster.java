@@ -0,0 +1,275 @@
+package com.bid.bidding;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.bid.dto.response.TenderPriceUpdateDTO;
+import com.bid.entity.TenderBidStats;
+import com.bid.event.TenderBidPlacedEvent;
+import com.bid.repository.TenderBidStatsRepository;
+import com.bid.repository.TenderRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 공고별 입찰가 SSE 구독 관리와 팬아웃.
+ * 입찰이 커밋되면(TenderBidPlacedEvent) 메시지를 한 번만 직렬화해서 그 공고의 모든 구독자 큐에 같은 객체로 넣고,
+ * 실제 쓰기는 작은 전송 풀이 구독자별로 순서대로 합니다. 이벤트를 발행한 스레드(입찰 요청/원장)는 소켓 쓰기를 기다리지 않습니다.
+ * 큐가 가득 찬 구독자는 따라오지 못하는 것으로 보고 연결을 끊습니다. (재연결하면 현재 가격부터 다시 받음)
+ * 채널은 DB 스냅샷을 읽기 전에 먼저 등록하므로 그 사이에 커밋된 입찰도 놓치지 않습니다.
+ * 입찰은 항상 직전 최고가보다 높게만 받아들여지므로, 스냅샷의 최고가(tender_bid_stats.top_price) 이하인 이벤트는 이미 스냅샷 입찰 수에 들어 있는 것으로 보고 세지 않습니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BidPriceBroadcaster {
+
+	private static final Set<DataWithMediaType> HEARTBEAT = SseEmitter.event().comment("heartbeat").build();
+
+	private final TenderRepository tenderRepository;
+	private final TenderBidStatsRepository bidStatsRepository;
+	private final ObjectMapper objectMapper;
+	private final MeterRegistry meterRegistry;
+
+	@Value("${bid.stream.max-subscribers:10000}")
+	private int maxSubscribers;
+
+	@Value("${bid.stream.queue-capacity:16}")
+	private int queueCapacity;
+
+	@Value("${bid.stream.timeout-ms:1800000}")
+	private long emitterTimeoutMs;
+
+	@Value("${bid.stream.sender-threads:4}")
+	private int senderThreads;
+
+	private final Map<Long, Channel> channels = new ConcurrentHashMap<>();
+	private final AtomicInteger subscriberCount = new AtomicInteger();
+	private ExecutorService sender;
+
+	@PostConstruct
+	void init() {
+		AtomicInteger threadNo = new AtomicInteger();
+		sender = Executors.newFixedThreadPool(senderThreads, runnable -> {
+			Thread thread = new Thread(runnable, "bid-stream-sender-" + threadNo.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+		Gauge.builder("bid.stream.subscribers", subscriberCount, AtomicInteger::get).register(meterRegistry);
+	}
+
+	@PreDestroy
+	void shutdown() throws InterruptedException {
+		channels.values().forEach(channel -> channel.subscribers.forEach(Subscriber::close));
+		sender.shutdown();
+		sender.awaitTermination(5, TimeUnit.SECONDS);
+	}
+
+	// 구독 직후 현재 가격/입찰 수를 한 번 보내고, 이후에는 입찰이 커밋될 때마다 보냅니다. 구독자가 너무 많으면 null
+	public SseEmitter subscribe(Long tenderId, String cltrMnmtNo) {
+		if (subscriberCount.incrementAndGet() > maxSubscribers) {
+			subscriberCount.decrementAndGet();
+			return null;
+		}
+		SseEmitter emitter = new SseEmitter(emitterTimeoutMs);
+		Subscriber subscriber = new Subscriber(emitter, queueCapacity);
+		subscriber.unsubscribe = () -> {
+			if (subscriber.closed.compareAndSet(false, true)) {
+				subscriberCount.decrementAndGet();
+				channels.computeIfPresent(tenderId, (id, existing) -> {
+					existing.subscribers.remove(subscriber);
+					return existing.subscribers.isEmpty() ? null : existing;
+				});
+			}
+		};
+		emitter.onCompletion(subscriber.unsubscribe);
+		emitter.onTimeout(subscriber.unsubscribe);
+		emitter.onError(error -> subscriber.unsubscribe.run());
+
+		// 채널을 먼저 등록하고(이후 커밋되는 입찰 이벤트는 채널에 쌓임), 첫 구독자면 맵 잠금 밖에서 현재 가격/입찰 수를 읽습니다.
+		Channel channel = channels.compute(tenderId, (id, existing) -> {
+			Channel target = existing != null ? existing : new Channel(cltrMnmtNo);
+			target.subscribers.add(subscriber);
+			return target;
+		});
+		if (channel.loadStarted.compareAndSet(false, true)) {
+			load(tenderId, channel);
+		}
+		synchronized (channel) {
+			// 아직 읽는 중이면 읽기가 끝날 때 모든 구독자에게 보냅니다.
+			if (channel.loaded) {
+				offer(subscriber, channel.latest);
+			}
+		}
+		return emitter;
+	}
+
+	// 커밋된 입찰 (직접 트랜잭션 경로와 시퀀서 원장 경로 모두). 구독자가 없는 공고는 아무것도 하지 않습니다.
+	@EventListener
+	public void onBidPlaced(TenderBidPlacedEvent event) {
+		Channel channel = channels.get(event.getTenderId());
+		if (channel == null) {
+			return;
+		}
+		Set<DataWithMediaType> message;
+		synchronized (channel) {
+			if (!channel.loaded) {
+				channel.pendingEvents.add(event); // 스냅샷을 읽은 뒤 반영
+				return;
+			}
+			apply(channel, event);
+			channel.latest = priceMessage(channel);
+			message = channel.latest;
+		}
+		channel.subscribers.forEach(subscriber -> offer(subscriber, message));
+	}
+
+	// 프록시/로드밸런서가 유휴 연결을 끊지 않도록, 끊긴 클라이언트를 빨리 발견하도록 주기적으로 주석 한 줄을 보냅니다.
+	@Scheduled(fixedDelayString = "${bid.stream.heartbeat-ms:15000}")
+	public void heartbeat() {
+		channels.values().forEach(channel -> channel.subscribers.forEach(subscriber -> offer(subscriber, HEARTBEAT)));
+	}
+
+	// 채널 등록 뒤에 읽으므로, 스냅샷에 빠진 입찰은 반드시 이벤트로 들어옵니다. 읽기에 실패하면 채널의 구독자를 모두 끊습니다.
+	private void load(Long tenderId, Channel channel) {
+		Long minBidPrice;
+		TenderBidStats stats;
+		try {
+			minBidPrice = tenderRepository.findMinBidPriceById(tenderId);
+			stats = bidStatsRepository.findById(tenderId).orElse(null);
+		} catch (RuntimeException e) {
+			channels.remove(tenderId, channel);
+			channel.subscribers.forEach(Subscriber::close);
+			throw e;
+		}
+		Set<DataWithMediaType> message;
+		synchronized (channel) {
+			channel.minBidPrice = minBidPrice;
+			channel.bidCount = stats != null ? stats.getBidCount() : 0L;
+			channel.snapshotTopPrice = stats != null ? stats.getTopPrice() : null;
+			channel.pendingEvents.forEach(event -> apply(channel, event));
+			channel.pendingEvents.clear();
+			channel.loaded = true;
+			channel.latest = priceMessage(channel);
+			message = channel.latest;
+		}
+		channel.subscribers.forEach(subscriber -> offer(subscriber, message));
+	}
+
+	// 채널 잠금 안에서 호출. 같은 공고의 이벤트가 순서 없이 와도 가격은 내려가지 않고, 배치 이벤트는 담긴 입찰 수만큼 셉니다.
+	private static void apply(Channel channel, TenderBidPlacedEvent event) {
+		if (channel.minBidPrice == null || event.getBidPrice() > channel.minBidPrice) {
+			channel.minBidPrice = event.getBidPrice();
+		}
+		if (channel.snapshotTopPrice == null || event.getBidPrice() > channel.snapshotTopPrice) {
+			channel.bidCount += event.getBidCount();
+		}
+	}
+
+	private Set<DataWithMediaType> priceMessage(Channel channel) {
+		LocalDateTime now = LocalDateTime.now();
+		try {
+			String json = objectMapper.writeValueAsString(
+					new TenderPriceUpdateDTO(channel.cltrMnmtNo, channel.minBidPrice, channel.bidCount, now));
+			return SseEmitter.event().name("price").data(json).build();
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("Failed to serialize price update", e);
+		}
+	}
+
+	private void offer(Subscriber subscriber, Set<DataWithMediaType> message) {
+		if (subscriber.closed.get()) {
+			return;
+		}
+		if (!subscriber.queue.offer(message)) {
+			log.debug("Dropping slow bid stream subscriber (queue full).");
+			meterRegistry.counter("bid.stream.dropped").increment();
+			subscriber.close();
+			return;
+		}
+		if (subscriber.draining.compareAndSet(false, true)) {
+			sender.execute(() -> drain(subscriber));
+		}
+	}
+
+	// 구독자 하나의 큐를 순서대로 비웁니다. 동시에 한 스레드만 (draining 플래그)
+	private void drain(Subscriber subscriber) {
+		while (true) {
+			Set<DataWithMediaType> message;
+			while ((message = subscriber.queue.poll()) != null) {
+				try {
+					subscriber.emitter.send(message);
+				} catch (IOException | IllegalStateException e) {
+					subscriber.close(); // 클라이언트가 끊었거나 이미 완료된 emitter
+					subscriber.queue.clear();
+					break;
+				}
+			}
+			subscriber.draining.set(false);
+			// 플래그를 내리는 사이에 들어온 메시지가 있으면 다시 맡습니다.
+			if (subscriber.queue.isEmpty() || !subscriber.draining.compareAndSet(false, true)) {
+				return;
+			}
+		}
+	}
+
+	private static class Channel {
+		private final String cltrMnmtNo;
+		private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+		private final AtomicBoolean loadStarted = new AtomicBoolean();
+		private final List<TenderBidPlacedEvent> pendingEvents = new ArrayList<>(); // 스냅샷을 읽는 동안 들어온 이벤트
+		private boolean loaded;
+		private Long minBidPrice;
+		private long bidCount;
+		private Long snapshotTopPrice; // 스냅샷 입찰 수에 이미 포함된 최고가
+		private volatile Set<DataWithMediaType> latest; // 새 구독자에게 처음 보낼 메시지
+
+		private Channel(String cltrMnmtNo) {
+			this.cltrMnmtNo = cltrMnmtNo;
+		}
+	}
+
+	private static class Subscriber {
+		private final SseEmitter emitter;
+		private final Queue<Set<DataWithMediaType>> queue;
+		private final AtomicBoolean draining = new AtomicBoolean();
+		private final AtomicBoolean closed = new AtomicBoolean();
+		private Runnable unsubscribe; // 구독자를 채널에 넣기 전에 정해 둠
+
+		private Subscriber(SseEmitter emitter, int queueCapacity) {
+			this.emitter = emitter;
+			this.queue = new ArrayBlockingQueue<>(queueCapacity);
+		}
+
+		private void close() {
+			unsubscribe.run();
+			emitter.complete();
+		}
+	}
+}
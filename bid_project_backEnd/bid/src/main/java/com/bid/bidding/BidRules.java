@@ -0,0 +1,31 @@
+package com.bid.bidding;
+
+import java.time.LocalDateTime;
+
+import com.bid.entity.TenderStatus;
+import com.bid.exception.BidRejectedException;
+
+// 입찰 수락 규칙 (입찰 기간 + 가격). 위반하면 사용자에게 보여 줄 메시지로 BidRejectedException
+public final class BidRules {
+
+	private BidRules() {
+	}
+
+	public static void check(LocalDateTime announcementDate, LocalDateTime deadline, Long minBidPrice,
+			Long initialOpenPriceFrom, long bidPrice, LocalDateTime now) {
+		TenderStatus currentStatus = TenderStatus.of(announcementDate, deadline, now);
+		if (currentStatus != TenderStatus.IN_PROGRESS) {
+			throw new BidRejectedException("not_in_window", "현재 " + currentStatus.getLabel() + "인 공고에는 입찰할 수 없습니다.");
+		}
+		if (minBidPrice == null || minBidPrice == 0L) {
+			if (bidPrice <= 0) {
+				throw new BidRejectedException("below_minimum", "입찰 가격은 0보다 커야 합니다.");
+			}
+			if (initialOpenPriceFrom != null && bidPrice < initialOpenPriceFrom) {
+				throw new BidRejectedException("below_minimum", "입찰 가격은 공고의 최초 최저 입찰가(" + initialOpenPriceFrom + ")보다 낮을 수 없습니다.");
+			}
+		} else if (bidPrice <= minBidPrice) {
+			throw new BidRejectedException("below_minimum", "입찰 가격은 현재 최저 입찰가(" + minBidPrice + ")보다 높아야 합니다.");
+		}
+	}
+}
@@ -0,0 +1,211 @@
+package com.bid.bidding;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.bid.dto.projection.TenderBidRuleView;
+import com.bid.event.TenderSyncEvent;
+import com.bid.repository.TenderRepository;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 공고별 단일 작성자 입찰 시퀀서 (bid.sequencer.enabled=true 일 때 BidService.placeBid 의 앞단).
+ * 공고를 id 로 샤드에 나누고 샤드마다 스레드 하나가 그 공고들의 현재 가격/입찰 규칙을 메모리에 들고 순서대로 판단합니다.
+ * 판단은 잠금도 DB 왕복도 없이 끝나고, 받아들인 입찰은 BidLedger 가 모아서 커밋한 뒤 응답합니다.
+ * 공고 상태는 샤드에 처음 들어올 때 DB 에서 읽으므로 재시작하면 커밋된 가격에서 다시 시작합니다.
+ * 한동안 입찰이 없고 원장에 커밋을 기다리는 입찰도 없는 공고의 상태는 주기적으로 내려 메모리가 공고 수만큼 늘지 않게 합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BidSequencer {
+
+	private final TenderRepository tenderRepository;
+	private final BidLedger bidLedger;
+
+	@Value("${bid.sequencer.enabled:false}")
+	private boolean enabled;
+
+	@Value("${bid.sequencer.shards:4}")
+	private int shardCount;
+
+	@Value("${bid.sequencer.idle-timeout:10m}")
+	private Duration idleTimeout;
+
+	private Shard[] shards;
+
+	@PostConstruct
+	void start() {
+		if (!enabled) {
+			return;
+		}
+		shards = new Shard[shardCount];
+		for (int i = 0; i < shardCount; i++) {
+			shards[i] = new Shard(i);
+		}
+		log.info("Bid sequencer started with {} shards.", shardCount);
+	}
+
+	@PreDestroy
+	void stop() throws InterruptedException {
+		if (shards == null) {
+			return;
+		}
+		for (Shard shard : shards) {
+			shard.executor.shutdown();
+		}
+		for (Shard shard : shards) {
+			shard.executor.awaitTermination(10, TimeUnit.SECONDS);
+		}
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	// 거절은 바로 예외로, 수락은 원장이 커밋한 뒤 완료됩니다.
+	public CompletableFuture<AcceptedBid> submit(Long tenderId, Long userId, long bidPrice) {
+		Shard shard = shardOf(tenderId);
+		CompletableFuture<AcceptedBid> result = new CompletableFuture<>();
+		shard.executor.execute(() -> {
+			try {
+				decide(shard, tenderId, userId, bidPrice, result);
+			} catch (RuntimeException e) {
+				result.completeExceptionally(e);
+			}
+		});
+		return result;
+	}
+
+	// 커밋 대기 중인 입찰이 있는 공고는 DB 가격이 아직 메모리보다 낮을 수 있으므로 내리지 않습니다.
+	@Scheduled(fixedDelayString = "${bid.sequencer.idle-sweep-ms:60000}")
+	public void evictIdle() {
+		if (shards == null) {
+			return;
+		}
+		for (Shard shard : shards) {
+			shard.executor.execute(() -> {
+				long idleBefore = System.nanoTime() - idleTimeout.toNanos();
+				int before = shard.states.size();
+				shard.states.values().removeIf(state -> state.inFlight == 0 && state.lastAccessNanos - idleBefore < 0);
+				if (before != shard.states.size()) {
+					log.debug("Bid sequencer evicted {} idle tender states.", before - shard.states.size());
+				}
+			});
+		}
+	}
+
+	// 동기화로 공고일/마감일/최초 최저 입찰가가 바뀌었을 수 있으므로 규칙만 다시 읽습니다. (현재 가격은 메모리 값 유지)
+	@EventListener
+	public void onTenderSync(TenderSyncEvent event) {
+		if (shards == null || event.isEmpty()) {
+			return;
+		}
+		List<Long> changedIds = new ArrayList<>(event.getUpdatedIds());
+		changedIds.addAll(event.getDeactivatedIds());
+		if (changedIds.isEmpty()) {
+			return;
+		}
+		for (TenderBidRuleView rule : tenderRepository.findBidRulesByIdIn(changedIds)) {
+			Shard shard = shardOf(rule.getId());
+			shard.executor.execute(() -> {
+				TenderBidState state = shard.states.get(rule.getId());
+				if (state != null) {
+					state.refreshRules(rule);
+				}
+			});
+		}
+	}
+
+	private void decide(Shard shard, Long tenderId, Long userId, long bidPrice, CompletableFuture<AcceptedBid> result) {
+		TenderBidState state = shard.states.get(tenderId);
+		if (state == null) {
+			// 샤드 스레드에서 한 번만 읽습니다. (이후 이 공고의 판단은 메모리에서)
+			TenderBidRuleView rule = tenderRepository.findBidRuleById(tenderId)
+					.orElseThrow(() -> new IllegalArgumentException("존재하지 않는 입찰 공고입니다."));
+			state = new TenderBidState(rule);
+			shard.states.put(tenderId, state);
+		}
+		state.lastAccessNanos = System.nanoTime();
+
+		LocalDateTime now = LocalDateTime.now();
+		try {
+			BidRules.check(state.announcementDate, state.deadline, state.minBidPrice, state.initialOpenPriceFrom, bidPrice, now);
+		} catch (IllegalArgumentException e) {
+			if (state.deadline != null && now.isAfter(state.deadline)) {
+				shard.states.remove(tenderId); // 마감된 공고는 더 들고 있을 필요가 없음
+			}
+			throw e;
+		}
+		state.minBidPrice = bidPrice;
+		state.inFlight++;
+
+		TenderBidState decided = state;
+		AcceptedBid accepted = new AcceptedBid(tenderId, state.plnmNo, state.cltrMnmtNo, userId, bidPrice, now);
+		bidLedger.append(accepted).whenComplete((committed, error) -> {
+			shard.executor.execute(() -> decided.inFlight--);
+			if (error == null) {
+				result.complete(committed);
+				return;
+			}
+			// 커밋되지 않은 가격을 들고 있지 않도록 이 공고 상태를 버리고 다음 입찰에서 DB 값으로 다시 시작합니다.
+			shard.executor.execute(() -> shard.states.remove(tenderId));
+			result.completeExceptionally(error);
+		});
+	}
+
+	private Shard shardOf(Long tenderId) {
+		return shards[Math.floorMod(tenderId.hashCode(), shards.length)];
+	}
+
+	// 샤드 스레드만 접근하므로 동기화가 필요 없습니다.
+	private static class Shard {
+		private final ExecutorService executor;
+		private final Map<Long, TenderBidState> states = new HashMap<>();
+
+		Shard(int index) {
+			this.executor = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "BidSequencer-" + index));
+		}
+	}
+
+	private static class TenderBidState {
+		private final Long plnmNo;
+		private final String cltrMnmtNo;
+		private Long minBidPrice;
+		private Long initialOpenPriceFrom;
+		private LocalDateTime announcementDate;
+		private LocalDateTime deadline;
+		private long lastAccessNanos;
+		private int inFlight; // 원장에 넘겼지만 아직 커밋/실패가 정해지지 않은 입찰 수
+
+		TenderBidState(TenderBidRuleView rule) {
+			this.plnmNo = rule.getTenderId();
+			this.cltrMnmtNo = rule.getCltrMnmtNo();
+			this.minBidPrice = rule.getMinBidPrice();
+			refreshRules(rule);
+		}
+
+		void refreshRules(TenderBidRuleView rule) {
+			this.initialOpenPriceFrom = rule.getInitialOpenPriceFrom();
+			this.announcementDate = rule.getAnnouncementDate();
+			this.deadline = rule.getDeadline();
+		}
+	}
+}
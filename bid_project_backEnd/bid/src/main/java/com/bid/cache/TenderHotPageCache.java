@@ -0,0 +1,171 @@
+package com.bid.cache;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.bid.dto.projection.TenderFieldSet;
+import com.bid.dto.response.PagedTenderResponse;
+import com.bid.dto.response.PreSerializedTenderPage;
+import com.bid.event.TenderBidPlacedEvent;
+import com.bid.event.TenderStatusChangedEvent;
+import com.bid.event.TenderSyncEvent;
+import com.bid.service.TenderService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * GET /api/tenders 기본 목록(상태 필터 없음, fields=card, 10건)의 앞쪽 N 페이지를 JSON 바이트와 gzip 바이트로 미리 만들어 둡니다.
+ * 목록 순서는 동기화 커밋과 상태 전환 때만 바뀌므로 그때마다 새 세대를 통째로 만들어 참조 하나로 교체합니다.
+ * 변경 이벤트는 "다시 만들어야 함" 표시만 하고, 실제 재생성은 전용 스레드에서 합쳐서 한 번에 합니다. (입찰/동기화 경로를 붙잡지 않음)
+ * 재생성이 끝나기 전까지는 이전 세대를 제공하며, 페이지마다 세대 번호가 있어 ETag 는 실제로 내보내는 바이트와 함께 바뀝니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TenderHotPageCache {
+
+	public static final int PAGE_SIZE = 10; // 컨트롤러의 고정 numOfRows
+
+	private final TenderService tenderService;
+	private final ObjectMapper objectMapper;
+
+	@Value("${tender.list.hot-pages:5}")
+	private int hotPageCount;
+
+	private volatile Generation current; // 아직 만들지 않았으면 null
+	private final AtomicLong generationSequence = new AtomicLong();
+	private final AtomicBoolean rebuildPending = new AtomicBoolean();
+	private ExecutorService rebuilder;
+
+	@PostConstruct
+	void start() {
+		rebuilder = Executors.newSingleThreadExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "tender-hot-pages");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	@PreDestroy
+	void stop() {
+		rebuilder.shutdownNow();
+	}
+
+	// 1부터 시작하는 페이지 번호. 미리 만든 범위 밖이면 null
+	public HotPage getPage(int pageNo) {
+		Generation generation = current;
+		if (generation == null || pageNo < 1 || pageNo > generation.getPages().length) {
+			return null;
+		}
+		return generation.getPages()[pageNo - 1];
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void buildOnStartup() {
+		rebuild();
+	}
+
+	@EventListener
+	public void onTenderSync(TenderSyncEvent event) {
+		if (!event.isEmpty()) {
+			requestRebuild();
+		}
+	}
+
+	@EventListener
+	public void onStatusChanged(TenderStatusChangedEvent event) {
+		requestRebuild();
+	}
+
+	// 미리 만든 페이지에 올라 있는 공고의 최저 입찰가가 바뀐 경우에만 다시 만듭니다.
+	@EventListener
+	public void onBidPlaced(TenderBidPlacedEvent event) {
+		Generation generation = current;
+		if (generation != null && generation.getCltrMnmtNos().contains(event.getCltrMnmtNo())) {
+			requestRebuild();
+		}
+	}
+
+	// 이미 예약된 재생성이 시작되기 전에 들어온 요청은 그 재생성에 합쳐집니다.
+	// 표시는 재생성을 시작할 때 내리므로, 재생성 도중의 변경은 다음 재생성을 한 번 더 예약합니다.
+	private void requestRebuild() {
+		if (rebuildPending.compareAndSet(false, true)) {
+			rebuilder.execute(() -> {
+				rebuildPending.set(false);
+				rebuild();
+			});
+		}
+	}
+
+	public synchronized void rebuild() {
+		if (hotPageCount <= 0) {
+			return;
+		}
+		long startTime = System.currentTimeMillis();
+		try {
+			long sequence = generationSequence.incrementAndGet();
+			HotPage[] pages = new HotPage[hotPageCount];
+			Set<String> cltrMnmtNos = new HashSet<>();
+			for (int pageNo = 1; pageNo <= hotPageCount; pageNo++) {
+				PagedTenderResponse response = tenderService.getAllTenders(null, TenderFieldSet.CARD, pageNo, PAGE_SIZE);
+				response.getTenders().forEach(tender -> cltrMnmtNos.add(tender.getCltrMnmtNo()));
+				byte[] json = objectMapper.writeValueAsBytes(response);
+				pages[pageNo - 1] = new HotPage(sequence, response, json, gzip(json));
+			}
+			current = new Generation(LocalDateTime.now(), pages, cltrMnmtNos);
+			log.info("Tender hot list pages rebuilt in {}ms. Pages: {}", System.currentTimeMillis() - startTime, hotPageCount);
+		} catch (Exception e) {
+			// 새 세대를 만들지 못하면 이전 세대를 계속 제공합니다.
+			log.error("Failed to rebuild tender hot list pages: {}", e.getMessage(), e);
+		}
+	}
+
+	private static byte[] gzip(byte[] bytes) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 4 + 64);
+		try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+			gzip.write(bytes);
+		}
+		return out.toByteArray();
+	}
+
+	@Getter
+	@AllArgsConstructor
+	private static class Generation {
+		private final LocalDateTime builtAt;
+		private final HotPage[] pages;
+		private final Set<String> cltrMnmtNos; // 페이지에 올라 있는 공고
+	}
+
+	@Getter
+	@AllArgsConstructor
+	public static class HotPage {
+		private final long generation; // ETag 용 세대 번호
+		private final PagedTenderResponse page;
+		private final byte[] json;
+		private final byte[] gzipped;
+
+		// 응답 본문: 원래 페이지 필드 + 내보낼 바이트 (gzip 여부에 따라)
+		public PreSerializedTenderPage body(boolean gzip) {
+			return new PreSerializedTenderPage(page, gzip ? gzipped : json);
+		}
+	}
+}
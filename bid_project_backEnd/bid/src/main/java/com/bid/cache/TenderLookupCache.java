@@ -0,0 +1,211 @@
+package com.bid.cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import com.bid.dto.projection.TenderNaturalIdView;
+import com.bid.dto.response.TenderResponseDTO;
+import com.bid.entity.Tender;
+import com.bid.event.TenderBidPlacedEvent;
+import com.bid.event.TenderStatusChangedEvent;
+import com.bid.event.TenderSyncEvent;
+import com.bid.repository.TenderRepository;
+import com.bid.util.BloomFilter;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import jakarta.annotation.PostConstruct;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 물건관리번호(cltrMnmtNo)로 공고를 찾는 조회의 근거리 캐시.
+ * - 자연 키 → 내부 id (즐겨찾기 추가/삭제/여부 확인은 id 만 있으면 엔티티 참조로 충분)
+ * - 자연 키 → 상세 DTO (상세 페이지), 동기화 커밋/상태 전환 이벤트로 해당 공고만 무효화
+ * - 존재하는 모든 물건관리번호의 블룸 필터: 없는 번호를 찍어 보는 요청은 DB 까지 가지 않습니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TenderLookupCache {
+
+	private static final int LOAD_BATCH_SIZE = 10000;
+	private static final int CHANGE_BATCH_SIZE = 1000;
+
+	private final TenderRepository tenderRepository;
+
+	@Value("${tender.cache.detail.max-size:10000}")
+	private long detailMaxSize;
+
+	@Value("${tender.cache.detail.ttl:10m}")
+	private Duration detailTtl;
+
+	@Value("${tender.cache.natural-id.max-size:100000}")
+	private long naturalIdMaxSize;
+
+	@Value("${tender.cache.bloom.expected-insertions:1000000}")
+	private long bloomExpectedInsertions;
+
+	@Value("${tender.cache.bloom.fpp:0.01}")
+	private double bloomFalsePositiveRate;
+
+	private Cache<String, Long> idCache;
+	private Cache<String, CachedDetail> detailCache;
+	private final Map<Long, String> cachedDetailKeys = new ConcurrentHashMap<>(); // 상세 캐시에 올라 있는 공고 id → 물건관리번호
+	private volatile BloomFilter knownNaturalIds; // 적재 전에는 null (모든 조회를 DB 로)
+	private final List<String> pendingNaturalIds = new ArrayList<>(); // 적재 중 커밋된 신규 번호 (this 잠금)
+
+	@PostConstruct
+	void init() {
+		idCache = Caffeine.newBuilder().maximumSize(naturalIdMaxSize).build();
+		// 크기/만료로 밀려난 항목의 역색인은 같은 키 잠금 안에서 지웁니다. (명시적 무효화는 evictDetails 가 직접 지움)
+		detailCache = Caffeine.newBuilder().maximumSize(detailMaxSize).expireAfterWrite(detailTtl)
+				.<String, CachedDetail>evictionListener((no, cached, cause) -> {
+					if (cached != null) {
+						cachedDetailKeys.remove(cached.getTenderId(), no);
+					}
+				})
+				.build();
+	}
+
+	// 물건관리번호는 바뀌지 않고 비활성화된 공고도 행은 남으므로 id 매핑은 무효화할 필요가 없습니다.
+	public Optional<Long> findId(String cltrMnmtNo) {
+		if (isKnownMissing(cltrMnmtNo)) {
+			return Optional.empty();
+		}
+		return Optional.ofNullable(idCache.get(cltrMnmtNo,
+				key -> tenderRepository.findIdByCltrMnmtNo(key).orElse(null)));
+	}
+
+	public Optional<TenderResponseDTO> findDetail(String cltrMnmtNo) {
+		if (isKnownMissing(cltrMnmtNo)) {
+			return Optional.empty();
+		}
+		CachedDetail cached = detailCache.get(cltrMnmtNo, key -> tenderRepository.findByCltrMnmtNo(key)
+				.map(tender -> toCachedDetail(key, tender))
+				.orElse(null));
+		return Optional.ofNullable(cached).map(CachedDetail::getDetail);
+	}
+
+	// 여러 번호를 한 번에: 캐시에 없는 번호만 모아 IN 쿼리 한 번으로 채웁니다. 없는 번호는 결과 맵에 빠집니다.
+	public Map<String, TenderResponseDTO> findDetails(Collection<String> cltrMnmtNos) {
+		List<String> candidates = cltrMnmtNos.stream().filter(no -> !isKnownMissing(no)).distinct().toList();
+		if (candidates.isEmpty()) {
+			return Map.of();
+		}
+		Map<String, CachedDetail> cached = detailCache.getAll(candidates, missing -> {
+			Map<String, CachedDetail> loaded = new HashMap<>();
+			tenderRepository.findByCltrMnmtNoIn(missing).forEach(tender -> loaded.put(tender.getCltrMnmtNo(),
+					toCachedDetail(tender.getCltrMnmtNo(), tender)));
+			return loaded;
+		});
+		Map<String, TenderResponseDTO> details = new HashMap<>();
+		cached.forEach((no, detail) -> details.put(no, detail.getDetail()));
+		return details;
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void loadNaturalIds() {
+		long startTime = System.currentTimeMillis();
+		BloomFilter filter = new BloomFilter(bloomExpectedInsertions, bloomFalsePositiveRate);
+		long afterId = 0L;
+		int loaded = 0;
+		List<TenderNaturalIdView> batch;
+		do {
+			batch = tenderRepository.findNaturalIds(afterId, PageRequest.of(0, LOAD_BATCH_SIZE));
+			for (TenderNaturalIdView view : batch) {
+				filter.add(view.getCltrMnmtNo());
+				afterId = view.getId();
+			}
+			loaded += batch.size();
+		} while (batch.size() == LOAD_BATCH_SIZE);
+		// 키셋 스캔이 이미 지나간 구간에 커밋된 신규 번호는 스캔에 빠질 수 있으므로 적재 중 모아 둔 번호를 더한 뒤 공개
+		synchronized (this) {
+			pendingNaturalIds.forEach(filter::add);
+			pendingNaturalIds.clear();
+			knownNaturalIds = filter;
+		}
+		if (loaded > bloomExpectedInsertions) {
+			log.warn("Tender natural-id bloom filter is over capacity ({} > {}). False positives will rise.", loaded,
+					bloomExpectedInsertions);
+		}
+		log.info("Tender natural-id bloom filter loaded in {}ms. Keys: {}", System.currentTimeMillis() - startTime, loaded);
+	}
+
+	// 동기화 커밋 이후: 신규 번호는 블룸 필터에 추가(적재 전/중이면 적재 끝에 더하도록 보관), 변경/비활성화된 공고의 상세 캐시는 제거
+	@EventListener
+	public void onTenderSync(TenderSyncEvent event) {
+		List<Long> createdIds = event.getCreatedIds();
+		List<String> created = new ArrayList<>(createdIds.size());
+		for (int from = 0; from < createdIds.size(); from += CHANGE_BATCH_SIZE) {
+			tenderRepository.findNaturalIdsByIdIn(createdIds.subList(from, Math.min(from + CHANGE_BATCH_SIZE, createdIds.size())))
+					.forEach(view -> created.add(view.getCltrMnmtNo()));
+		}
+		if (!created.isEmpty()) {
+			synchronized (this) {
+				BloomFilter filter = knownNaturalIds;
+				if (filter != null) {
+					created.forEach(filter::add);
+				} else {
+					pendingNaturalIds.addAll(created);
+				}
+			}
+		}
+		List<Long> changedIds = new ArrayList<>(event.getUpdatedIds());
+		changedIds.addAll(event.getDeactivatedIds());
+		evictDetails(changedIds);
+	}
+
+	// 상세 DTO 에는 상태 라벨이 들어 있으므로 상태 전환도 무효화 대상
+	@EventListener
+	public void onStatusChanged(TenderStatusChangedEvent event) {
+		evictDetails(event.getTenderIds());
+	}
+
+	// 상세 DTO 의 최저 입찰가가 바뀜
+	@EventListener
+	public void onBidPlaced(TenderBidPlacedEvent event) {
+		evictDetails(List.of(event.getTenderId()));
+	}
+
+	private boolean isKnownMissing(String cltrMnmtNo) {
+		BloomFilter filter = knownNaturalIds;
+		return cltrMnmtNo == null || (filter != null && !filter.mightContain(cltrMnmtNo));
+	}
+
+	private CachedDetail toCachedDetail(String cltrMnmtNo, Tender tender) {
+		cachedDetailKeys.put(tender.getId(), cltrMnmtNo);
+		return new CachedDetail(tender.getId(), TenderResponseDTO.fromEntity(tender));
+	}
+
+	// 캐시 전체를 훑지 않고 역색인으로 해당 공고의 항목만 무효화
+	private void evictDetails(Collection<Long> tenderIds) {
+		for (Long tenderId : tenderIds) {
+			String cltrMnmtNo = cachedDetailKeys.remove(tenderId);
+			if (cltrMnmtNo != null) {
+				detailCache.invalidate(cltrMnmtNo);
+			}
+		}
+	}
+
+	@Getter
+	@AllArgsConstructor
+	private static class CachedDetail {
+		private final Long tenderId;
+		private final TenderResponseDTO detail;
+	}
+}
@@ -0,0 +1,44 @@
+package com.bid.config;
+
+import java.io.IOException;
+
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import com.bid.dto.response.PreSerializedTenderPage;
+
+// PreSerializedTenderPage 는 Jackson 대신 이 변환기가 미리 만든 바이트를 그대로 씁니다. (쓰기 전용)
+public class PreSerializedTenderPageConverter extends AbstractHttpMessageConverter<PreSerializedTenderPage> {
+
+	public PreSerializedTenderPageConverter() {
+		super(MediaType.APPLICATION_JSON);
+	}
+
+	@Override
+	protected boolean supports(Class<?> clazz) {
+		return PreSerializedTenderPage.class.isAssignableFrom(clazz);
+	}
+
+	@Override
+	protected boolean canRead(MediaType mediaType) {
+		return false;
+	}
+
+	@Override
+	protected PreSerializedTenderPage readInternal(Class<? extends PreSerializedTenderPage> clazz, HttpInputMessage inputMessage) {
+		throw new HttpMessageNotReadableException("PreSerializedTenderPage is write-only", inputMessage);
+	}
+
+	@Override
+	protected Long getContentLength(PreSerializedTenderPage page, MediaType contentType) {
+		return (long) page.getBody().length;
+	}
+
+	@Override
+	protected void writeInternal(PreSerializedTenderPage page, HttpOutputMessage outputMessage) throws IOException {
+		outputMessage.getBody().write(page.getBody());
+	}
+}
@@ -17,6 +17,7 @@ import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
 import com.bid.security.JwtAuthenticationFilter;
+import com.bid.security.RateLimitFilter;
 
 import lombok.RequiredArgsConstructor;
 
@@ -26,6 +27,7 @@ import lombok.RequiredArgsConstructor;
 public class SecurityConfig {
 
 	private final JwtAuthenticationFilter jwtAuthenticationFilter;
+	private final RateLimitFilter rateLimitFilter;
 
 	@Bean
 	public PasswordEncoder passwordEncoder() {
@@ -54,10 +56,15 @@ public class SecurityConfig {
 						.requestMatchers(HttpMethod.GET, "/api/tenders").permitAll()
 						.requestMatchers(HttpMethod.GET, "/api/tenders/search").permitAll()
 						.requestMatchers(HttpMethod.GET, "/api/tenders/{cltrMnmtNo}").permitAll()
+						.requestMatchers(HttpMethod.GET, "/api/tenders/{cltrMnmtNo}/bids").permitAll() // 입찰 내역 (입찰자 가림)
+						.requestMatchers(HttpMethod.GET, "/api/tenders/{cltrMnmtNo}/bids/stream").permitAll() // 입찰가 SSE
+						.requestMatchers(HttpMethod.POST, "/api/tenders/batch").permitAll() // 상세 조회의 일괄 버전
 						.requestMatchers("/api/login/**", "/api/signup/**").permitAll()
+						.requestMatchers("/api/admin/**").hasRole("ADMIN")
 						.requestMatchers("/api/favorites/**").authenticated().requestMatchers("/api/**").authenticated()
 						.anyRequest().authenticated())
-				.addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+				.addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+				.addFilterAfter(rateLimitFilter, JwtAuthenticationFilter.class); // 인증된 사용자 id 로 쓰기 요청 속도 제한
 
 		return http.build();
 	}
@@ -1,7 +1,10 @@
 package com.bid.config;
 
+import java.util.List;
+
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
@@ -20,4 +23,10 @@ public class WebConfig implements WebMvcConfigurer {
 				.maxAge(3600); // Preflight 요청 결과 캐싱 시간 (초)
 	}
 	
+	// 미리 직렬화한 목록 페이지는 Jackson 보다 먼저 골라지도록 맨 앞에 둡니다.
+	@Override
+	public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+		converters.add(0, new PreSerializedTenderPageConverter());
+	}
+	
 }
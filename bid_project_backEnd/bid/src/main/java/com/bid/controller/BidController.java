@@ -2,13 +2,20 @@ package com.bid.controller;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.bid.dto.request.BidRequestDTO;
+import com.bid.dto.request.ProxyBidRequestDTO;
 import com.bid.dto.response.BidResponseDTO;
+import com.bid.dto.response.ProxyBidResponseDTO;
+import com.bid.exception.BidPendingException;
 import com.bid.service.BidService;
 
 import jakarta.validation.Valid;
@@ -24,12 +31,21 @@ public class BidController {
 	private final BidService bidService;
 	
 	@PostMapping
-	public ResponseEntity<BidResponseDTO> placeBid(@Valid @RequestBody BidRequestDTO bidRequestDTO) {
+	public ResponseEntity<BidResponseDTO> placeBid(@Valid @RequestBody BidRequestDTO bidRequestDTO,
+			@RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
 		try {
 			log.info("입찰 요청 수신 : tenderId={}, bidPrice={}", bidRequestDTO.getTenderId(),bidRequestDTO.getBidPrice());
 			
-			BidResponseDTO response = bidService.placeBid(bidRequestDTO);
+			// 재전송(같은 Idempotency-Key)이면 처음 응답을 그대로 돌려줍니다.
+			BidResponseDTO response = bidService.placeBid(bidRequestDTO, idempotencyKey);
 			return ResponseEntity.status(HttpStatus.CREATED).body(response);
+		} catch (BidPendingException e) {
+			// 접수는 됐지만 커밋 응답이 늦는 경우: 202 로 알리고 클라이언트는 내 입찰 목록(/api/mypage/bids)에서 결과를 확인합니다.
+			log.warn("입찰 처리 대기 : tenderId={}, bidPrice={}", bidRequestDTO.getTenderId(), bidRequestDTO.getBidPrice());
+			return ResponseEntity.status(HttpStatus.ACCEPTED).body(BidResponseDTO.builder()
+					.bidPrice(bidRequestDTO.getBidPrice())
+					.message(e.getMessage())
+					.build());
 		} catch (IllegalArgumentException  e) {
 			log.error("입찰 실패 (잘못된 요청) : {}",e.getMessage());
 			return ResponseEntity.badRequest().body(BidResponseDTO.builder().message(e.getMessage()).build());
@@ -38,4 +54,30 @@ public class BidController {
 			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(BidResponseDTO.builder().message("입찰 처리 중 오류가 발생 했습니다.").build());
 		}
 	}
+	
+	// 자동 입찰 설정/변경: 최고가까지 시스템이 최소 단위로 대신 입찰합니다.
+	@PutMapping("/proxy")
+	public ResponseEntity<ProxyBidResponseDTO> setProxyBid(@Valid @RequestBody ProxyBidRequestDTO proxyBidRequestDTO) {
+		try {
+			log.info("자동 입찰 설정 요청 수신 : tenderId={}, maxPrice={}", proxyBidRequestDTO.getTenderId(), proxyBidRequestDTO.getMaxPrice());
+			
+			return ResponseEntity.ok(bidService.setProxyBid(proxyBidRequestDTO));
+		} catch (IllegalArgumentException e) {
+			log.error("자동 입찰 설정 실패 (잘못된 요청) : {}", e.getMessage());
+			return ResponseEntity.badRequest().body(ProxyBidResponseDTO.builder().message(e.getMessage()).build());
+		} catch (Exception e) {
+			log.error("자동 입찰 설정 중 서버 오류 발생 : {}", e.getMessage(), e);
+			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(ProxyBidResponseDTO.builder().message("자동 입찰 설정 중 오류가 발생 했습니다.").build());
+		}
+	}
+	
+	@DeleteMapping("/proxy/{tenderId}")
+	public ResponseEntity<Void> cancelProxyBid(@PathVariable("tenderId") Long tenderId) {
+		try {
+			return bidService.cancelProxyBid(tenderId) ? ResponseEntity.noContent().build() : ResponseEntity.notFound().build();
+		} catch (Exception e) {
+			log.error("자동 입찰 취소 중 서버 오류 발생 : {}", e.getMessage(), e);
+			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+		}
+	}
 }
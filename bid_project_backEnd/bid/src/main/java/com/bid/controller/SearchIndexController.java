@@ -0,0 +1,55 @@
+package com.bid.controller;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.bid.search.TenderSearchIndex;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// 공고 검색 인덱스 관리 (관리자 전용)
+@RestController
+@RequestMapping("/api/admin/search-index")
+@RequiredArgsConstructor
+@Slf4j
+public class SearchIndexController {
+
+	private final TenderSearchIndex tenderSearchIndex;
+
+	// 인덱스 상태 및 신선도 워터마크 (마지막으로 반영된 동기화 시각)
+	@GetMapping
+	public ResponseEntity<Map<String, Object>> getStatus() {
+		return ResponseEntity.ok(status());
+	}
+
+	// 전체 재색인
+	@PostMapping("/rebuild")
+	public ResponseEntity<Map<String, Object>> rebuild() {
+		try {
+			int indexed = tenderSearchIndex.rebuild();
+			log.info("Search index rebuild requested. Indexed: {}", indexed);
+			return ResponseEntity.ok(status());
+		} catch (IllegalStateException e) {
+			log.error("Search index rebuild failed: {}", e.getMessage());
+			Map<String, Object> response = status();
+			response.put("message", e.getMessage());
+			return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(response);
+		}
+	}
+
+	private Map<String, Object> status() {
+		Map<String, Object> response = new HashMap<>();
+		response.put("ready", tenderSearchIndex.isReady());
+		response.put("docCount", tenderSearchIndex.getDocCount());
+		response.put("watermark", tenderSearchIndex.getWatermark());
+		return response;
+	}
+}
@@ -2,20 +2,54 @@ package com.bid.controller;
 
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.TreeMap;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.bid.bidding.BidPriceBroadcaster;
+import com.bid.cache.TenderHotPageCache;
+import com.bid.cache.TenderHotPageCache.HotPage;
+import com.bid.cache.TenderLookupCache;
+import com.bid.dto.projection.TenderFieldSet;
+import com.bid.dto.request.TenderBatchRequestDTO;
+import com.bid.dto.request.TenderSearchCondition;
 import com.bid.dto.response.PagedTenderResponse;
+import com.bid.dto.response.TenderBatchItemDTO;
+import com.bid.dto.response.TenderBidHistoryResponse;
+import com.bid.dto.response.TenderChangeFeedResponse;
+import com.bid.dto.response.TenderFacetsResponse;
 import com.bid.dto.response.TenderResponseDTO;
+import com.bid.dto.response.TenderSuggestionDTO;
+import com.bid.entity.TenderStatus;
+import com.bid.event.TenderChangePublisher;
+import com.bid.exception.ChangeFeedExpiredException;
+import com.bid.exception.SearchRejectedException;
+import com.bid.exception.SearchTimeoutException;
+import com.bid.search.TenderIdCursor;
+import com.bid.service.TenderBidHistoryService;
+import com.bid.service.TenderChangeLogService;
+import com.bid.service.TenderExportService;
 import com.bid.service.TenderService;
 
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -27,25 +61,209 @@ import lombok.extern.slf4j.Slf4j;
 public class TenderController {
 
 	private final TenderService tenderService;
+	private final TenderHotPageCache tenderHotPageCache;
+	private final TenderChangePublisher changePublisher;
+	private final TenderChangeLogService tenderChangeLogService;
+	private final TenderExportService tenderExportService;
+	private final TenderLookupCache tenderLookupCache;
+	private final BidPriceBroadcaster bidPriceBroadcaster;
+	private final TenderBidHistoryService tenderBidHistoryService;
 	
 	@GetMapping
     public ResponseEntity<PagedTenderResponse> getAllTenders(
-            @RequestParam(name ="pageNo", defaultValue = "1") int pageNo) {    // ✅ numOfRows 파라미터 추가 (기본값 10)
+            @RequestParam(name ="pageNo", defaultValue = "1") int pageNo,    // ✅ numOfRows 파라미터 추가 (기본값 10)
+            @RequestParam(name = "status", required = false) TenderStatus status, // UPCOMING / IN_PROGRESS / CLOSED
+            @RequestParam(name = "fields", required = false) String fields, // card(기본) / summary / full
+            @RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            WebRequest webRequest, HttpServletResponse response) {
 		try {
+            TenderFieldSet fieldSet = TenderFieldSet.from(fields);
+
+            // ✅ 기본 목록의 앞쪽 페이지는 동기화 때 미리 직렬화/압축해 둔 바이트를 그대로 응답
+            HotPage hotPage = status == null && fieldSet == TenderFieldSet.CARD ? tenderHotPageCache.getPage(pageNo) : null;
+            if (hotPage != null) {
+                boolean gzip = acceptsGzip(acceptEncoding);
+                // 미리 만든 페이지의 세대로 ETag 를 만들어 내보내는 바이트와 함께 바뀌게 하고, gzip 응답은 바이트가 다르므로 구분
+                // 304 에도 Vary 가 붙도록 응답에 먼저 설정
+                response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+                String etag = changePublisher.etag("h" + hotPage.getGeneration(), requestKeyOf(webRequest, gzip ? "gzip" : ""));
+                if (webRequest.checkNotModified(etag)) {
+                    return notModified(etag);
+                }
+                return toHotPageResponse(hotPage, gzip);
+            }
+            String etag = changePublisher.listEtag(requestKeyOf(webRequest, ""));
+            if (webRequest.checkNotModified(etag)) {
+                return notModified(etag);
+            }
+
             // ✅ numOfRows는 고정값 10을 서비스로 전달
-            PagedTenderResponse tenders = tenderService.getAllTenders(pageNo, 10);
+            PagedTenderResponse tenders = tenderService.getAllTenders(status, fieldSet, pageNo, TenderHotPageCache.PAGE_SIZE);
             log.info("Successfully fetched all tenders. Total count: {}", tenders.getTotalCount());
             return ResponseEntity.ok(tenders);
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid fields parameter: {}", fields);
+            return ResponseEntity.badRequest().build();
+        }
+    }
+    
+    private static boolean acceptsGzip(String acceptEncoding) {
+        return acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip");
+    }
+    
+    // 본문은 PreSerializedTenderPage 라서 PreSerializedTenderPageConverter 가 미리 만든 바이트를 그대로 씁니다.
+    private ResponseEntity<PagedTenderResponse> toHotPageResponse(HotPage hotPage, boolean gzip) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            builder.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return builder.body(hotPage.body(gzip));
+    }
+    
+    private static <T> ResponseEntity<T> notModified(String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+    }
+    
+    // ETag 의 요청 키: 경로/파라미터(+ 변형). 세대(목록 / 공고별 / 미리 만든 페이지)가 그대로면 같은 요청의 응답도 그대로입니다.
+    // Last-Modified 는 초 단위라 같은 초 안의 변경을 구분하지 못하므로 쓰지 않고 ETag 로만 검증합니다.
+    private String requestKeyOf(WebRequest webRequest, String variant) {
+        StringBuilder key = new StringBuilder(webRequest.getDescription(false)).append('?');
+        new TreeMap<>(webRequest.getParameterMap())
+                .forEach((name, values) -> key.append(name).append('=').append(String.join(",", values)).append('&'));
+        return key.append(variant).toString();
+    }
+    
+    // 마감 임박 공고 (진행 중 + hours 시간 안에 마감)
+    @GetMapping("/closing-soon")
+    public ResponseEntity<PagedTenderResponse> getClosingSoonTenders(
+            @RequestParam(name = "hours", defaultValue = "24") int hours,
+            @RequestParam(name = "pageNo", defaultValue = "1") int pageNo,
+            @RequestParam(name = "numOfRows", defaultValue = "10") int numOfRows,
+            @RequestParam(name = "fields", required = false) String fields) {
+        try {
+            PagedTenderResponse tenders = tenderService.getClosingSoonTenders(hours, TenderFieldSet.from(fields), pageNo, numOfRows);
+            log.info("Successfully fetched closing-soon tenders. Total count: {}", tenders.getTotalCount());
+            return ResponseEntity.ok(tenders);
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid fields parameter: {}", fields);
+            return ResponseEntity.badRequest().build();
+        }
+    }
+    
+    // 동기화 세대 since 이후 신규/변경/비활성화된 공고 (미러 클라이언트용, 변경 id 키셋 페이지)
+    @GetMapping("/changes")
+    public ResponseEntity<TenderChangeFeedResponse> getTenderChanges(
+            @RequestParam(name = "since", defaultValue = "0") long since,
+            @RequestParam(name = "cursor", required = false) Long cursor,
+            @RequestParam(name = "limit", defaultValue = "500") int limit,
+            @RequestParam(name = "fields", required = false) String fields) { // 기본은 full (미러용 전체 필드)
+        try {
+            TenderFieldSet fieldSet = fields == null ? TenderFieldSet.FULL : TenderFieldSet.from(fields);
+            TenderChangeFeedResponse feed = tenderChangeLogService.getChanges(since, cursor, limit, fieldSet);
+            log.info("Fetched tender changes since generation {}. Changes: {}, hasMore: {}", since,
+                    feed.getChanges().size(), feed.isHasMore());
+            return ResponseEntity.ok(feed);
+        } catch (ChangeFeedExpiredException e) {
+            log.warn("Tender change feed expired for since={}: {}", since, e.getMessage());
+            return ResponseEntity.status(HttpStatus.GONE).build();
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid fields parameter: {}", fields);
+            return ResponseEntity.badRequest().build();
         } catch (Exception e) {
-            log.error("Error fetching all tenders: {}", e.getMessage(), e);
+            log.error("Error fetching tender changes: {}", e.getMessage(), e);
+            return ResponseEntity.status(500).build();
+        }
+    }
+    
+    // 상세 검색 결과 전체 내보내기 (검색과 같은 조건 파라미터, format=ndjson(기본)/csv). 페이지 없이 끝까지 스트리밍
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportTenders(
+            @RequestParam(name = "cltrNm", required = false) String cltrNm,
+            @RequestParam(name = "dpslMtdCd", required = false) String dpslMtdNm,
+            @RequestParam(name = "sido", required = false) String sido,
+            @RequestParam(name = "sgk", required = false) String sgk,
+            @RequestParam(name = "emd", required = false) String emd,
+            @RequestParam(name = "goodsPriceFrom", required = false) String goodsPriceFrom,
+            @RequestParam(name = "goodsPriceTo", required = false) String goodsPriceTo,
+            @RequestParam(name = "pbctBegnDtm", required = false) String pbctBegnDtm,
+            @RequestParam(name = "pbctClsDtm", required = false) String pbctClsDtm,
+            @RequestParam(name = "status", required = false) TenderStatus status,
+            @RequestParam(name = "format", required = false) String format) {
+        try {
+            TenderExportService.Format exportFormat = TenderExportService.Format.from(format);
+            TenderSearchCondition condition = tenderService.toSearchCondition(cltrNm, dpslMtdNm, sido, sgk, emd,
+                    goodsPriceFrom, goodsPriceTo, pbctBegnDtm, pbctClsDtm, status);
+            // 가드레일(키워드 길이) 거절은 응답을 시작하기 전에 400 으로, 대상 id 는 스트리밍하면서 커서로 한 페이지씩 읽습니다.
+            TenderIdCursor cursor = tenderService.openExportCursor(condition);
+            StreamingResponseBody body = out -> tenderExportService.export(cursor, exportFormat, out);
+            return ResponseEntity.ok()
+                    .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"tenders." + exportFormat.getExtension() + "\"")
+                    .body(body);
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid export format: {}", format);
+            return ResponseEntity.badRequest().build();
+        }
+    }
+    
+    // 물건명/처분방식/지역 자동완성 (초성 검색 지원, 예: q=ㅅㅇ)
+    @GetMapping("/suggest")
+    public ResponseEntity<List<TenderSuggestionDTO>> suggestTenders(
+            @RequestParam(name = "q") String query,
+            @RequestParam(name = "limit", defaultValue = "10") int limit) {
+        try {
+            return ResponseEntity.ok(tenderService.suggestTenders(query, limit));
+        } catch (Exception e) {
+            log.error("Error suggesting tenders for '{}': {}", query, e.getMessage(), e);
+            return ResponseEntity.status(500).build();
+        }
+    }
+    
+    // 처분방식 / 용도 대·중분류 / 시도 / 시군구 / 상태별 공고 수 (검색과 같은 조건 파라미터)
+    @GetMapping("/facets")
+    public ResponseEntity<TenderFacetsResponse> getTenderFacets(
+            @RequestParam(name = "cltrNm", required = false) String cltrNm,
+            @RequestParam(name = "dpslMtdCd", required = false) String dpslMtdNm,
+            @RequestParam(name = "sido", required = false) String sido,
+            @RequestParam(name = "sgk", required = false) String sgk,
+            @RequestParam(name = "emd", required = false) String emd,
+            @RequestParam(name = "goodsPriceFrom", required = false) String goodsPriceFrom,
+            @RequestParam(name = "goodsPriceTo", required = false) String goodsPriceTo,
+            @RequestParam(name = "pbctBegnDtm", required = false) String pbctBegnDtm,
+            @RequestParam(name = "pbctClsDtm", required = false) String pbctClsDtm,
+            @RequestParam(name = "status", required = false) TenderStatus status) {
+        return ResponseEntity.ok(tenderService.getFacets(cltrNm, dpslMtdNm, sido, sgk, emd,
+                goodsPriceFrom, goodsPriceTo, pbctBegnDtm, pbctClsDtm, status));
+    }
+    
+    // 여러 물건관리번호를 한 번에 조회 (최대 300건, 요청 순서대로, 없는 번호는 found=false)
+    @PostMapping("/batch")
+    public ResponseEntity<List<TenderBatchItemDTO>> getTendersBatch(@Valid @RequestBody TenderBatchRequestDTO request) {
+        try {
+            List<TenderBatchItemDTO> items = tenderService.getTenderDetails(request.getCltrMnmtNos());
+            log.info("Batch tender lookup: requested {}, found {}", items.size(),
+                    items.stream().filter(TenderBatchItemDTO::isFound).count());
+            return ResponseEntity.ok(items);
+        } catch (Exception e) {
+            log.error("Error in batch tender lookup: {}", e.getMessage(), e);
             return ResponseEntity.status(500).build();
         }
     }
     
     @GetMapping("/{cltrMnmtNo}")
-    public ResponseEntity<TenderResponseDTO> getTenderByTenderId(@PathVariable("cltrMnmtNo") String cltrMnmtNo) {
+    public ResponseEntity<TenderResponseDTO> getTenderByTenderId(@PathVariable("cltrMnmtNo") String cltrMnmtNo,
+            WebRequest webRequest) {
     	 log.info("✅ Controller: getTenderDetail 요청 시작, CLTR_MNMT_NO: {}", cltrMnmtNo);
          try {
+             // 없는 번호에 304 를 주지 않도록 존재(내부 id)부터 확인하고, 이 공고가 바뀐 세대로 ETag 를 만듭니다.
+             Long tenderId = tenderLookupCache.findId(cltrMnmtNo)
+                     .orElseThrow(() -> new NoSuchElementException("물건관리번호 " + cltrMnmtNo + "를 찾을 수 없습니다."));
+             String etag = changePublisher.tenderEtag(tenderId, requestKeyOf(webRequest, ""));
+             if (webRequest.checkNotModified(etag)) {
+                 return notModified(etag);
+             }
              // 서비스 메서드 호출
              TenderResponseDTO tenderDetail = tenderService.getTenderDetail(cltrMnmtNo); // ✅ cltrMnmtNo 전달
              log.info("✅ Controller: Tender detail fetched successfully for CLTR_MNMT_NO: {}", cltrMnmtNo);
@@ -59,6 +277,40 @@ public class TenderController {
          }
     }
     
+    // 공고 입찰 내역(최신순, 키셋 페이지) + 입찰 수/최고가/고유 입찰자/마지막 입찰 시각
+    @GetMapping("/{cltrMnmtNo}/bids")
+    public ResponseEntity<TenderBidHistoryResponse> getBidHistory(@PathVariable("cltrMnmtNo") String cltrMnmtNo,
+            @RequestParam(name = "cursor", required = false) Long cursor,
+            @RequestParam(name = "size", defaultValue = "20") int size) {
+        try {
+            return ResponseEntity.ok(tenderBidHistoryService.getHistory(cltrMnmtNo, cursor, size));
+        } catch (NoSuchElementException e) {
+            return ResponseEntity.notFound().build();
+        } catch (Exception e) {
+            log.error("Error fetching bid history for CLTR_MNMT_NO {}: {}", cltrMnmtNo, e.getMessage(), e);
+            return ResponseEntity.status(500).build();
+        }
+    }
+    
+    // 공고의 최저 입찰가/입찰 수를 SSE 로 받습니다. (상세 조회 폴링 대신) 연결 직후 현재 값, 이후 입찰이 커밋될 때마다 "price" 이벤트
+    @GetMapping(value = "/{cltrMnmtNo}/bids/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamBidPrice(@PathVariable("cltrMnmtNo") String cltrMnmtNo) {
+        try {
+            Long tenderId = tenderLookupCache.findId(cltrMnmtNo).orElse(null);
+            if (tenderId == null) {
+                return ResponseEntity.notFound().build();
+            }
+            SseEmitter emitter = bidPriceBroadcaster.subscribe(tenderId, cltrMnmtNo);
+            if (emitter == null) {
+                return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "5").build();
+            }
+            return ResponseEntity.ok().header("X-Accel-Buffering", "no").body(emitter); // 프록시 버퍼링 끄기
+        } catch (Exception e) {
+            log.error("Error opening bid price stream for CLTR_MNMT_NO {}: {}", cltrMnmtNo, e.getMessage(), e);
+            return ResponseEntity.status(500).build();
+        }
+    }
+    
     @GetMapping("/search")
     public ResponseEntity<PagedTenderResponse> searchTenders(
             @RequestParam(name = "cltrNm", required = false) String cltrNm,
@@ -72,23 +324,45 @@ public class TenderController {
             @RequestParam(name = "openPriceTo", required = false) String openPriceTo,   // 현재 DB 엔티티에 매핑되는 필드 없음 (향후 확장용)
             @RequestParam(name = "pbctBegnDtm", required = false) String pbctBegnDtm,   // String으로 받아서 서비스에서 파싱
             @RequestParam(name = "pbctClsDtm", required = false) String pbctClsDtm,    // String으로 받아서 서비스에서 파싱
+            @RequestParam(name = "status", required = false) TenderStatus status,     // UPCOMING / IN_PROGRESS / CLOSED
+            @RequestParam(name = "fields", required = false) String fields,           // card(기본) / summary / full
             @RequestParam(name = "pageNo", defaultValue = "1") int pageNo,
-            @RequestParam(name = "numOfRows", defaultValue = "10") int numOfRows) {
+            @RequestParam(name = "numOfRows", defaultValue = "10") int numOfRows,
+            WebRequest webRequest) {
 
         log.info("Request for search tenders with cltrNm: {}, dpslMtdCd: {}, pageNo: {}, numOfRows: {}",
                 cltrNm, dpslMtdNm, pageNo, numOfRows);
         try {
+            String etag = changePublisher.listEtag(requestKeyOf(webRequest, ""));
+            if (webRequest.checkNotModified(etag)) {
+                return notModified(etag);
+            }
             PagedTenderResponse tenders = tenderService.searchTenders(
                     cltrNm, dpslMtdNm, sido, sgk, emd,
                     goodsPriceFrom, goodsPriceTo, openPriceFrom, openPriceTo,
                     pbctBegnDtm, pbctClsDtm,
+                    status, TenderFieldSet.from(fields),
                     pageNo, numOfRows
             );
             log.info("Successfully fetched search tenders. Total count: {}", tenders.getTotalCount());
             return ResponseEntity.ok(tenders);
-        } catch (Exception e) {
-            log.error("Error searching tenders: {}", e.getMessage(), e);
-            return ResponseEntity.status(500).build();
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid fields parameter: {}", fields);
+            return ResponseEntity.badRequest().build();
         }
     }
+    
+    // 목록/마감 임박/검색/패싯/내보내기의 검색 가드레일 거절과 시간 예산 초과는 여기서 한 번에 응답으로 바꿉니다.
+    @ExceptionHandler(SearchRejectedException.class)
+    public ResponseEntity<Void> handleSearchRejected(SearchRejectedException e) {
+        log.warn("Tender query rejected ({}): {}", e.getReason(), e.getMessage());
+        return ResponseEntity.badRequest().build();
+    }
+    
+    // 시간 초과는 잠시 뒤 다시 시도하면 되는 일시적 거절이라 503 + Retry-After
+    @ExceptionHandler(SearchTimeoutException.class)
+    public ResponseEntity<Void> handleSearchTimeout(SearchTimeoutException e) {
+        log.warn("Tender query timed out: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "1").build();
+    }
 }
@@ -8,10 +8,14 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.bid.dto.request.UserEditRequestDTO;
+import com.bid.dto.response.PagedMyBidResponse;
 import com.bid.dto.response.UserProfileResponseDTO;
+import com.bid.security.CustomUserDetails;
+import com.bid.service.BidService;
 import com.bid.service.UserService;
 
 import lombok.RequiredArgsConstructor;
@@ -25,6 +29,7 @@ import lombok.extern.slf4j.Slf4j;
 public class UserController {
 
 	private final UserService userService;
+	private final BidService bidService;
 
 	// 현재 로그인한 사용자의 프로필 정보 조회
 	@GetMapping//("/profile")
@@ -39,6 +44,19 @@ public class UserController {
 		}
 	}
 
+	// 내 입찰 목록 (최신순): 공고 요약과 현재 선두/밀림 여부 포함
+	@GetMapping("/bids")
+	public ResponseEntity<PagedMyBidResponse> getMyBids(@AuthenticationPrincipal CustomUserDetails userDetails,
+			@RequestParam(name = "pageNo", defaultValue = "1") int pageNo,
+			@RequestParam(name = "numOfRows", defaultValue = "10") int numOfRows) {
+		try {
+			return ResponseEntity.ok(bidService.getMyBids(userDetails.getUserId(), pageNo, numOfRows));
+		} catch (Exception e) {
+			log.error("Error fetching bids for {}: {}", userDetails.getUsername(), e.getMessage(), e);
+			return ResponseEntity.status(500).build();
+		}
+	}
+
 	// 사용자 정보 수정 (이메일 등)
 	@PutMapping("/profile")
 	public ResponseEntity<UserProfileResponseDTO> updateUserInfo(@AuthenticationPrincipal UserDetails userDetails,
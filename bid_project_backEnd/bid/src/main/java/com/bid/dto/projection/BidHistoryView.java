@@ -0,0 +1,15 @@
+package com.bid.dto.projection;
+
+import java.time.LocalDateTime;
+
+// 공고 입찰 내역 한 줄
+public interface BidHistoryView {
+
+	Long getBidId();
+
+	Long getBidPrice();
+
+	LocalDateTime getBidTime();
+
+	String getUsername();
+}
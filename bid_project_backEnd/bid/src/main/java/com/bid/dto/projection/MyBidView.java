@@ -0,0 +1,29 @@
+package com.bid.dto.projection;
+
+import java.time.LocalDateTime;
+
+import com.bid.entity.TenderStatus;
+
+// 내 입찰 한 줄: 입찰 + 공고 요약 + 현재 최고가 여부 (bids ⋈ tenders 한 번)
+public interface MyBidView {
+
+	Long getBidId();
+
+	Long getBidPrice();
+
+	LocalDateTime getBidTime();
+
+	String getCltrMnmtNo();
+
+	String getTenderTitle();
+
+	LocalDateTime getAnnouncementDate();
+
+	LocalDateTime getDeadline();
+
+	TenderStatus getStatus();
+
+	Long getCurrentMinBidPrice();
+
+	Boolean getWinning();
+}
@@ -0,0 +1,21 @@
+package com.bid.dto.projection;
+
+import java.time.LocalDateTime;
+
+// 입찰 판단에 필요한 컬럼 (입찰 기간, 현재/최초 최저 입찰가)
+public interface TenderBidRuleView {
+
+	Long getId();
+
+	Long getTenderId();
+
+	String getCltrMnmtNo();
+
+	Long getMinBidPrice();
+
+	Long getInitialOpenPriceFrom();
+
+	LocalDateTime getAnnouncementDate();
+
+	LocalDateTime getDeadline();
+}
@@ -0,0 +1,33 @@
+package com.bid.dto.projection;
+
+import java.time.LocalDateTime;
+
+import com.bid.entity.TenderStatus;
+
+// 목록 카드용 프로젝션 (fields=card, 목록 기본값): 카드에 그리는 컬럼만 읽습니다.
+public interface TenderCardView {
+
+	Long getId();
+
+	String getCltrMnmtNo();
+
+	Long getPbctNo();
+
+	String getTenderTitle();
+
+	String getOrganization();
+
+	LocalDateTime getAnnouncementDate();
+
+	LocalDateTime getDeadline();
+
+	TenderStatus getStatus();
+
+	Long getMinBidPrice();
+
+	Long getApslAsesAvgAmt();
+
+	Long getInitialOpenPriceFrom();
+
+	Long getInitialOpenPriceTo();
+}
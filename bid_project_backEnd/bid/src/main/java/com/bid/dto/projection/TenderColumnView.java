@@ -0,0 +1,25 @@
+package com.bid.dto.projection;
+
+import java.time.LocalDateTime;
+
+// 컬럼형 검색 스냅샷 적재용 프로젝션 (필터/정렬에 쓰는 컬럼만, goodsName 등 본문 컬럼은 읽지 않음)
+public interface TenderColumnView {
+
+	Long getId();
+
+	LocalDateTime getAnnouncementDate();
+
+	LocalDateTime getDeadline();
+
+	String getOrganization();
+
+	String getCategoryFullName();
+
+	String getSido();
+
+	String getSgk();
+
+	String getEmd();
+
+	Long getApslAsesAvgAmt();
+}
@@ -0,0 +1,19 @@
+package com.bid.dto.projection;
+
+import com.bid.entity.TenderStatus;
+
+// 패싯 대체 경로용 GROUP BY 결과: 패싯 값 조합별 공고 수
+public interface TenderFacetGroupView {
+
+	String getOrganization();
+
+	String getCategoryFullName();
+
+	String getSido();
+
+	String getSgk();
+
+	TenderStatus getStatus();
+
+	Long getTenderCount();
+}
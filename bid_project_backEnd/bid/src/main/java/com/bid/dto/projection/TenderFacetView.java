@@ -0,0 +1,19 @@
+package com.bid.dto.projection;
+
+import com.bid.entity.TenderStatus;
+
+// 패싯 카운터 적재용 프로젝션 (패싯 값 컬럼만)
+public interface TenderFacetView {
+
+	Long getId();
+
+	String getOrganization();
+
+	String getCategoryFullName();
+
+	String getSido();
+
+	String getSgk();
+
+	TenderStatus getStatus();
+}
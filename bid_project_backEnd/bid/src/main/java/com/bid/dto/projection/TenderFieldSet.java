@@ -0,0 +1,41 @@
+package com.bid.dto.projection;
+
+import java.util.Locale;
+
+import com.bid.dto.response.TenderResponseDTO;
+import com.bid.entity.Tender;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 목록 API 의 fields= 파라미터. 각 값이 조회할 프로젝션 타입을 정하고, 결과 행을 응답 DTO 로 바꿉니다.
+@Getter
+@RequiredArgsConstructor
+public enum TenderFieldSet {
+
+	CARD(TenderCardView.class),       // 목록 기본값
+	SUMMARY(TenderSummaryView.class),
+	FULL(Tender.class);               // 엔티티 전체 (goodsName 포함)
+
+	private final Class<?> type;
+
+	// 대소문자 구분 없이 파싱, 비어 있으면 기본값(CARD). 알 수 없는 값은 IllegalArgumentException
+	public static TenderFieldSet from(String fields) {
+		if (fields == null || fields.isBlank()) {
+			return CARD;
+		}
+		return valueOf(fields.trim().toUpperCase(Locale.ROOT));
+	}
+
+	public TenderResponseDTO toDto(Object row) {
+		return switch (this) {
+		case CARD -> TenderResponseDTO.fromCard((TenderCardView) row);
+		case SUMMARY -> TenderResponseDTO.fromSummary((TenderSummaryView) row);
+		case FULL -> TenderResponseDTO.fromEntity((Tender) row);
+		};
+	}
+
+	public Long idOf(Object row) {
+		return this == FULL ? ((Tender) row).getId() : ((TenderCardView) row).getId();
+	}
+}
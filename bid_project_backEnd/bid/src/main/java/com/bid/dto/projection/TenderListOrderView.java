@@ -0,0 +1,9 @@
+package com.bid.dto.projection;
+
+// 검색 인덱스의 정렬 키 갱신용 프로젝션 (상태 전환으로 listOrder 부호가 바뀐 공고), 내보내기 DB 키셋 커서의 위치
+public interface TenderListOrderView {
+
+	Long getId();
+
+	Long getListOrder();
+}
@@ -0,0 +1,9 @@
+package com.bid.dto.projection;
+
+// 물건관리번호(자연 키) ↔ 내부 id
+public interface TenderNaturalIdView {
+
+	Long getId();
+
+	String getCltrMnmtNo();
+}
@@ -0,0 +1,17 @@
+package com.bid.dto.projection;
+
+import java.time.LocalDateTime;
+
+import com.bid.entity.TenderStatus;
+
+// 상태 스케줄러 적재용 프로젝션 (goodsName 등 무거운 컬럼은 읽지 않음)
+public interface TenderScheduleView {
+
+	Long getId();
+
+	LocalDateTime getAnnouncementDate();
+
+	LocalDateTime getDeadline();
+
+	TenderStatus getStatus();
+}
@@ -0,0 +1,19 @@
+package com.bid.dto.projection;
+
+// 자동완성 사전 적재용 프로젝션 (제목/처분방식/지역과 조회수만)
+public interface TenderSuggestView {
+
+	Long getId();
+
+	String getTenderTitle();
+
+	String getOrganization();
+
+	String getSido();
+
+	String getSgk();
+
+	String getEmd();
+
+	Long getInquiryCount();
+}
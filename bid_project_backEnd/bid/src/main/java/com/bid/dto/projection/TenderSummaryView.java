@@ -0,0 +1,19 @@
+package com.bid.dto.projection;
+
+// 목록 요약 프로젝션 (fields=summary): 카드 컬럼 + 분류/주소/식별 정보. goodsName(TEXT)만 뺀 전체
+public interface TenderSummaryView extends TenderCardView {
+
+	Long getTenderId();
+
+	String getCltrHstrNo();
+
+	String getBidNumber();
+
+	String getCategoryFullName();
+
+	String getAddress();
+
+	String getRoadAddress();
+
+	Long getInquiryCount();
+}
@@ -0,0 +1,21 @@
+package com.bid.dto.request;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 자동 입찰 설정/변경. 같은 공고에 다시 보내면 최고가를 바꿉니다.
+@Getter
+@Setter
+@NoArgsConstructor
+public class ProxyBidRequestDTO {
+
+	@NotNull(message = "입찰할 공고 ID는 필수입니다.")
+	private Long tenderId;
+
+	@NotNull(message = "자동 입찰 최고가는 필수입니다.")
+	@Min(value = 1, message = "자동 입찰 최고가는 1원 이상이어야 합니다.")
+	private Long maxPrice;
+}
@@ -0,0 +1,22 @@
+package com.bid.dto.request;
+
+import java.util.List;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 여러 공고 한 번에 조회 (즐겨찾기/최근 본 공고/비교 목록)
+@Getter
+@Setter
+@NoArgsConstructor
+public class TenderBatchRequestDTO {
+
+	public static final int MAX_SIZE = 300;
+
+	@NotEmpty(message = "조회할 물건관리번호가 없습니다.")
+	@Size(max = MAX_SIZE, message = "한 번에 최대 300건까지 조회할 수 있습니다.")
+	private List<String> cltrMnmtNos;
+}
@@ -0,0 +1,54 @@
+package com.bid.dto.request;
+
+import java.time.LocalDateTime;
+import java.util.Locale;
+
+import com.bid.entity.TenderStatus;
+
+import lombok.Builder;
+import lombok.Getter;
+
+// 상세 검색 조건 (컨트롤러 문자열 파라미터를 파싱한 결과). DB 쿼리와 검색 인덱스가 같은 조건을 공유합니다.
+@Getter
+@Builder
+public class TenderSearchCondition {
+
+	private final String cltrNm;        // 물건명 키워드
+	private final String organization;  // 처분방식명 (dpslMtdCd 파라미터)
+	private final String sido;
+	private final String sgk;
+	private final String emd;
+	private final Long minGoodsPrice;   // 감정가 하한
+	private final Long maxGoodsPrice;   // 감정가 상한
+	private final LocalDateTime announcementFrom; // 공고 시작일 >= (pbctBegnDtm)
+	private final LocalDateTime deadlineTo;       // 공고 마감일 <= (pbctClsDtm)
+	private final TenderStatus status;            // 공고 상태
+
+	public boolean hasKeyword() {
+		return cltrNm != null && !cltrNm.isBlank();
+	}
+
+	public boolean hasPriceRange() {
+		return minGoodsPrice != null || maxGoodsPrice != null;
+	}
+
+	public boolean hasAnyFilter() {
+		return hasKeyword() || hasText(organization) || hasText(sido) || hasText(sgk) || hasText(emd) || hasPriceRange()
+				|| announcementFrom != null || deadlineTo != null || status != null;
+	}
+
+	// 결과가 같은 조건은 같은 문자열이 되도록 정리한 키 (동시 요청 합치기용)
+	// 물건명은 DB(LOWER LIKE)와 인덱스 모두 대소문자를 구분하지 않으므로 소문자로 맞추고, 나머지는 값 그대로 씁니다.
+	public String normalizedKey() {
+		StringBuilder key = new StringBuilder();
+		for (Object value : new Object[] { cltrNm != null ? cltrNm.toLowerCase(Locale.ROOT) : null, organization, sido, sgk,
+				emd, minGoodsPrice, maxGoodsPrice, announcementFrom, deadlineTo, status }) {
+			key.append(value != null ? value : "\u0000").append('\u0001');
+		}
+		return key.toString();
+	}
+
+	private static boolean hasText(String value) {
+		return value != null && !value.isBlank();
+	}
+}
@@ -0,0 +1,17 @@
+package com.bid.dto.response;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 입찰 내역 항목. 입찰자는 아이디 앞부분만 보여 줍니다.
+@Getter
+@AllArgsConstructor
+public class BidHistoryItemDTO {
+
+	private Long bidId;
+	private Long bidPrice;
+	private LocalDateTime bidTime;
+	private String bidder;
+}
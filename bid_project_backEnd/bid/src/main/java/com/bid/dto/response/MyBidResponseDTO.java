@@ -0,0 +1,45 @@
+package com.bid.dto.response;
+
+import java.time.LocalDateTime;
+
+import com.bid.dto.projection.MyBidView;
+import com.bid.entity.TenderStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 마이페이지 내 입찰 항목. winning 은 이 입찰가가 공고의 현재 최고 입찰가인지 (아니면 더 높은 입찰에 밀린 것)
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MyBidResponseDTO {
+
+	private Long bidId;
+	private Long bidPrice;
+	private LocalDateTime bidTime;
+	private String cltrMnmtNo;
+	private String tenderTitle;
+	private LocalDateTime deadline;
+	private String status; // 상태 라벨 (진행중 등)
+	private Long currentMinBidPrice;
+	private boolean winning;
+
+	public static MyBidResponseDTO fromView(MyBidView view) {
+		TenderStatus status = view.getStatus() != null ? view.getStatus()
+				: TenderStatus.of(view.getAnnouncementDate(), view.getDeadline(), LocalDateTime.now());
+		return MyBidResponseDTO.builder()
+				.bidId(view.getBidId())
+				.bidPrice(view.getBidPrice())
+				.bidTime(view.getBidTime())
+				.cltrMnmtNo(view.getCltrMnmtNo())
+				.tenderTitle(view.getTenderTitle())
+				.deadline(view.getDeadline())
+				.status(status.getLabel())
+				.currentMinBidPrice(view.getCurrentMinBidPrice())
+				.winning(Boolean.TRUE.equals(view.getWinning()))
+				.build();
+	}
+}
@@ -0,0 +1,20 @@
+package com.bid.dto.response;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PagedMyBidResponse {
+
+	private List<MyBidResponseDTO> bids; // 현재 페이지의 내 입찰 (최신순)
+	private int totalCount;              // 내 전체 입찰 건수
+	private int pageNo;
+	private int numOfRows;
+}
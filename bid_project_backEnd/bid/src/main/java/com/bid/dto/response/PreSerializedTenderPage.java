@@ -0,0 +1,19 @@
+package com.bid.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import lombok.Getter;
+
+// 미리 직렬화(+gzip)해 둔 목록 페이지. 필드는 원래 응답과 같고, PreSerializedTenderPageConverter 가 다시 직렬화하지 않고 body 바이트를 그대로 씁니다.
+// 컨트롤러 반환 타입은 PagedTenderResponse 로 유지됩니다. (body 가 gzip 이면 Content-Encoding 은 컨트롤러가 붙임)
+@Getter
+public class PreSerializedTenderPage extends PagedTenderResponse {
+
+	@JsonIgnore
+	private final byte[] body;
+
+	public PreSerializedTenderPage(PagedTenderResponse page, byte[] body) {
+		super(page.getTenders(), page.getTotalCount(), page.getPageNo(), page.getNumOfRows());
+		this.body = body;
+	}
+}
@@ -0,0 +1,24 @@
+package com.bid.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 자동 입찰 설정 결과. 설정과 동시에 해소된 현재 최저 입찰가와 선두 여부를 같이 돌려줍니다.
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ProxyBidResponseDTO {
+
+	private Long tenderId;
+	private Long maxPrice;
+	private Boolean active;
+	private Boolean leading;
+	private Long updatedMinBidPrice;
+	private String message;
+}
@@ -0,0 +1,17 @@
+package com.bid.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 일괄 조회 결과 한 건 (요청 순서 그대로). 없는 번호는 found=false, tender 생략
+@Getter
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TenderBatchItemDTO {
+
+	private String cltrMnmtNo;
+	private boolean found;
+	private TenderResponseDTO tender;
+}
@@ -0,0 +1,22 @@
+package com.bid.dto.response;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 공고 입찰 내역 한 페이지(최신순) + 공고 전체 집계. hasMore 가 true 면 cursor=nextCursor 로 이어 받습니다.
+@Getter
+@AllArgsConstructor
+public class TenderBidHistoryResponse {
+
+	private String cltrMnmtNo;
+	private long bidCount;
+	private Long topPrice;
+	private long uniqueBidders;
+	private LocalDateTime lastBidTime;
+	private List<BidHistoryItemDTO> bids;
+	private Long nextCursor; // 마지막 항목의 bidId (이보다 오래된 입찰부터)
+	private boolean hasMore;
+}
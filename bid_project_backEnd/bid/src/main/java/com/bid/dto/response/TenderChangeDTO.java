@@ -0,0 +1,23 @@
+package com.bid.dto.response;
+
+import java.time.LocalDateTime;
+
+import com.bid.entity.TenderChangeType;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 변경 피드 항목. tender 는 요청한 fields 로 만든 현재 공고 데이터 (DEACTIVATED 는 null)
+@Getter
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TenderChangeDTO {
+
+	private Long changeId;
+	private Long generation;
+	private TenderChangeType changeType;
+	private String cltrMnmtNo;
+	private LocalDateTime changedAt;
+	private TenderResponseDTO tender;
+}
@@ -0,0 +1,18 @@
+package com.bid.dto.response;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 변경 피드 한 페이지. hasMore 가 false 가 될 때까지 cursor=nextCursor 로 이어 받고,
+// 마지막 페이지의 generation 을 다음 since 로 씁니다.
+@Getter
+@AllArgsConstructor
+public class TenderChangeFeedResponse {
+
+	private long generation;  // 이 페이지를 읽기 직전의 최신 동기화 세대
+	private List<TenderChangeDTO> changes;
+	private Long nextCursor;  // 마지막 항목의 changeId (항목이 없으면 요청한 cursor)
+	private boolean hasMore;
+}
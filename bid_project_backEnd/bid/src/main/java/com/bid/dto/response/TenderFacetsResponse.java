@@ -0,0 +1,15 @@
+package com.bid.dto.response;
+
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 패싯별 값 → 공고 수 (건수 내림차순). totalCount 는 조건에 맞는 전체 공고 수
+@Getter
+@AllArgsConstructor
+public class TenderFacetsResponse {
+
+	private long totalCount;
+	private Map<String, Map<String, Long>> facets;
+}
@@ -0,0 +1,17 @@
+package com.bid.dto.response;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 입찰가 실시간 알림 한 건 (SSE "price" 이벤트의 data)
+@Getter
+@AllArgsConstructor
+public class TenderPriceUpdateDTO {
+
+	private String cltrMnmtNo;
+	private Long minBidPrice;
+	private long bidCount;
+	private LocalDateTime updatedAt;
+}
@@ -0,0 +1,11 @@
+package com.bid.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.NoArgsConstructor;
+
+// 프로젝션(fields=card/summary) 응답 전용: 읽지 않은 필드는 null 대신 응답에서 생략 (full/상세 응답의 형태는 그대로)
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TenderProjectionResponseDTO extends TenderResponseDTO {
+}
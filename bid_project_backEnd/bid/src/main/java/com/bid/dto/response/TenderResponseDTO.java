@@ -3,6 +3,9 @@ package com.bid.dto.response;
 import java.time.LocalDateTime;
 
 import com.bid.entity.Tender;
+import com.bid.entity.TenderStatus;
+import com.bid.dto.projection.TenderCardView;
+import com.bid.dto.projection.TenderSummaryView;
 import com.fasterxml.jackson.annotation.JsonFormat;
 
 import lombok.AllArgsConstructor;
@@ -26,8 +29,12 @@ public class TenderResponseDTO {
 	private String organization; // 발주 기관
 	private String bidNumber; // 입찰 공고 번호
 	private String goodsName;
+	private String categoryFullName; // 용도명 (CTGR_FULL_NM)
+	private String address; // 지번주소 (LDNM_ADRS)
+	private String roadAddress; // 도로명주소 (NMRD_ADRS)
 	private Long minBidPrice; // MIN_BID_PRC (최저 입찰가)
 	private Long apslAsesAvgAmt;
+	private Long inquiryCount; // 조회수 (IQRY_CNT)
 	private Long openPriceFrom;
 	private Long openPriceTo;
 	
@@ -45,30 +52,56 @@ public class TenderResponseDTO {
 	// 엔티티를 DTO로 변환하는 정적 팩토리 메서드 (간단한 매퍼 역할)
 	public static TenderResponseDTO fromEntity(Tender tender) {
 		
-		LocalDateTime now = LocalDateTime.now();
+		TenderStatus status = statusOf(tender.getStatus(), tender.getAnnouncementDate(), tender.getDeadline());
 		
-		String status;
-		
-		if(tender.getAnnouncementDate() == null || tender.getDeadline() == null) {
-			status = "알 수 없음";
-		} else if (now.isBefore(tender.getAnnouncementDate())) {
-			status = "입찰 예정";
-		} else if (now.isAfter(tender.getDeadline())) {
-			status = "입찰 마감";
-		} else {
-			status = "입찰 진행 중";
-		}
 		return TenderResponseDTO.builder().tenderId(tender.getTenderId()).pbctNo(tender.getPbctNo())
 				.cltrHstrNo(tender.getCltrHstrNo()).cltrMnmtNo(tender.getCltrMnmtNo())
 				.tenderTitle(tender.getTenderTitle()).organization(tender.getOrganization())
 				.bidNumber(tender.getBidNumber()).announcementDate(tender.getAnnouncementDate())
 				.goodsName(tender.getGoodsName()).deadline(tender.getDeadline())
+				.categoryFullName(tender.getCategoryFullName())
+				.address(tender.getAddress()).roadAddress(tender.getRoadAddress())
+				.apslAsesAvgAmt(tender.getApslAsesAvgAmt())
+				.inquiryCount(tender.getInquiryCount())
 				.openPriceFrom(tender.getInitialOpenPriceFrom())
 				.openPriceTo(tender.getInitialOpenPriceTo())
 				.lastSyncedAt(tender.getLastSyncedAt())
                 .active(tender.isActive())
-                .status(status)
+                .status(status.getLabel())
 				.build();
 	}
 
+	// 목록 카드 프로젝션 → DTO (goodsName 등 읽지 않은 필드는 응답에서 생략)
+	public static TenderResponseDTO fromCard(TenderCardView view) {
+		TenderResponseDTO dto = new TenderProjectionResponseDTO();
+		dto.setPbctNo(view.getPbctNo());
+		dto.setCltrMnmtNo(view.getCltrMnmtNo());
+		dto.setTenderTitle(view.getTenderTitle());
+		dto.setOrganization(view.getOrganization());
+		dto.setAnnouncementDate(view.getAnnouncementDate());
+		dto.setDeadline(view.getDeadline());
+		dto.setMinBidPrice(view.getMinBidPrice());
+		dto.setApslAsesAvgAmt(view.getApslAsesAvgAmt());
+		dto.setOpenPriceFrom(view.getInitialOpenPriceFrom());
+		dto.setOpenPriceTo(view.getInitialOpenPriceTo());
+		dto.setStatus(statusOf(view.getStatus(), view.getAnnouncementDate(), view.getDeadline()).getLabel());
+		return dto;
+	}
+
+	public static TenderResponseDTO fromSummary(TenderSummaryView view) {
+		TenderResponseDTO dto = fromCard(view);
+		dto.setTenderId(view.getTenderId());
+		dto.setCltrHstrNo(view.getCltrHstrNo());
+		dto.setBidNumber(view.getBidNumber());
+		dto.setCategoryFullName(view.getCategoryFullName());
+		dto.setAddress(view.getAddress());
+		dto.setRoadAddress(view.getRoadAddress());
+		dto.setInquiryCount(view.getInquiryCount());
+		return dto;
+	}
+
+	// 저장된 상태를 우선 사용하고, 상태 컬럼이 채워지기 전 레코드만 즉석 계산합니다.
+	private static TenderStatus statusOf(TenderStatus stored, LocalDateTime announcementDate, LocalDateTime deadline) {
+		return stored != null ? stored : TenderStatus.of(announcementDate, deadline, LocalDateTime.now());
+	}
 }
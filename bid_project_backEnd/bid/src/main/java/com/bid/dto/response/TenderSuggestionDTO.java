@@ -0,0 +1,13 @@
+package com.bid.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 자동완성 후보 한 건 (type: TITLE 물건명 / ORGANIZATION 처분방식 / REGION 지역)
+@Getter
+@AllArgsConstructor
+public class TenderSuggestionDTO {
+
+	private String text;
+	private String type;
+}
@@ -10,7 +10,10 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "bids")
+@Table(name = "bids", indexes = {
+		@Index(name = "idx_bid_tender_user", columnList = "tender_id, user_id"), // 고유 입찰자 판단
+		@Index(name = "idx_bid_user_time", columnList = "user_id, bid_time")     // 마이페이지 내 입찰
+	})
 @Getter
 @Setter
 @Builder
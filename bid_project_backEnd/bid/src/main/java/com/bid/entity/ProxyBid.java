@@ -0,0 +1,47 @@
+package com.bid.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 자동 입찰 설정 (사용자당 공고 하나에 하나). 최고가를 넘는 입찰이 들어오면 최고가까지 최소 단위로 대신 입찰합니다.
+@Entity
+@Table(name = "proxy_bids", uniqueConstraints = {
+		@UniqueConstraint(name = "uk_proxy_bid_tender_user", columnNames = { "tender_id", "user_id" })
+	}, indexes = {
+		@Index(name = "idx_proxy_bid_ranking", columnList = "tender_id, active, max_price, created_at")
+	})
+@Getter
+@Setter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class ProxyBid {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "tender_id", nullable = false)
+	private Tender tender;
+
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "user_id", nullable = false)
+	private User user;
+
+	@Column(name = "max_price", nullable = false)
+	private Long maxPrice;
+
+	@Column(nullable = false)
+	private boolean active; // 최고가까지 다 써서 밀렸거나 취소하면 false
+
+	@Column(name = "created_at", nullable = false)
+	private LocalDateTime createdAt; // 같은 최고가끼리는 먼저 설정한 쪽이 이깁니다. (최고가를 바꾸면 다시 설정한 것으로 봄)
+}
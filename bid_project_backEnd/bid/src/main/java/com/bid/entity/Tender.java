@@ -1,8 +1,10 @@
 package com.bid.entity;
 
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 
 import com.bid.dto.response.TenderResponseDTO;
+import com.bid.util.AddressRegion;
 
 import jakarta.persistence.*;
 import lombok.*;
@@ -11,7 +13,12 @@ import lombok.*;
 @Entity
 @Table(name = "tenders", indexes = { // 인덱스 추가 (조회 성능 향상 및 unique 제약 조건)
 	    @Index(name = "idx_cltr_mnmt_no", columnList = "cltrMnmtNo", unique = true),
-	    @Index(name = "idx_announcement_date", columnList = "announcementDate") // 정렬을 위해 인덱스 추가
+	    @Index(name = "idx_announcement_date", columnList = "announcementDate"), // 정렬을 위해 인덱스 추가
+	    @Index(name = "idx_active_list_order", columnList = "active, listOrder"), // 목록 정렬 키 (진행 중 → 예정 순)
+	    @Index(name = "idx_active_status_list_order", columnList = "active, status, listOrder"), // 상태별 목록
+	    @Index(name = "idx_active_status_deadline", columnList = "active, status, deadline"), // 마감 임박 조회
+	    @Index(name = "idx_sido_sgk", columnList = "sido, sgk"), // 지역 검색
+	    @Index(name = "idx_status_settled", columnList = "status, settled") // 정산 복구 순회 (미정산 마감 공고만, id 순)
 	})
 @Getter @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED) // Lombok: 인자 없는 생성자 (JPA 필수)
@@ -33,8 +40,20 @@ public class Tender {
     private String bidNumber;    // 입찰 공고 번호 (BID_MNMT_NO)
     @Column(columnDefinition = "TEXT") // 설명이 길 수 있으므로 TEXT 타입 고려
     private String goodsName;    // 물건 상세 설명 (GOODS_NM)
+    private String categoryFullName; // 용도명 (CTGR_FULL_NM, 예: "토지 / 대지")
+    @Column(length = 1000)
+    private String address;      // 물건소재지 지번주소 (LDNM_ADRS)
+    @Column(length = 1000)
+    private String roadAddress;  // 물건소재지 도로명주소 (NMRD_ADRS)
+    @Column(length = 50)
+    private String sido;         // 지번주소에서 분리한 시도
+    @Column(length = 50)
+    private String sgk;          // 시군구
+    @Column(length = 50)
+    private String emd;          // 읍면동
     private Long minBidPrice; // MIN_BID_PRC (최저 입찰가)
     private Long apslAsesAvgAmt; // APSL_ASES_AVG_AMT (감정평가액)
+    private Long inquiryCount;   // 조회수 (IQRY_CNT) - 자동완성 인기도
     
     private LocalDateTime announcementDate; // 공고일 (PBCT_BEGN_DTM)
     private LocalDateTime deadline;       // 입찰 마감일 (PBCT_CLS_DTM)
@@ -46,8 +65,45 @@ public class Tender {
     private LocalDateTime lastSyncedAt; // 이 레코드가 온비드와 마지막으로 동기화된 시간
     private boolean active; // 현재 활성 상태인지 여부 (예: 기간 만료/삭제된 공고 처리)
 
+    // 목록 정렬 키: 시작된 공고는 -공고일(epoch 초), 예정 공고는 +공고일, 공고일 없음은 Long.MAX_VALUE
+    // 오름차순 한 번으로 "진행 중(최근 공고 먼저) → 예정(임박한 공고 먼저)" 순서가 되어 DB 인덱스로 페이지를 자를 수 있습니다.
+    private Long listOrder;
+
+    // 공고 상태 (타이밍 휠 스케줄러가 공고일/마감일 경계에서 일괄 전환)
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private TenderStatus status;
+
+    // 마감 정산 여부 (tender_settlements 행을 넣는 트랜잭션에서 같이 표시). 복구 순회가 정산된 공고를 다시 훑지 않게 합니다.
+    @Column(nullable = false, columnDefinition = "boolean default false")
+    private boolean settled;
+
+    public static long computeListOrder(LocalDateTime announcementDate, LocalDateTime now) {
+        if (announcementDate == null) {
+            return Long.MAX_VALUE;
+        }
+        long epochSecond = announcementDate.atZone(ZoneId.systemDefault()).toEpochSecond();
+        return announcementDate.isAfter(now) ? epochSecond : -epochSecond;
+    }
+
+    public void refreshListOrder(LocalDateTime now) {
+        this.listOrder = computeListOrder(this.announcementDate, now);
+    }
+
+    public void refreshRegion() {
+        AddressRegion region = AddressRegion.parse(this.address);
+        this.sido = region.getSido();
+        this.sgk = region.getSgk();
+        this.emd = region.getEmd();
+    }
+
+    public void refreshStatus(LocalDateTime now) {
+        this.status = TenderStatus.of(this.announcementDate, this.deadline, now);
+    }
+
     // TenderResponseDTO에서 Tender 엔티티로 변환하는 팩토리 메서드 (선택 사항, Mapper로 대체 가능)
     public static Tender fromDto(TenderResponseDTO dto) {
+        AddressRegion region = AddressRegion.parse(dto.getAddress());
         return Tender.builder()
                 .tenderId(dto.getTenderId())
                 .pbctNo(dto.getPbctNo())
@@ -57,14 +113,23 @@ public class Tender {
                 .organization(dto.getOrganization())
                 .bidNumber(dto.getBidNumber())
                 .goodsName(dto.getGoodsName())
+                .categoryFullName(dto.getCategoryFullName())
+                .address(dto.getAddress())
+                .roadAddress(dto.getRoadAddress())
+                .sido(region.getSido())
+                .sgk(region.getSgk())
+                .emd(region.getEmd())
                 .announcementDate(dto.getAnnouncementDate())
                 .deadline(dto.getDeadline())
                 .minBidPrice(dto.getMinBidPrice())   
                 .apslAsesAvgAmt(dto.getApslAsesAvgAmt())
+                .inquiryCount(dto.getInquiryCount())
                 .lastSyncedAt(LocalDateTime.now()) // 생성 시점 기록
                 .active(true) // 기본적으로 활성 상태로 생성
                 .initialOpenPriceFrom(dto.getOpenPriceFrom())
                 .initialOpenPriceTo(dto.getOpenPriceTo())
+                .listOrder(computeListOrder(dto.getAnnouncementDate(), LocalDateTime.now()))
+                .status(TenderStatus.of(dto.getAnnouncementDate(), dto.getDeadline(), LocalDateTime.now()))
                 .build();
     }
 }
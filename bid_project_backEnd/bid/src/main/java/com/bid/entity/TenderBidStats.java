@@ -0,0 +1,36 @@
+package com.bid.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 공고별 입찰 집계 요약 행. 입찰을 커밋하는 트랜잭션에서 같이 증가시키므로 읽을 때 bids 를 집계하지 않습니다.
+@Entity
+@Table(name = "tender_bid_stats")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class TenderBidStats {
+
+	@Id
+	@Column(name = "tender_id")
+	private Long tenderId; // Tender.id
+
+	@Column(name = "bid_count", nullable = false)
+	private long bidCount;
+
+	@Column(name = "top_price")
+	private Long topPrice;
+
+	@Column(name = "unique_bidders", nullable = false)
+	private long uniqueBidders;
+
+	@Column(name = "last_bid_time")
+	private LocalDateTime lastBidTime;
+}
@@ -0,0 +1,40 @@
+package com.bid.entity;
+
+import java.io.Serializable;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 공고에 입찰한 적 있는 사용자 (공고, 사용자) 한 쌍당 한 행. 고유 입찰자 집계는 이 행의 INSERT IGNORE 결과로 셉니다.
+// (기본 키 충돌로 판단하므로 동시 입찰에서도 같은 사용자를 두 번 세지 않음)
+@Entity
+@Table(name = "tender_bidders")
+@IdClass(TenderBidder.Key.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class TenderBidder {
+
+	@Id
+	@Column(name = "tender_id")
+	private Long tenderId; // Tender.id
+
+	@Id
+	@Column(name = "user_id")
+	private Long userId;
+
+	@Getter
+	@NoArgsConstructor
+	@AllArgsConstructor
+	@EqualsAndHashCode
+	public static class Key implements Serializable {
+		private static final long serialVersionUID = 1L;
+
+		private Long tenderId;
+		private Long userId;
+	}
+}
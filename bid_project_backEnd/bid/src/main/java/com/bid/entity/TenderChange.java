@@ -0,0 +1,39 @@
+package com.bid.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 동기화 변경 로그 한 줄. id 는 변경 피드의 키셋 커서로 쓰입니다. (세대 순서와 같은 방향으로 증가)
+@Entity
+@Table(name = "tender_changes", indexes = {
+		@Index(name = "idx_tender_change_generation", columnList = "generation")
+	})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class TenderChange {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Column(nullable = false)
+	private Long generation; // TenderSyncRun.id
+
+	@Column(nullable = false)
+	private Long tenderId;   // Tender.id (행은 비활성화돼도 남음)
+
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false, length = 20)
+	private TenderChangeType changeType;
+
+	@Column(nullable = false)
+	private LocalDateTime changedAt;
+}
@@ -0,0 +1,8 @@
+package com.bid.entity;
+
+// 변경 로그 항목 종류 (온비드 동기화 결과)
+public enum TenderChangeType {
+	CREATED,     // 새로 들어온 공고
+	UPDATED,     // 공고 내용 변경 또는 재활성화
+	DEACTIVATED  // 온비드 목록에서 빠진 공고
+}
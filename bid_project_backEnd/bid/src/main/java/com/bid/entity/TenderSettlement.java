@@ -0,0 +1,39 @@
+package com.bid.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 마감 정산 결과 (공고당 한 행). 입찰이 없었으면 낙찰 입찰/낙찰자/낙찰가가 비어 있습니다. (유찰)
+@Entity
+@Table(name = "tender_settlements")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class TenderSettlement {
+
+	@Id
+	@Column(name = "tender_id")
+	private Long tenderId; // Tender.id
+
+	@Column(name = "winning_bid_id")
+	private Long winningBidId;
+
+	@Column(name = "winner_user_id")
+	private Long winnerUserId;
+
+	@Column(name = "winning_price")
+	private Long winningPrice;
+
+	@Column(name = "bid_count", nullable = false)
+	private long bidCount;
+
+	@Column(name = "settled_at", nullable = false)
+	private LocalDateTime settledAt;
+}
@@ -0,0 +1,32 @@
+package com.bid.entity;
+
+import java.time.LocalDateTime;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum TenderStatus {
+
+	UPCOMING("입찰 예정"),
+	IN_PROGRESS("입찰 진행 중"),
+	CLOSED("입찰 마감"),
+	UNKNOWN("알 수 없음");
+
+	private final String label; // 화면에 노출되는 상태명
+
+	// 공고일/마감일 기준으로 특정 시점의 상태를 계산합니다. (저장된 status 컬럼과 입찰 가능 여부 판단에 공통 사용)
+	public static TenderStatus of(LocalDateTime announcementDate, LocalDateTime deadline, LocalDateTime now) {
+		if (announcementDate == null || deadline == null) {
+			return UNKNOWN;
+		}
+		if (now.isBefore(announcementDate)) {
+			return UPCOMING;
+		}
+		if (now.isAfter(deadline)) {
+			return CLOSED;
+		}
+		return IN_PROGRESS;
+	}
+}
@@ -0,0 +1,33 @@
+package com.bid.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 변경이 있었던 동기화 한 번. id 가 변경 피드의 동기화 세대 번호입니다.
+@Entity
+@Table(name = "tender_sync_runs")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class TenderSyncRun {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id; // 동기화 세대 (증가만 함)
+
+	@Column(nullable = false)
+	private LocalDateTime syncedAt;
+
+	private int createdCount;
+	private int updatedCount;
+	private int deactivatedCount;
+
+	private boolean changesPurged; // 보관 기간이 지나 이 세대의 변경 로그가 삭제됨
+}
@@ -0,0 +1,19 @@
+package com.bid.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 입찰이 커밋되어 공고의 현재 최저 입찰가(minBidPrice)가 바뀐 뒤 발행되는 이벤트
+@Getter
+@AllArgsConstructor
+public class TenderBidPlacedEvent {
+
+	private final Long tenderId;     // 내부 id
+	private final String cltrMnmtNo;
+	private final Long bidPrice;     // 이 이벤트에 묶인 입찰 중 최고가
+	private final int bidCount;      // 이 이벤트에 묶인 입찰 수 (원장은 배치의 공고별 입찰을 이벤트 하나로 발행)
+
+	public TenderBidPlacedEvent(Long tenderId, String cltrMnmtNo, Long bidPrice) {
+		this(tenderId, cltrMnmtNo, bidPrice, 1);
+	}
+}
@@ -0,0 +1,101 @@
+package com.bid.event;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 공고 데이터 변경 이벤트(동기화 / 상태 전환 / 입찰)를 발행하고 ETag 용 세대 번호를 올립니다.
+ * - 목록 세대: 어떤 공고든 바뀌면 올라갑니다. (목록/검색 응답)
+ * - 공고별 세대: 바뀐 공고의 id 가 속한 칸만 그 시점의 목록 세대로 올립니다. (상세 응답)
+ *   공고 수만큼 들고 있지 않도록 id 를 고정 개수의 칸에 나눠 담으므로, 같은 칸의 다른 공고 ETag 도 같이 바뀔 수 있습니다.
+ *   (불필요한 200 은 생겨도 잘못된 304 는 생기지 않음)
+ * 리스너(검색 인덱스, 캐시 등)는 동기로 실행되므로 세대는 모든 리스너가 반영을 끝낸 뒤에 올라가고,
+ * 세대로 만든 ETag 가 아직 갱신되지 않은 응답에 붙는 일이 없습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TenderChangePublisher {
+
+	private static final int TENDER_STRIPES = 4096;
+
+	private final ApplicationEventPublisher eventPublisher;
+
+	// 재시작하면 세대가 처음부터 다시 세어지므로 ETag 에 기동 시각을 같이 넣어 이전 기동의 값과 겹치지 않게 합니다.
+	private final String bootId = Long.toString(System.currentTimeMillis(), 36);
+	private final AtomicLong generation = new AtomicLong();
+	private final AtomicLongArray tenderGenerations = new AtomicLongArray(TENDER_STRIPES);
+
+	public void publish(Object event) {
+		eventPublisher.publishEvent(event);
+		long next = generation.incrementAndGet();
+		for (Long tenderId : changedTenderIds(event)) {
+			tenderGenerations.accumulateAndGet(stripeOf(tenderId), next, Math::max);
+		}
+	}
+
+	// 트랜잭션 안에서 호출하면 커밋된 뒤에 발행합니다. (롤백되면 발행하지 않음)
+	public void publishAfterCommit(Object event) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			publish(event);
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				publish(event);
+			}
+		});
+	}
+
+	public long getGeneration() {
+		return generation.get();
+	}
+
+	// 목록/검색: 목록 세대 + 요청 키(경로/파라미터)로 만든 강한 ETag
+	public String listEtag(String requestKey) {
+		return etag(Long.toString(generation.get()), requestKey);
+	}
+
+	// 공고 상세: 해당 공고가 마지막으로 바뀐 세대 + 요청 키
+	public String tenderEtag(Long tenderId, String requestKey) {
+		return etag("t" + tenderGenerations.get(stripeOf(tenderId)), requestKey);
+	}
+
+	// 호출자가 정한 버전(예: 미리 만든 페이지의 세대) + 요청 키
+	public String etag(String version, String requestKey) {
+		return "\"" + bootId + "-" + version + "-" + Integer.toHexString(requestKey.hashCode()) + "\"";
+	}
+
+	private static int stripeOf(Long tenderId) {
+		return (int) Math.floorMod(tenderId, (long) TENDER_STRIPES);
+	}
+
+	private static Collection<Long> changedTenderIds(Object event) {
+		if (event instanceof TenderSyncEvent sync) {
+			List<Long> ids = new ArrayList<>(sync.getCreatedIds());
+			ids.addAll(sync.getUpdatedIds());
+			ids.addAll(sync.getDeactivatedIds());
+			return ids;
+		}
+		if (event instanceof TenderStatusChangedEvent statusChanged) {
+			return statusChanged.getTenderIds();
+		}
+		if (event instanceof TenderBidPlacedEvent bidPlaced) {
+			return List.of(bidPlaced.getTenderId());
+		}
+		if (event instanceof TenderSettledEvent settled) {
+			return settled.getTenderIds();
+		}
+		return List.of();
+	}
+}
@@ -0,0 +1,14 @@
+package com.bid.event;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 마감 정산(낙찰 확정)이 커밋된 뒤 발행되는 이벤트. 결과는 tender_settlements 에 있습니다.
+@Getter
+@AllArgsConstructor
+public class TenderSettledEvent {
+
+	private final List<Long> tenderIds;
+}
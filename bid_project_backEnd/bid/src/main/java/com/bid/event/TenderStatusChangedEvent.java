@@ -0,0 +1,17 @@
+package com.bid.event;
+
+import java.util.List;
+
+import com.bid.entity.TenderStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 타이밍 휠이 공고 상태를 일괄 전환(커밋)한 뒤 발행되는 이벤트
+@Getter
+@AllArgsConstructor
+public class TenderStatusChangedEvent {
+
+	private final TenderStatus status; // 전환된 상태
+	private final List<Long> tenderIds;
+}
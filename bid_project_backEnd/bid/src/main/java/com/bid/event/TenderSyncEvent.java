@@ -0,0 +1,22 @@
+package com.bid.event;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 온비드 동기화 트랜잭션이 커밋된 뒤 발행되는 변경 집합 (신규/변경/비활성화된 Tender id)
+@Getter
+@AllArgsConstructor
+public class TenderSyncEvent {
+
+	private final List<Long> createdIds;
+	private final List<Long> updatedIds;
+	private final List<Long> deactivatedIds;
+	private final LocalDateTime syncedAt;
+
+	public boolean isEmpty() {
+		return createdIds.isEmpty() && updatedIds.isEmpty() && deactivatedIds.isEmpty();
+	}
+}
@@ -0,0 +1,21 @@
+package com.bid.exception;
+
+import java.util.concurrent.CompletableFuture;
+
+import com.bid.dto.response.BidResponseDTO;
+
+import lombok.Getter;
+
+// 시퀀서가 받아들인 입찰이 응답 대기 시간 안에 원장에 커밋되지 않음. 입찰은 취소되지 않고 나중에 커밋(또는 실패)되므로
+// 실패가 아니라 "접수됨, 처리 중"(202)으로 알리고, 결과는 result 로 이어 받을 수 있습니다. (내 입찰 목록에서도 확인 가능)
+@Getter
+public class BidPendingException extends RuntimeException {
+
+	private final CompletableFuture<BidResponseDTO> result;
+
+	public BidPendingException(String message, CompletableFuture<BidResponseDTO> result) {
+		super(message);
+		this.result = result;
+	}
+
+}
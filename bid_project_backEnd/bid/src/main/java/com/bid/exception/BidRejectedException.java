@@ -0,0 +1,16 @@
+package com.bid.exception;
+
+import lombok.Getter;
+
+// 입찰 거절 (기간 밖/가격 미달/중복 등). 기존 처리(400 + 메시지)와 맞도록 IllegalArgumentException 을 확장합니다.
+@Getter
+public class BidRejectedException extends IllegalArgumentException {
+
+	private final String reason; // 지표 태그 (not_found / not_in_window / below_minimum / outbid / duplicate)
+
+	public BidRejectedException(String reason, String message) {
+		super(message);
+		this.reason = reason;
+	}
+
+}
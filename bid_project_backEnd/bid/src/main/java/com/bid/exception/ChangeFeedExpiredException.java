@@ -0,0 +1,14 @@
+package com.bid.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+// 요청한 세대 이후의 변경 로그 일부가 보관 기간이 지나 삭제됨 → 클라이언트는 전체 목록으로 다시 맞춰야 합니다.
+@ResponseStatus(HttpStatus.GONE)
+public class ChangeFeedExpiredException extends RuntimeException {
+
+	public ChangeFeedExpiredException(String message) {
+		super(message);
+	}
+
+}
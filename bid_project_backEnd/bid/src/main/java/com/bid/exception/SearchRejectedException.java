@@ -0,0 +1,20 @@
+package com.bid.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+import lombok.Getter;
+
+// 검색 가드레일 위반 (너무 짧은 키워드, 너무 깊은 페이지 등). 실행하지 않고 바로 거절합니다.
+@Getter
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class SearchRejectedException extends RuntimeException {
+
+	private final String reason; // 지표 태그 (keyword_too_short / offset_too_deep / page_too_large)
+
+	public SearchRejectedException(String reason, String message) {
+		super(message);
+		this.reason = reason;
+	}
+
+}
@@ -0,0 +1,14 @@
+package com.bid.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+// 조회가 엔드포인트 시간 예산을 넘어 DB 문장이 취소됨
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class SearchTimeoutException extends RuntimeException {
+
+	public SearchTimeoutException(String message, Throwable cause) {
+		super(message, cause);
+	}
+
+}
@@ -1,13 +1,39 @@
 package com.bid.repository;
 
 import java.util.List;
+import java.util.Optional;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import com.bid.dto.projection.BidHistoryView;
+import com.bid.dto.projection.MyBidView;
 import com.bid.entity.Bid;
 import com.bid.entity.User;
 
 public interface BidRepository extends JpaRepository<Bid, Long> {
 
 	List<Bid> findByUser(User user);
+	
+	List<Bid> findByTender_Id(Long tenderId);
+	
+	// 입찰 내역 키셋 페이지 (최신순, beforeId 보다 오래된 것)
+	@Query("SELECT b.bidId AS bidId, b.bidPrice AS bidPrice, b.bidTime AS bidTime, u.username AS username " +
+	       "FROM Bid b JOIN b.user u WHERE b.tender.id = :tenderId AND b.bidId < :beforeId ORDER BY b.bidId DESC")
+	List<BidHistoryView> findHistory(@Param("tenderId") Long tenderId, @Param("beforeId") Long beforeId, Pageable pageable);
+	
+	// 내 입찰 (최신순) + 공고 요약 + 현재 최고가 여부를 한 번의 조인으로. 공고 가격은 올라가기만 하고 같은 가격의 입찰은 받지 않으므로
+	// 입찰가가 공고의 현재 최저 입찰가와 같으면 그 입찰이 선두입니다. idx_bid_user_time 으로 사용자 범위만 읽습니다.
+	@Query(value = "SELECT b.bidId AS bidId, b.bidPrice AS bidPrice, b.bidTime AS bidTime, t.cltrMnmtNo AS cltrMnmtNo, " +
+	               "t.tenderTitle AS tenderTitle, t.announcementDate AS announcementDate, t.deadline AS deadline, t.status AS status, " +
+	               "t.minBidPrice AS currentMinBidPrice, CASE WHEN b.bidPrice = t.minBidPrice THEN true ELSE false END AS winning " +
+	               "FROM Bid b JOIN b.tender t WHERE b.user.userId = :userId ORDER BY b.bidTime DESC, b.bidId DESC",
+	       countQuery = "SELECT COUNT(b) FROM Bid b WHERE b.user.userId = :userId")
+	Page<MyBidView> findMyBids(@Param("userId") Long userId, Pageable pageable);
+	
+	// 현재 최고 입찰 (자동 입찰 해소에서 현재 선두 사용자 판단)
+	Optional<Bid> findFirstByTender_IdOrderByBidPriceDescBidIdAsc(Long tenderId);
 }
@@ -0,0 +1,40 @@
+package com.bid.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.bid.entity.ProxyBid;
+
+public interface ProxyBidRepository extends JpaRepository<ProxyBid, Long> {
+
+	Optional<ProxyBid> findByTender_IdAndUser_UserId(Long tenderId, Long userId);
+
+	List<ProxyBid> findByTender_Id(Long tenderId);
+
+	// 현재 가격보다 높은 최고가를 가진 자동 입찰을 우선순위(최고가 내림차순, 먼저 설정한 순)로. 해소에는 앞의 두 건만 필요합니다.
+	@Query("SELECT p FROM ProxyBid p JOIN FETCH p.user WHERE p.tender.id = :tenderId AND p.active = true AND p.maxPrice > :price " +
+	       "ORDER BY p.maxPrice DESC, p.createdAt ASC, p.id ASC")
+	List<ProxyBid> findContenders(@Param("tenderId") Long tenderId, @Param("price") Long price, Pageable pageable);
+
+	// 최고가가 현재 가격 이하가 된 자동 입찰은 더 이상 입찰할 수 없음
+	@Modifying
+	@Query("UPDATE ProxyBid p SET p.active = false WHERE p.tender.id = :tenderId AND p.active = true AND p.maxPrice <= :price")
+	int deactivateExhausted(@Param("tenderId") Long tenderId, @Param("price") Long price);
+
+	// 마감 정산된 공고의 자동 입찰은 더 이상 쓰이지 않음
+	@Modifying
+	@Query("UPDATE ProxyBid p SET p.active = false WHERE p.tender.id IN :tenderIds AND p.active = true")
+	int deactivateByTenderIds(@Param("tenderIds") Collection<Long> tenderIds);
+
+	// 시퀀서 경로로 전환한 배포에서 남아 있던 자동 입찰 정리 (해소할 곳이 없음)
+	@Modifying
+	@Query("UPDATE ProxyBid p SET p.active = false WHERE p.active = true")
+	int deactivateAllActive();
+}
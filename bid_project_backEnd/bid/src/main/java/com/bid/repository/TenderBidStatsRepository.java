@@ -0,0 +1,28 @@
+package com.bid.repository;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.bid.entity.TenderBidStats;
+
+@Repository
+public interface TenderBidStatsRepository extends JpaRepository<TenderBidStats, Long> {
+
+	// 입찰 트랜잭션 안에서 집계 한 행을 증가 (없으면 생성). 행 잠금은 공고 가격 UPDATE 와 같은 순서로 커밋까지 유지됩니다.
+	@Modifying
+	@Query(value = TenderBidStatsSql.RECORD_BIDS, nativeQuery = true)
+	int recordBids(@Param("tenderId") Long tenderId, @Param("bidCount") long bidCount, @Param("topPrice") Long topPrice,
+			@Param("newBidders") long newBidders, @Param("lastBidTime") LocalDateTime lastBidTime);
+
+	// 요약 테이블이 생기기 전에 쌓인 입찰을 한 번 채웁니다. (기동 시, 테이블이 비어 있을 때만)
+	@Modifying
+	@Query(value = "INSERT INTO tender_bid_stats (tender_id, bid_count, top_price, unique_bidders, last_bid_time) " +
+	               "SELECT tender_id, COUNT(*), MAX(bid_price), COUNT(DISTINCT user_id), MAX(bid_time) FROM bids GROUP BY tender_id",
+	       nativeQuery = true)
+	int backfill();
+}
@@ -0,0 +1,20 @@
+package com.bid.repository;
+
+// 입찰 집계 쓰기 SQL. 입찰 한 건을 저장하는 트랜잭션(리포지토리 @Query)과 시퀀서 원장(BidLedger, NamedParameterJdbcTemplate)이
+// 같은 문장과 같은 이름의 파라미터를 씁니다.
+public final class TenderBidStatsSql {
+
+	// 1 이면 이 공고의 새 입찰자, 0 이면 이미 입찰한 사용자 (기본 키 충돌로 판단하므로 동시 커밋에서도 한 번만 셈)
+	public static final String ADD_BIDDER = "INSERT IGNORE INTO tender_bidders (tender_id, user_id) VALUES (:tenderId, :userId)";
+
+	// 집계 한 행을 증가 (없으면 생성). 가격/시각은 더 클 때만 바꿔 순서가 섞여도 내려가지 않습니다.
+	public static final String RECORD_BIDS = "INSERT INTO tender_bid_stats (tender_id, bid_count, top_price, unique_bidders, last_bid_time) " +
+			"VALUES (:tenderId, :bidCount, :topPrice, :newBidders, :lastBidTime) " +
+			"ON DUPLICATE KEY UPDATE bid_count = bid_count + VALUES(bid_count), " +
+			"top_price = GREATEST(COALESCE(top_price, 0), VALUES(top_price)), " +
+			"unique_bidders = unique_bidders + VALUES(unique_bidders), " +
+			"last_bid_time = GREATEST(COALESCE(last_bid_time, VALUES(last_bid_time)), VALUES(last_bid_time))";
+
+	private TenderBidStatsSql() {
+	}
+}
@@ -0,0 +1,35 @@
+package com.bid.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.bid.entity.TenderBidder;
+
+@Repository
+public interface TenderBidderRepository extends JpaRepository<TenderBidder, TenderBidder.Key> {
+
+	// 입찰 트랜잭션 안에서 호출. 1 이면 이 공고의 새 입찰자, 0 이면 이미 입찰한 사용자입니다.
+	// 같은 쌍을 동시에 넣으면 뒤쪽은 앞 트랜잭션이 끝날 때까지 기다렸다가 0 을 받습니다.
+	@Modifying
+	@Query(value = TenderBidStatsSql.ADD_BIDDER, nativeQuery = true)
+	int addBidder(@Param("tenderId") Long tenderId, @Param("userId") Long userId);
+
+	// 입찰자 테이블이 생기기 전에 쌓인 입찰을 한 번 채웁니다. (기동 시, 테이블이 비어 있을 때만)
+	@Modifying
+	@Query(value = "INSERT IGNORE INTO tender_bidders (tender_id, user_id) SELECT DISTINCT tender_id, user_id FROM bids", nativeQuery = true)
+	int backfill();
+
+	List<TenderBidder> findByTenderId(Long tenderId);
+
+	// 공고 정리용 (트랜잭션 밖에서도 호출 가능)
+	@Transactional
+	@Modifying
+	@Query("DELETE FROM TenderBidder b WHERE b.tenderId = :tenderId")
+	int deleteByTenderId(@Param("tenderId") Long tenderId);
+}
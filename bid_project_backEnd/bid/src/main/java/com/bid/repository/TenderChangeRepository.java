@@ -0,0 +1,24 @@
+package com.bid.repository;
+
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.bid.entity.TenderChange;
+
+@Repository
+public interface TenderChangeRepository extends JpaRepository<TenderChange, Long> {
+
+	// 변경 피드 키셋 페이지: since 세대 이후의 항목을 커서(변경 id) 다음부터 id 순으로
+	@Query("SELECT c FROM TenderChange c WHERE c.generation > :since AND c.id > :afterId ORDER BY c.id")
+	List<TenderChange> findChanges(@Param("since") Long since, @Param("afterId") Long afterId, Pageable pageable);
+
+	@Modifying
+	@Query("DELETE FROM TenderChange c WHERE c.generation <= :generation")
+	int deleteThrough(@Param("generation") Long generation);
+}
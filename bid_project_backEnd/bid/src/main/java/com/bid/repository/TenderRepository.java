@@ -1,17 +1,33 @@
 package com.bid.repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.bid.dto.projection.TenderBidRuleView;
+import com.bid.dto.projection.TenderCardView;
+import com.bid.dto.projection.TenderColumnView;
+import com.bid.dto.projection.TenderFacetGroupView;
+import com.bid.dto.projection.TenderFacetView;
+import com.bid.dto.projection.TenderListOrderView;
+import com.bid.dto.projection.TenderNaturalIdView;
+import com.bid.dto.projection.TenderScheduleView;
+import com.bid.dto.projection.TenderSuggestView;
+import com.bid.dto.projection.TenderSummaryView;
 import com.bid.entity.Tender;
+import com.bid.entity.TenderStatus;
+
+import jakarta.persistence.LockModeType;
 
 @Repository
 public interface TenderRepository extends JpaRepository<Tender, Long> {
@@ -23,25 +39,164 @@ public interface TenderRepository extends JpaRepository<Tender, Long> {
 	// cltrMnmtNo로 Tender를 찾는 메서드
     Optional<Tender> findByCltrMnmtNo(String cltrMnmtNo);
     
+    // 일괄 조회 (idx_cltr_mnmt_no IN 조회)
+    List<Tender> findByCltrMnmtNoIn(Collection<String> cltrMnmtNos);
+    
+    @Query("SELECT t.id FROM Tender t WHERE t.cltrMnmtNo = :cltrMnmtNo")
+    Optional<Long> findIdByCltrMnmtNo(@Param("cltrMnmtNo") String cltrMnmtNo);
+    
+    // 물건관리번호 블룸 필터 적재용 (비활성 공고 포함: 상세/즐겨찾기 조회는 active 를 보지 않음)
+    @Query("SELECT t.id AS id, t.cltrMnmtNo AS cltrMnmtNo FROM Tender t WHERE t.id > :afterId ORDER BY t.id")
+    List<TenderNaturalIdView> findNaturalIds(@Param("afterId") Long afterId, Pageable pageable);
+    
+    @Query("SELECT t.id AS id, t.cltrMnmtNo AS cltrMnmtNo FROM Tender t WHERE t.id IN :ids")
+    List<TenderNaturalIdView> findNaturalIdsByIdIn(@Param("ids") Collection<Long> ids);
+    
     // active 상태인 Tender들을 페이지네이션하여 조회
     Page<Tender> findByActiveTrue(Pageable pageable);
     
+    // 목록 조회 (동적 프로젝션: type 이 인터페이스 프로젝션이면 해당 컬럼만 SELECT)
+    <T> Page<T> findByActiveTrue(Pageable pageable, Class<T> type);
+    
+    // 검색 엔진(인덱스/스냅샷)이 고른 id 의 행을 프로젝션으로 조회
+    <T> List<T> findByIdIn(Collection<Long> ids, Class<T> type);
+    
     Optional<Tender> findByTenderId(Long tenderId);
     
- // ✅ 상세 검색을 위한 쿼리 메서드 (다양한 조합이 가능하도록)
-    // @Query 어노테이션을 사용하여 동적 쿼리를 작성합니다.
-    @Query("SELECT t FROM Tender t WHERE t.active = true " +
+    // 입찰가 원자적 갱신: "아직 내 가격보다 낮을 때만 올린다"를 한 문장으로 (동시 입찰의 lost update 방지)
+    // 첫 입찰(최저 입찰가 없음/0)은 최초 최저 입찰가 이상일 때만. 0 이면 다른 입찰이 먼저 더 높은 가격으로 올렸거나 조건 미달
+    @Modifying
+    @Query("UPDATE Tender t SET t.minBidPrice = :bidPrice WHERE t.id = :id AND (" +
+           "((t.minBidPrice IS NULL OR t.minBidPrice = 0) AND (t.initialOpenPriceFrom IS NULL OR t.initialOpenPriceFrom <= :bidPrice)) " +
+           "OR t.minBidPrice < :bidPrice)")
+    int raiseMinBidPrice(@Param("id") Long id, @Param("bidPrice") Long bidPrice);
+    
+    @Query("SELECT t.minBidPrice FROM Tender t WHERE t.id = :id")
+    Long findMinBidPriceById(@Param("id") Long id);
+    
+    // 입찰 없이 공고 가격을 기준으로 판단할 때 (자동 입찰 설정) 다른 입찰과 순서를 맞추기 위한 행 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM Tender t WHERE t.id = :id")
+    Optional<Tender> findByIdForUpdate(@Param("id") Long id);
+    
+    @Query("SELECT t.id AS id, t.tenderId AS tenderId, t.cltrMnmtNo AS cltrMnmtNo, t.minBidPrice AS minBidPrice, " +
+           "t.initialOpenPriceFrom AS initialOpenPriceFrom, t.announcementDate AS announcementDate, t.deadline AS deadline " +
+           "FROM Tender t WHERE t.id = :id")
+    Optional<TenderBidRuleView> findBidRuleById(@Param("id") Long id);
+    
+    @Query("SELECT t.id AS id, t.tenderId AS tenderId, t.cltrMnmtNo AS cltrMnmtNo, t.minBidPrice AS minBidPrice, " +
+           "t.initialOpenPriceFrom AS initialOpenPriceFrom, t.announcementDate AS announcementDate, t.deadline AS deadline " +
+           "FROM Tender t WHERE t.id IN :ids")
+    List<TenderBidRuleView> findBidRulesByIdIn(@Param("ids") Collection<Long> ids);
+    
+    // 공고 시작 시각이 지난 '예정' 정렬 키(+epoch)를 '진행 중' 구간(-epoch)으로 뒤집습니다. (idx_active_list_order 범위 조건)
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Tender t SET t.listOrder = -t.listOrder " +
+           "WHERE t.active = true AND t.listOrder > 0 AND t.listOrder <= :nowEpochSecond")
+    int flipStartedListOrder(@Param("nowEpochSecond") long nowEpochSecond);
+    
+    // 정렬 키가 아직 계산되지 않은 (컬럼 추가 이전) 레코드 보정용
+    List<Tender> findTop500ByActiveTrueAndListOrderIsNull();
+    
+    // 상태별 목록 / 마감 임박 목록 (idx_active_status_list_order, idx_active_status_deadline)
+    <T> Page<T> findByActiveTrueAndStatus(TenderStatus status, Pageable pageable, Class<T> type);
+    
+    <T> Page<T> findByActiveTrueAndStatusAndDeadlineBetween(TenderStatus status, LocalDateTime from, LocalDateTime to, Pageable pageable, Class<T> type);
+    
+    // 상태 스케줄러(타이밍 휠) 적재용: 아직 전환이 남은 공고의 경계 시각만 조회
+    @Query("SELECT t.id AS id, t.announcementDate AS announcementDate, t.deadline AS deadline, t.status AS status " +
+           "FROM Tender t WHERE t.active = true AND t.status IN :statuses")
+    List<TenderScheduleView> findSchedulesByStatusIn(@Param("statuses") Collection<TenderStatus> statuses);
+    
+    // 컬럼형 검색 스냅샷 적재용: 활성 공고의 필터/정렬 컬럼만 id 키셋으로 나눠 조회
+    @Query("SELECT t.id AS id, t.announcementDate AS announcementDate, t.deadline AS deadline, t.organization AS organization, " +
+           "t.categoryFullName AS categoryFullName, t.sido AS sido, t.sgk AS sgk, t.emd AS emd, t.apslAsesAvgAmt AS apslAsesAvgAmt " +
+           "FROM Tender t WHERE t.active = true AND t.id > :afterId ORDER BY t.id")
+    List<TenderColumnView> findColumnViews(@Param("afterId") Long afterId, Pageable pageable);
+    
+    // 패싯 카운터 적재용: 전체 적재는 id 키셋으로, 동기화 변경분은 id 목록으로 조회
+    @Query("SELECT t.id AS id, t.organization AS organization, t.categoryFullName AS categoryFullName, " +
+           "t.sido AS sido, t.sgk AS sgk, t.status AS status " +
+           "FROM Tender t WHERE t.active = true AND t.id > :afterId ORDER BY t.id")
+    List<TenderFacetView> findFacetViews(@Param("afterId") Long afterId, Pageable pageable);
+    
+    @Query("SELECT t.id AS id, t.organization AS organization, t.categoryFullName AS categoryFullName, " +
+           "t.sido AS sido, t.sgk AS sgk, t.status AS status " +
+           "FROM Tender t WHERE t.active = true AND t.id IN :ids")
+    List<TenderFacetView> findFacetViewsByIdIn(@Param("ids") Collection<Long> ids);
+    
+    // 자동완성 사전이 꺼져 있을 때의 물건명 접두어 조회
+    List<Tender> findTop20ByActiveTrueAndTenderTitleStartingWithOrderByInquiryCountDesc(String prefix);
+    
+    // 자동완성 사전 적재용: 활성 공고의 제목/처분방식/지역/조회수만 id 키셋으로 나눠 조회
+    @Query("SELECT t.id AS id, t.tenderTitle AS tenderTitle, t.organization AS organization, " +
+           "t.sido AS sido, t.sgk AS sgk, t.emd AS emd, t.inquiryCount AS inquiryCount " +
+           "FROM Tender t WHERE t.active = true AND t.id > :afterId ORDER BY t.id")
+    List<TenderSuggestView> findSuggestViews(@Param("afterId") Long afterId, Pageable pageable);
+    
+    // 타이밍 휠 일괄 전환 대상 확인: 휠 적재 이후 날짜가 바뀐 공고는 여기서 걸러집니다.
+    @Query("SELECT t.id FROM Tender t WHERE t.id IN :ids AND t.status = :from AND t.announcementDate <= :now")
+    List<Long> findStartableIds(@Param("ids") Collection<Long> ids, @Param("from") TenderStatus from,
+            @Param("now") LocalDateTime now);
+    
+    @Query("SELECT t.id FROM Tender t WHERE t.id IN :ids AND t.status <> :to AND t.deadline < :now")
+    List<Long> findClosableIds(@Param("ids") Collection<Long> ids, @Param("to") TenderStatus to,
+            @Param("now") LocalDateTime now);
+    
+    // 예정 → 진행 중 일괄 전환 (정렬 키도 진행 중 구간으로 이동)
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Tender t SET t.status = :status, t.listOrder = -ABS(t.listOrder) WHERE t.id IN :ids")
+    int markStarted(@Param("ids") Collection<Long> ids, @Param("status") TenderStatus status);
+    
+    @Query("SELECT t.id AS id, t.listOrder AS listOrder FROM Tender t WHERE t.id IN :ids")
+    List<TenderListOrderView> findListOrdersByIdIn(@Param("ids") Collection<Long> ids);
+    
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Tender t SET t.status = :status WHERE t.id IN :ids")
+    int updateStatus(@Param("ids") Collection<Long> ids, @Param("status") TenderStatus status);
+    
+    // 재적재 시 보정: 휠이 내려가 있던 동안 경계를 지난 공고(또는 상태 컬럼이 비어 있는 공고)를 집합 연산으로 맞춥니다.
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Tender t SET t.status = :closed WHERE t.active = true " +
+           "AND (t.status IS NULL OR t.status <> :closed) " +
+           "AND t.announcementDate IS NOT NULL AND t.deadline < :now")
+    int reconcileClosed(@Param("closed") TenderStatus closed, @Param("now") LocalDateTime now);
+    
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Tender t SET t.status = :inProgress, t.listOrder = -ABS(t.listOrder) WHERE t.active = true " +
+           "AND (t.status IS NULL OR t.status <> :inProgress) " +
+           "AND t.announcementDate <= :now AND t.deadline >= :now")
+    int reconcileInProgress(@Param("inProgress") TenderStatus inProgress, @Param("now") LocalDateTime now);
+    
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Tender t SET t.status = :upcoming WHERE t.active = true " +
+           "AND (t.status IS NULL OR t.status <> :upcoming) " +
+           "AND t.announcementDate > :now AND t.deadline IS NOT NULL")
+    int reconcileUpcoming(@Param("upcoming") TenderStatus upcoming, @Param("now") LocalDateTime now);
+    
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Tender t SET t.status = :unknown WHERE t.active = true " +
+           "AND (t.status IS NULL OR t.status <> :unknown) " +
+           "AND (t.announcementDate IS NULL OR t.deadline IS NULL)")
+    int reconcileUnknown(@Param("unknown") TenderStatus unknown);
+    
+    // 상세 검색 조건 (목록 조회와 패싯 대체 경로가 같은 조건을 씁니다)
+    String SEARCH_CONDITION = "WHERE t.active = true " +
            "AND (:cltrNm IS NULL OR LOWER(t.tenderTitle) LIKE LOWER(CONCAT('%', :cltrNm, '%'))) " + // 물건명 (부분 일치, 대소문자 무시)
            "AND (:dpslMtdNm IS NULL OR t.organization = :dpslMtdNm) " + // 처분방식명 (정확히 일치)
-           // 시도, 시군구, 읍면동은 일단 tenderTitle(물건명)에서 함께 검색하는 방식으로 단순화 (주소 필드가 없으므로)
-           // 나중에 Address 필드가 생기면 더욱 정교한 쿼리 가능
-           "AND (:sido IS NULL OR LOWER(t.tenderTitle) LIKE LOWER(CONCAT('%', :sido, '%'))) " + // 시도
-           "AND (:sgk IS NULL OR LOWER(t.tenderTitle) LIKE LOWER(CONCAT('%', :sgk, '%'))) " + // 시군구
-           "AND (:emd IS NULL OR LOWER(t.tenderTitle) LIKE LOWER(CONCAT('%', :emd, '%'))) " + // 읍면동
-           "AND (:minGoodsPrice IS NULL OR t.goodsName LIKE CONCAT('%총면적%', :minGoodsPrice, '%')) " + // 감정가 (goodsName에서 파싱 필요)
-           "AND (:maxGoodsPrice IS NULL OR t.goodsName LIKE CONCAT('%총면적%', :maxGoodsPrice, '%')) " + // 감정가
+           // 시도, 시군구, 읍면동은 지번주소에서 분리해 저장한 컬럼에서 부분 일치로 검색
+           "AND (:sido IS NULL OR t.sido LIKE CONCAT('%', :sido, '%')) " + // 시도
+           "AND (:sgk IS NULL OR t.sgk LIKE CONCAT('%', :sgk, '%')) " + // 시군구
+           "AND (:emd IS NULL OR t.emd LIKE CONCAT('%', :emd, '%')) " + // 읍면동
+           "AND (:minGoodsPrice IS NULL OR t.apslAsesAvgAmt >= :minGoodsPrice) " + // 감정가 하한
+           "AND (:maxGoodsPrice IS NULL OR t.apslAsesAvgAmt <= :maxGoodsPrice) " + // 감정가 상한
            "AND (:pbctBegnDtm IS NULL OR t.announcementDate >= :pbctBegnDtm) " + // 공고 시작일 범위
-           "AND (:pbctClsDtm IS NULL OR t.deadline <= :pbctClsDtm) ") // 공고 마감일 범위
+           "AND (:pbctClsDtm IS NULL OR t.deadline <= :pbctClsDtm) " + // 공고 마감일 범위
+           "AND (:status IS NULL OR t.status = :status) "; // 공고 상태
+    
+ // ✅ 상세 검색을 위한 쿼리 메서드 (다양한 조합이 가능하도록)
+    // @Query 어노테이션을 사용하여 동적 쿼리를 작성합니다.
+    @Query("SELECT t FROM Tender t " + SEARCH_CONDITION)
     Page<Tender> searchTendersByCriteria(
             @Param("cltrNm") String cltrNm,
             @Param("dpslMtdNm") String dpslMtdNm, // DTO에서는 dpslMtdCd였지만 엔티티에서는 organization에 저장됩니다.
@@ -52,5 +207,84 @@ public interface TenderRepository extends JpaRepository<Tender, Long> {
             @Param("maxGoodsPrice") Long maxGoodsPrice, // Long으로 변경
             @Param("pbctBegnDtm") LocalDateTime pbctBegnDtm,
             @Param("pbctClsDtm") LocalDateTime pbctClsDtm,
+            @Param("status") TenderStatus status,
             Pageable pageable);
+    
+    // 상세 검색의 카드/요약 프로젝션 (goodsName 을 읽지 않음)
+    @Query(value = "SELECT t.id AS id, t.cltrMnmtNo AS cltrMnmtNo, t.pbctNo AS pbctNo, t.tenderTitle AS tenderTitle, " +
+           "t.organization AS organization, t.announcementDate AS announcementDate, t.deadline AS deadline, t.status AS status, " +
+           "t.minBidPrice AS minBidPrice, t.apslAsesAvgAmt AS apslAsesAvgAmt, " +
+           "t.initialOpenPriceFrom AS initialOpenPriceFrom, t.initialOpenPriceTo AS initialOpenPriceTo " +
+           "FROM Tender t " + SEARCH_CONDITION,
+           countQuery = "SELECT COUNT(t) FROM Tender t " + SEARCH_CONDITION)
+    Page<TenderCardView> searchTenderCardsByCriteria(
+            @Param("cltrNm") String cltrNm,
+            @Param("dpslMtdNm") String dpslMtdNm,
+            @Param("sido") String sido,
+            @Param("sgk") String sgk,
+            @Param("emd") String emd,
+            @Param("minGoodsPrice") Long minGoodsPrice,
+            @Param("maxGoodsPrice") Long maxGoodsPrice,
+            @Param("pbctBegnDtm") LocalDateTime pbctBegnDtm,
+            @Param("pbctClsDtm") LocalDateTime pbctClsDtm,
+            @Param("status") TenderStatus status,
+            Pageable pageable);
+    
+    @Query(value = "SELECT t.id AS id, t.cltrMnmtNo AS cltrMnmtNo, t.pbctNo AS pbctNo, t.tenderTitle AS tenderTitle, " +
+           "t.organization AS organization, t.announcementDate AS announcementDate, t.deadline AS deadline, t.status AS status, " +
+           "t.minBidPrice AS minBidPrice, t.apslAsesAvgAmt AS apslAsesAvgAmt, " +
+           "t.initialOpenPriceFrom AS initialOpenPriceFrom, t.initialOpenPriceTo AS initialOpenPriceTo, " +
+           "t.tenderId AS tenderId, t.cltrHstrNo AS cltrHstrNo, t.bidNumber AS bidNumber, t.categoryFullName AS categoryFullName, " +
+           "t.address AS address, t.roadAddress AS roadAddress, t.inquiryCount AS inquiryCount " +
+           "FROM Tender t " + SEARCH_CONDITION,
+           countQuery = "SELECT COUNT(t) FROM Tender t " + SEARCH_CONDITION)
+    Page<TenderSummaryView> searchTenderSummariesByCriteria(
+            @Param("cltrNm") String cltrNm,
+            @Param("dpslMtdNm") String dpslMtdNm,
+            @Param("sido") String sido,
+            @Param("sgk") String sgk,
+            @Param("emd") String emd,
+            @Param("minGoodsPrice") Long minGoodsPrice,
+            @Param("maxGoodsPrice") Long maxGoodsPrice,
+            @Param("pbctBegnDtm") LocalDateTime pbctBegnDtm,
+            @Param("pbctClsDtm") LocalDateTime pbctClsDtm,
+            @Param("status") TenderStatus status,
+            Pageable pageable);
+    
+    // 내보내기 대체 경로(스냅샷/인덱스로 답할 수 없을 때): (listOrder, id) 키셋으로 목록 순서대로 한 페이지씩 id 만 읽습니다.
+    // 첫 페이지는 afterListOrder = Long.MIN_VALUE, afterId = 0. OFFSET 없이 idx_active_list_order 를 이어서 읽습니다.
+    @Query("SELECT t.id AS id, t.listOrder AS listOrder FROM Tender t " + SEARCH_CONDITION +
+           "AND (t.listOrder > :afterListOrder OR (t.listOrder = :afterListOrder AND t.id > :afterId)) " +
+           "ORDER BY t.listOrder, t.id")
+    List<TenderListOrderView> findIdPageByCriteria(
+            @Param("cltrNm") String cltrNm,
+            @Param("dpslMtdNm") String dpslMtdNm,
+            @Param("sido") String sido,
+            @Param("sgk") String sgk,
+            @Param("emd") String emd,
+            @Param("minGoodsPrice") Long minGoodsPrice,
+            @Param("maxGoodsPrice") Long maxGoodsPrice,
+            @Param("pbctBegnDtm") LocalDateTime pbctBegnDtm,
+            @Param("pbctClsDtm") LocalDateTime pbctClsDtm,
+            @Param("status") TenderStatus status,
+            @Param("afterListOrder") long afterListOrder,
+            @Param("afterId") long afterId,
+            Pageable pageable);
+    
+    // 패싯 대체 경로(스냅샷/인덱스로 답할 수 없을 때): 행을 읽어 오지 않고 패싯 값 조합별 건수만 DB 에서 셉니다.
+    // (용도 대·중분류는 전체 경로 조합별 건수를 서비스에서 접어 올립니다.)
+    @Query("SELECT t.organization AS organization, t.categoryFullName AS categoryFullName, t.sido AS sido, t.sgk AS sgk, " +
+           "t.status AS status, COUNT(t) AS tenderCount FROM Tender t " + SEARCH_CONDITION +
+           "GROUP BY t.organization, t.categoryFullName, t.sido, t.sgk, t.status")
+    List<TenderFacetGroupView> countFacetGroupsByCriteria(
+            @Param("cltrNm") String cltrNm,
+            @Param("dpslMtdNm") String dpslMtdNm,
+            @Param("sido") String sido,
+            @Param("sgk") String sgk,
+            @Param("emd") String emd,
+            @Param("minGoodsPrice") Long minGoodsPrice,
+            @Param("maxGoodsPrice") Long maxGoodsPrice,
+            @Param("pbctBegnDtm") LocalDateTime pbctBegnDtm,
+            @Param("pbctClsDtm") LocalDateTime pbctClsDtm,
+            @Param("status") TenderStatus status);
 }
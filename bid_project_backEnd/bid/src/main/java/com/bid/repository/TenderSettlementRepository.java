@@ -0,0 +1,48 @@
+package com.bid.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.bid.entity.TenderSettlement;
+import com.bid.entity.TenderStatus;
+
+@Repository
+public interface TenderSettlementRepository extends JpaRepository<TenderSettlement, Long> {
+
+	// 마감이 지났고 아직 정산되지 않은 공고만 (정산 대상 확정)
+	@Query("SELECT t.id FROM Tender t WHERE t.id IN :ids AND t.deadline < :now " +
+	       "AND NOT EXISTS (SELECT s FROM TenderSettlement s WHERE s.tenderId = t.id)")
+	List<Long> findSettleableIds(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+	// 낙찰 입찰 확정을 공고 묶음 단위 한 문장으로: 최고가(집계 행의 top_price)와 같은 가격의 입찰이 낙찰입니다.
+	// 가격은 올라가기만 하고 같은 가격은 받지 않으므로 공고당 한 건이며, 입찰이 없으면 낙찰 컬럼이 NULL 인 행이 됩니다.
+	@Modifying
+	@Query(value = "INSERT INTO tender_settlements (tender_id, winning_bid_id, winner_user_id, winning_price, bid_count, settled_at) " +
+	               "SELECT t.id, b.bid_id, b.user_id, b.bid_price, COALESCE(s.bid_count, 0), :now FROM tenders t " +
+	               "LEFT JOIN tender_bid_stats s ON s.tender_id = t.id " +
+	               "LEFT JOIN bids b ON b.tender_id = t.id AND b.bid_price = s.top_price " +
+	               "WHERE t.id IN (:ids)",
+	       nativeQuery = true)
+	int settle(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+	// 정산 행이 있는 공고에 정산 표시 (settle 과 같은 트랜잭션). 표시 컬럼이 생기기 전에 정산된 공고도 복구 순회에서 한 번 만나면 표시됩니다.
+	@Modifying
+	@Query("UPDATE Tender t SET t.settled = true WHERE t.id IN :ids AND t.settled = false " +
+	       "AND EXISTS (SELECT s FROM TenderSettlement s WHERE s.tenderId = t.id)")
+	int markSettled(@Param("ids") Collection<Long> ids);
+
+	// 복구 순회: 이벤트를 받지 못했거나 정산이 재시도 끝에도 실패한 공고 (키셋 순회, idx_status_settled)
+	// 정산된 공고는 settled 로 걸러지므로 마감 공고가 쌓여도 훑는 양은 미정산 공고 수만큼입니다.
+	@Query("SELECT t.id FROM Tender t WHERE t.status = :status AND t.settled = false AND t.id > :afterId " +
+	       "AND t.deadline < :closedBefore ORDER BY t.id")
+	List<Long> findUnsettledIds(@Param("status") TenderStatus status, @Param("afterId") Long afterId,
+			@Param("closedBefore") LocalDateTime closedBefore, Pageable pageable);
+}
@@ -0,0 +1,30 @@
+package com.bid.repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.bid.entity.TenderSyncRun;
+
+@Repository
+public interface TenderSyncRunRepository extends JpaRepository<TenderSyncRun, Long> {
+
+	@Query("SELECT MAX(r.id) FROM TenderSyncRun r")
+	Optional<Long> findLatestGeneration();
+
+	// 이 세대까지의 변경 로그는 삭제됨 (이보다 작은 since 로는 빠짐없이 따라올 수 없음)
+	@Query("SELECT MAX(r.id) FROM TenderSyncRun r WHERE r.changesPurged = true")
+	Optional<Long> findPurgedThroughGeneration();
+
+	@Query("SELECT MAX(r.id) FROM TenderSyncRun r WHERE r.syncedAt < :cutoff AND r.changesPurged = false")
+	Optional<Long> findLastExpiredGeneration(@Param("cutoff") LocalDateTime cutoff);
+
+	@Modifying
+	@Query("UPDATE TenderSyncRun r SET r.changesPurged = true WHERE r.id <= :generation")
+	int markPurgedThrough(@Param("generation") Long generation);
+}
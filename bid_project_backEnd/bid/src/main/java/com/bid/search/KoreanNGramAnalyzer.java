@@ -0,0 +1,50 @@
+package com.bid.search;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.LowerCaseFilter;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.Tokenizer;
+import org.apache.lucene.analysis.core.WhitespaceTokenizer;
+import org.apache.lucene.analysis.ngram.NGramTokenFilter;
+
+/**
+ * 한국어 n-gram 분석기. 형태소 사전 없이 공백 단위 어절을 1~2글자 조각으로 색인해
+ * "강남구아파트"처럼 붙여 쓴 물건명도 부분 문자열로 찾을 수 있게 합니다.
+ */
+public class KoreanNGramAnalyzer extends Analyzer {
+
+	static final int MIN_GRAM = 1;
+	static final int MAX_GRAM = 2;
+
+	@Override
+	protected TokenStreamComponents createComponents(String fieldName) {
+		Tokenizer tokenizer = new WhitespaceTokenizer();
+		TokenStream stream = new LowerCaseFilter(tokenizer);
+		stream = new NGramTokenFilter(stream, MIN_GRAM, MAX_GRAM, false);
+		return new TokenStreamComponents(tokenizer, stream);
+	}
+
+	// 질의어를 색인과 같은 규칙으로 자릅니다. 두 글자 이상 어절은 bigram, 한 글자 어절은 unigram 만 사용합니다.
+	public static List<String> queryGrams(String text) {
+		Set<String> grams = new LinkedHashSet<>();
+		for (String word : text.toLowerCase(Locale.ROOT).trim().split("\\s+")) {
+			if (word.isEmpty()) {
+				continue;
+			}
+			if (word.length() < MAX_GRAM) {
+				grams.add(word);
+				continue;
+			}
+			for (int i = 0; i + MAX_GRAM <= word.length(); i++) {
+				grams.add(word.substring(i, i + MAX_GRAM));
+			}
+		}
+		return new ArrayList<>(grams);
+	}
+}
@@ -0,0 +1,15 @@
+package com.bid.search;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 검색 엔진(인덱스/스냅샷)이 돌려주는 한 페이지 결과: 정렬된 Tender id 와 전체 건수
+@Getter
+@AllArgsConstructor
+public class SearchHits {
+
+	private final List<Long> tenderIds;
+	private final int totalCount;
+}
@@ -0,0 +1,106 @@
+package com.bid.search;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import com.bid.dto.projection.TenderColumnView;
+import com.bid.dto.request.TenderSearchCondition;
+import com.bid.dto.response.TenderFacetsResponse;
+import com.bid.event.TenderSyncEvent;
+import com.bid.repository.TenderRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 키워드가 없는 상세 검색(처분방식/지역/감정가/기간/상태 필터 + 목록 정렬)을 메모리 컬럼형 스냅샷으로 처리합니다.
+ * 스냅샷은 동기화 커밋마다 새로 만들어 참조를 통째로 교체하므로 조회 중인 요청은 이전 스냅샷을 끝까지 읽습니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TenderColumnarSearchEngine {
+
+	private static final int LOAD_BATCH_SIZE = 5000;
+
+	private final TenderRepository tenderRepository;
+
+	@Value("${tender.search.columnar.enabled:false}")
+	private boolean enabled;
+
+	private volatile TenderColumnarSnapshot snapshot;
+
+	public boolean isReady() {
+		return enabled && snapshot != null;
+	}
+
+	public int getRowCount() {
+		TenderColumnarSnapshot current = snapshot;
+		return current == null ? 0 : current.size();
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void loadOnStartup() {
+		if (enabled) {
+			rebuild();
+		}
+	}
+
+	@EventListener
+	public void onTenderSync(TenderSyncEvent event) {
+		if (enabled && !event.isEmpty()) {
+			rebuild();
+		}
+	}
+
+	// 활성 공고의 필터 컬럼을 id 키셋으로 나눠 읽어 새 스냅샷을 만든 뒤 교체합니다.
+	public synchronized void rebuild() {
+		long startTime = System.currentTimeMillis();
+		LocalDateTime builtAt = LocalDateTime.now();
+		List<TenderColumnView> rows = new ArrayList<>();
+		long afterId = 0L;
+		List<TenderColumnView> batch;
+		do {
+			batch = tenderRepository.findColumnViews(afterId, PageRequest.of(0, LOAD_BATCH_SIZE));
+			rows.addAll(batch);
+			if (!batch.isEmpty()) {
+				afterId = batch.get(batch.size() - 1).getId();
+			}
+		} while (batch.size() == LOAD_BATCH_SIZE);
+
+		snapshot = TenderColumnarSnapshot.build(rows, builtAt);
+		log.info("Tender columnar snapshot rebuilt in {}ms. Rows: {}", System.currentTimeMillis() - startTime, rows.size());
+	}
+
+	public TenderFacetsResponse facetCounts(TenderSearchCondition condition) {
+		TenderColumnarSnapshot current = snapshot;
+		if (current == null) {
+			throw new IllegalStateException("컬럼형 검색 스냅샷이 아직 준비되지 않았습니다.");
+		}
+		return current.facetCounts(condition, LocalDateTime.now());
+	}
+
+	public SearchHits search(TenderSearchCondition condition, int pageNo, int numOfRows) {
+		TenderColumnarSnapshot current = snapshot;
+		if (current == null) {
+			throw new IllegalStateException("컬럼형 검색 스냅샷이 아직 준비되지 않았습니다.");
+		}
+		return current.search(condition, LocalDateTime.now(), pageNo, numOfRows);
+	}
+
+	// 내보내기 커서는 연 시점의 스냅샷을 끝까지 읽으므로 도중에 스냅샷이 바뀌어도 순서가 흔들리지 않습니다.
+	public TenderIdCursor cursor(TenderSearchCondition condition, int pageSize) {
+		TenderColumnarSnapshot current = snapshot;
+		if (current == null) {
+			throw new IllegalStateException("컬럼형 검색 스냅샷이 아직 준비되지 않았습니다.");
+		}
+		return current.cursor(condition, LocalDateTime.now(), pageSize);
+	}
+}
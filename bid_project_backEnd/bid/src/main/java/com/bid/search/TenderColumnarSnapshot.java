@@ -0,0 +1,362 @@
+package com.bid.search;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+
+import org.roaringbitmap.RoaringBitmap;
+
+import com.bid.dto.projection.TenderColumnView;
+import com.bid.dto.request.TenderSearchCondition;
+import com.bid.dto.response.TenderFacetsResponse;
+import com.bid.entity.TenderStatus;
+
+import lombok.Getter;
+
+/**
+ * 활성 공고의 필터/정렬 컬럼을 기본형 배열로 들고 있는 읽기 전용 스냅샷.
+ * 행은 공고일 오름차순(공고일 없는 행은 맨 뒤)으로 정렬되어 있어
+ * 공고일 범위는 행 구간으로, 처분방식/지역은 값별 비트맵으로 바로 후보를 만들고
+ * 감정가/마감일만 후보 행을 스캔합니다. 만들어진 뒤에는 변경하지 않으므로 잠금 없이 공유합니다.
+ * (마감 행 비트맵만 질의 시각에 따라 앞으로 늘려 가며 교체하는 캐시입니다.)
+ */
+public class TenderColumnarSnapshot {
+
+	private static final long NULL_VALUE = Long.MIN_VALUE;
+
+	private final long[] ids;
+	private final long[] announcementEpochs; // 공고일 (없으면 NULL_VALUE)
+	private final long[] deadlineEpochs;     // 마감일 (없으면 NULL_VALUE)
+	private final long[] prices;             // 감정평가액 (없으면 NULL_VALUE)
+	private final int datedRowCount;         // 공고일이 있는 행 수 = [0, datedRowCount)
+
+	private final Map<String, RoaringBitmap> organizationIndex;
+	private final Map<String, RoaringBitmap> sidoIndex;
+	private final Map<String, RoaringBitmap> sgkIndex;
+	private final Map<String, RoaringBitmap> emdIndex;
+	private final Map<String, Map<String, RoaringBitmap>> facetIndexes; // 패싯 이름 → 값 → 행 (상태 패싯은 질의 시점에 계산)
+	private final RoaringBitmap undatedDeadlineRows; // 마감일 없는 행
+	private final int[] deadlineSortedRows;          // 마감일이 있는 행을 마감일 오름차순으로
+	private final long[] sortedDeadlines;            // deadlineSortedRows 의 마감일
+	private final AtomicReference<ClosedRows> closedRows = new AtomicReference<>(new ClosedRows(0, new RoaringBitmap()));
+
+	@Getter
+	private final LocalDateTime builtAt;
+
+	private TenderColumnarSnapshot(List<TenderColumnView> rows, LocalDateTime builtAt) {
+		int size = rows.size();
+		this.ids = new long[size];
+		this.announcementEpochs = new long[size];
+		this.deadlineEpochs = new long[size];
+		this.prices = new long[size];
+		this.organizationIndex = new HashMap<>();
+		this.sidoIndex = new HashMap<>();
+		this.sgkIndex = new HashMap<>();
+		this.emdIndex = new HashMap<>();
+		this.facetIndexes = new HashMap<>();
+		Map<String, RoaringBitmap> category1Index = new HashMap<>();
+		Map<String, RoaringBitmap> category2Index = new HashMap<>();
+		Map<String, RoaringBitmap> sgkFacetIndex = new HashMap<>();
+		this.undatedDeadlineRows = new RoaringBitmap();
+		this.builtAt = builtAt;
+
+		int dated = 0;
+		for (int row = 0; row < size; row++) {
+			TenderColumnView view = rows.get(row);
+			ids[row] = view.getId();
+			announcementEpochs[row] = toEpochSecond(view.getAnnouncementDate());
+			deadlineEpochs[row] = toEpochSecond(view.getDeadline());
+			prices[row] = view.getApslAsesAvgAmt() != null ? view.getApslAsesAvgAmt() : NULL_VALUE;
+			if (announcementEpochs[row] != NULL_VALUE) {
+				dated++;
+			}
+			if (deadlineEpochs[row] == NULL_VALUE) {
+				undatedDeadlineRows.add(row);
+			}
+			addToIndex(organizationIndex, view.getOrganization(), row);
+			addToIndex(sidoIndex, view.getSido(), row);
+			addToIndex(sgkIndex, view.getSgk(), row);
+			addToIndex(emdIndex, view.getEmd(), row);
+			addToIndex(category1Index, TenderFacets.categoryLevel(view.getCategoryFullName(), 1), row);
+			addToIndex(category2Index, TenderFacets.categoryLevel(view.getCategoryFullName(), 2), row);
+			addToIndex(sgkFacetIndex, TenderFacets.sgkValue(view.getSido(), view.getSgk()), row);
+		}
+		this.datedRowCount = dated;
+
+		this.deadlineSortedRows = IntStream.range(0, size)
+				.filter(row -> deadlineEpochs[row] != NULL_VALUE).boxed()
+				.sorted(Comparator.comparingLong(row -> deadlineEpochs[row]))
+				.mapToInt(Integer::intValue).toArray();
+		this.sortedDeadlines = new long[deadlineSortedRows.length];
+		for (int i = 0; i < deadlineSortedRows.length; i++) {
+			sortedDeadlines[i] = deadlineEpochs[deadlineSortedRows[i]];
+		}
+
+		facetIndexes.put(TenderFacets.ORGANIZATION, organizationIndex);
+		facetIndexes.put(TenderFacets.CATEGORY1, category1Index);
+		facetIndexes.put(TenderFacets.CATEGORY2, category2Index);
+		facetIndexes.put(TenderFacets.SIDO, sidoIndex);
+		facetIndexes.put(TenderFacets.SGK, sgkFacetIndex);
+
+		sgkIndex.values().forEach(RoaringBitmap::runOptimize);
+		emdIndex.values().forEach(RoaringBitmap::runOptimize);
+		facetIndexes.values().forEach(index -> index.values().forEach(RoaringBitmap::runOptimize));
+	}
+
+	public static TenderColumnarSnapshot build(List<TenderColumnView> rows, LocalDateTime builtAt) {
+		List<TenderColumnView> sorted = new ArrayList<>(rows);
+		sorted.sort(Comparator.comparing(TenderColumnView::getAnnouncementDate, Comparator.nullsLast(Comparator.naturalOrder()))
+				.thenComparing(TenderColumnView::getId));
+		return new TenderColumnarSnapshot(sorted, builtAt);
+	}
+
+	public int size() {
+		return ids.length;
+	}
+
+	/**
+	 * 조건에 맞는 행을 목록 순서(진행 중/마감 공고는 공고일 최신순, 예정 공고는 공고일 임박순, 공고일 없는 공고는 마지막)로
+	 * 한 페이지만 잘라 Tender id 로 돌려줍니다. 키워드 조건은 다루지 않습니다.
+	 */
+	public SearchHits search(TenderSearchCondition condition, LocalDateTime now, int pageNo, int numOfRows) {
+		long nowEpoch = toEpochSecond(now);
+		int startedRowCount = upperBound(nowEpoch); // [0, startedRowCount) = 이미 공고가 시작된 행
+
+		RoaringBitmap result = filter(condition, nowEpoch, startedRowCount);
+		int totalCount = result.getCardinality();
+
+		// 시작된 구간은 뒤에서부터(공고일 내림차순), 나머지는 앞에서부터 읽어 listOrder, id 정렬과 같은 순서를 만듭니다.
+		int startedHits = (int) result.rangeCardinality(0, startedRowCount);
+		long offset = (long) (pageNo - 1) * numOfRows;
+		List<Long> tenderIds = new ArrayList<>();
+		for (long j = offset; j < Math.min(offset + numOfRows, totalCount); j++) {
+			int position = j < startedHits ? startedPosition(result, (int) j, startedHits) : (int) j;
+			tenderIds.add(ids[result.select(position)]);
+		}
+		return new SearchHits(tenderIds, totalCount);
+	}
+
+	// 내보내기 커서: search 와 같은 순서로 pageSize 씩 읽습니다. 조건 비트맵은 첫 페이지에서 한 번만 계산합니다.
+	public TenderIdCursor cursor(TenderSearchCondition condition, LocalDateTime now, int pageSize) {
+		long nowEpoch = toEpochSecond(now);
+		int startedRowCount = upperBound(nowEpoch);
+		return new TenderIdCursor() {
+			private RoaringBitmap result;
+			private int startedHits;
+			private int next;
+
+			@Override
+			public List<Long> next() {
+				if (result == null) {
+					result = filter(condition, nowEpoch, startedRowCount);
+					startedHits = (int) result.rangeCardinality(0, startedRowCount);
+				}
+				int end = Math.min(next + pageSize, result.getCardinality());
+				List<Long> tenderIds = new ArrayList<>(Math.max(end - next, 0));
+				for (; next < end; next++) {
+					int position = next < startedHits ? startedPosition(result, next, startedHits) : next;
+					tenderIds.add(ids[result.select(position)]);
+				}
+				return tenderIds;
+			}
+		};
+	}
+
+	// 시작된 구간의 j 번째 결과 순위. 공고일은 내림차순이지만 같은 공고일 안에서는 DB 정렬처럼 id 오름차순이어야 하므로
+	// 뒤에서 읽어 찾은 행의 공고일 묶음 안에서 앞뒤를 다시 뒤집습니다.
+	private int startedPosition(RoaringBitmap result, int j, int startedHits) {
+		long epoch = announcementEpochs[result.select(startedHits - 1 - j)];
+		int groupStart = (int) result.rangeCardinality(0, lowerBound(epoch));
+		int groupEnd = (int) result.rangeCardinality(0, upperBound(epoch));
+		return groupStart + (j - (startedHits - groupEnd));
+	}
+
+	// 조건에 맞는 행 비트맵과 패싯 값별 비트맵의 교집합 크기로 패싯 건수를 셉니다.
+	public TenderFacetsResponse facetCounts(TenderSearchCondition condition, LocalDateTime now) {
+		long nowEpoch = toEpochSecond(now);
+		int startedRowCount = upperBound(nowEpoch);
+		RoaringBitmap result = filter(condition, nowEpoch, startedRowCount);
+
+		Map<String, Map<String, Long>> facets = new LinkedHashMap<>();
+		for (String name : TenderFacets.NAMES) {
+			Map<String, Long> counts = new HashMap<>();
+			if (TenderFacets.STATUS.equals(name)) {
+				for (TenderStatus status : TenderStatus.values()) {
+					counts.put(status.name(), (long) RoaringBitmap.andCardinality(result, statusRows(status, nowEpoch, startedRowCount)));
+				}
+			} else {
+				facetIndexes.get(name).forEach((value, rows) -> counts.put(value, (long) RoaringBitmap.andCardinality(result, rows)));
+			}
+			facets.put(name, TenderFacets.sortedByCount(counts));
+		}
+		return new TenderFacetsResponse(result.getCardinality(), facets);
+	}
+
+	private RoaringBitmap filter(TenderSearchCondition condition, long nowEpoch, int startedRowCount) {
+		RoaringBitmap result = RoaringBitmap.bitmapOfRange(0, ids.length);
+
+		if (condition.getAnnouncementFrom() != null) {
+			int from = lowerBound(toEpochSecond(condition.getAnnouncementFrom()));
+			result.and(RoaringBitmap.bitmapOfRange(from, datedRowCount));
+		}
+		if (condition.getStatus() != null) {
+			result.and(statusRows(condition.getStatus(), nowEpoch, startedRowCount));
+		}
+		if (hasText(condition.getOrganization())) {
+			RoaringBitmap rows = organizationIndex.get(condition.getOrganization());
+			result.and(rows != null ? rows : new RoaringBitmap());
+		}
+		if (hasText(condition.getSido())) {
+			result.and(containsRows(sidoIndex, condition.getSido()));
+		}
+		if (hasText(condition.getSgk())) {
+			result.and(containsRows(sgkIndex, condition.getSgk()));
+		}
+		if (hasText(condition.getEmd())) {
+			result.and(containsRows(emdIndex, condition.getEmd()));
+		}
+
+		// 범위 컬럼은 비트맵으로 줄어든 후보 행만 스캔
+		if (condition.hasPriceRange() || condition.getDeadlineTo() != null) {
+			long minPrice = condition.getMinGoodsPrice() != null ? condition.getMinGoodsPrice() : NULL_VALUE;
+			long maxPrice = condition.getMaxGoodsPrice() != null ? condition.getMaxGoodsPrice() : Long.MAX_VALUE;
+			long deadlineTo = condition.getDeadlineTo() != null ? toEpochSecond(condition.getDeadlineTo()) : Long.MAX_VALUE;
+			RoaringBitmap matched = new RoaringBitmap();
+			result.forEach((int row) -> {
+				if (condition.hasPriceRange() && (prices[row] == NULL_VALUE || prices[row] < minPrice || prices[row] > maxPrice)) {
+					return;
+				}
+				if (condition.getDeadlineTo() != null && (deadlineEpochs[row] == NULL_VALUE || deadlineEpochs[row] > deadlineTo)) {
+					return;
+				}
+				matched.add(row);
+			});
+			result = matched;
+		}
+		return result;
+	}
+
+	// TenderStatus.of 와 같은 경계로 질의 시점의 상태를 행 구간과 마감 행 비트맵의 집합 연산으로 계산합니다.
+	private RoaringBitmap statusRows(TenderStatus status, long nowEpoch, int startedRowCount) {
+		RoaringBitmap rows = new RoaringBitmap();
+		switch (status) {
+		case UPCOMING -> {
+			rows.add(startedRowCount, datedRowCount);
+			rows.andNot(undatedDeadlineRows);
+		}
+		case IN_PROGRESS -> {
+			rows.add(0, startedRowCount);
+			rows.andNot(undatedDeadlineRows);
+			rows.andNot(closedRows(nowEpoch));
+		}
+		case CLOSED -> {
+			rows.add(0, startedRowCount);
+			rows.and(closedRows(nowEpoch));
+		}
+		case UNKNOWN -> {
+			rows.add(datedRowCount, ids.length);
+			rows.or(undatedDeadlineRows);
+		}
+		}
+		return rows;
+	}
+
+	// 마감일 < now 인 행. 시각은 앞으로만 가므로 직전 결과에 새로 마감된 행만 더해 교체합니다. (반환값은 수정하지 않음)
+	private RoaringBitmap closedRows(long nowEpoch) {
+		int count = countBefore(sortedDeadlines, nowEpoch);
+		ClosedRows cached = closedRows.get();
+		if (cached.count() == count) {
+			return cached.rows();
+		}
+		RoaringBitmap rows;
+		if (cached.count() < count) {
+			rows = cached.rows().clone();
+			rows.addN(deadlineSortedRows, cached.count(), count - cached.count());
+		} else {
+			rows = RoaringBitmap.bitmapOf(Arrays.copyOf(deadlineSortedRows, count));
+		}
+		closedRows.set(new ClosedRows(count, rows));
+		return rows;
+	}
+
+	// 지역 값 사전에서 부분 일치하는 값들의 비트맵을 합칩니다. (DB 쿼리의 LIKE '%x%' 와 같은 의미)
+	private RoaringBitmap containsRows(Map<String, RoaringBitmap> index, String keyword) {
+		RoaringBitmap rows = new RoaringBitmap();
+		index.forEach((value, bitmap) -> {
+			if (value.contains(keyword)) {
+				rows.or(bitmap);
+			}
+		});
+		return rows;
+	}
+
+	// 공고일 >= epoch 인 첫 행 (= 공고일 < epoch 인 행 수)
+	private int lowerBound(long epoch) {
+		int low = 0;
+		int high = datedRowCount;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (announcementEpochs[mid] < epoch) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+
+	// 공고일 > epoch 인 첫 행 (= 공고일 <= epoch 인 행 수)
+	private int upperBound(long epoch) {
+		int low = 0;
+		int high = datedRowCount;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (announcementEpochs[mid] <= epoch) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+
+	// 정렬된 배열에서 epoch 미만인 값의 개수
+	private static int countBefore(long[] sorted, long epoch) {
+		int low = 0;
+		int high = sorted.length;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (sorted[mid] < epoch) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+
+	private static void addToIndex(Map<String, RoaringBitmap> index, String value, int row) {
+		if (value != null) {
+			index.computeIfAbsent(value, key -> new RoaringBitmap()).add(row);
+		}
+	}
+
+	private static boolean hasText(String value) {
+		return value != null && !value.isBlank();
+	}
+
+	private static long toEpochSecond(LocalDateTime dateTime) {
+		return dateTime == null ? NULL_VALUE : dateTime.atZone(ZoneId.systemDefault()).toEpochSecond();
+	}
+
+	private record ClosedRows(int count, RoaringBitmap rows) {
+	}
+}
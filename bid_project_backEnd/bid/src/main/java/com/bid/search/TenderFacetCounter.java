@@ -0,0 +1,190 @@
+package com.bid.search;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.bid.dto.projection.TenderFacetGroupView;
+import com.bid.dto.projection.TenderFacetView;
+import com.bid.dto.response.TenderFacetsResponse;
+import com.bid.entity.TenderStatus;
+import com.bid.event.TenderStatusChangedEvent;
+import com.bid.event.TenderSyncEvent;
+import com.bid.repository.TenderRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 조건 없는 전체 패싯 건수를 메모리 카운터로 유지합니다.
+ * 시작 시 한 번 전체를 세고, 이후에는 동기화 변경분(신규/변경/비활성화)과 상태 전환 이벤트만큼만 증감합니다.
+ * 공고별 현재 패싯 값을 같이 들고 있어 변경 전 값을 빼고 새 값을 더할 수 있고,
+ * 이벤트로 드러나지 않는 보정(상태 reconcile 등)은 주기적인 전체 재집계로 맞춥니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TenderFacetCounter {
+
+	private static final int LOAD_BATCH_SIZE = 5000;
+	private static final int CHANGE_BATCH_SIZE = 1000;
+	private static final int STATUS_INDEX = TenderFacets.NAMES.indexOf(TenderFacets.STATUS);
+
+	private final TenderRepository tenderRepository;
+
+	// 아래 상태는 이 객체의 잠금 안에서만 바뀌고, 읽기는 publish 된 불변 결과만 봅니다.
+	private final Map<Long, String[]> rowValues = new HashMap<>();
+	private final Map<String, Map<String, Long>> counts = new HashMap<>();
+
+	private volatile TenderFacetsResponse published;
+
+	public boolean isReady() {
+		return published != null;
+	}
+
+	public TenderFacetsResponse getCounts() {
+		return published;
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void loadOnStartup() {
+		reload();
+	}
+
+	@Scheduled(fixedDelayString = "${tender.facets.resync-ms:600000}", initialDelayString = "${tender.facets.resync-ms:600000}")
+	public void resync() {
+		reload();
+	}
+
+	public synchronized void reload() {
+		long startTime = System.currentTimeMillis();
+		rowValues.clear();
+		counts.clear();
+		long afterId = 0L;
+		List<TenderFacetView> batch;
+		do {
+			batch = tenderRepository.findFacetViews(afterId, PageRequest.of(0, LOAD_BATCH_SIZE));
+			batch.forEach(this::put);
+			if (!batch.isEmpty()) {
+				afterId = batch.get(batch.size() - 1).getId();
+			}
+		} while (batch.size() == LOAD_BATCH_SIZE);
+		publish();
+		log.info("Tender facet counters reloaded in {}ms. Tenders: {}", System.currentTimeMillis() - startTime, rowValues.size());
+	}
+
+	@EventListener
+	public synchronized void onTenderSync(TenderSyncEvent event) {
+		if (published == null || event.isEmpty()) {
+			return;
+		}
+		List<Long> changedIds = new ArrayList<>(event.getCreatedIds());
+		changedIds.addAll(event.getUpdatedIds());
+		for (int from = 0; from < changedIds.size(); from += CHANGE_BATCH_SIZE) {
+			List<Long> ids = changedIds.subList(from, Math.min(from + CHANGE_BATCH_SIZE, changedIds.size()));
+			tenderRepository.findFacetViewsByIdIn(ids).forEach(this::put);
+		}
+		event.getDeactivatedIds().forEach(this::remove);
+		publish();
+	}
+
+	@EventListener
+	public synchronized void onStatusChanged(TenderStatusChangedEvent event) {
+		if (published == null) {
+			return;
+		}
+		String status = event.getStatus().name();
+		for (Long id : event.getTenderIds()) {
+			String[] values = rowValues.get(id);
+			if (values != null && !status.equals(values[STATUS_INDEX])) {
+				increment(TenderFacets.STATUS, values[STATUS_INDEX], -1);
+				increment(TenderFacets.STATUS, status, 1);
+				values[STATUS_INDEX] = status;
+			}
+		}
+		publish();
+	}
+
+	// DB 대체 경로에서 읽은 행을 한 번에 집계 (카운터 상태와 무관)
+	public static TenderFacetsResponse tally(Collection<TenderFacetGroupView> groups) {
+		Map<String, Map<String, Long>> counts = new HashMap<>();
+		long totalCount = 0;
+		for (TenderFacetGroupView group : groups) {
+			long count = group.getTenderCount();
+			totalCount += count;
+			String[] values = valuesOf(group.getOrganization(), group.getCategoryFullName(), group.getSido(), group.getSgk(),
+					group.getStatus());
+			for (int i = 0; i < values.length; i++) {
+				if (values[i] != null) {
+					counts.computeIfAbsent(TenderFacets.NAMES.get(i), name -> new HashMap<>()).merge(values[i], count, Long::sum);
+				}
+			}
+		}
+		return toResponse(totalCount, counts);
+	}
+
+	private void put(TenderFacetView view) {
+		remove(view.getId());
+		String[] values = valuesOf(view);
+		rowValues.put(view.getId(), values);
+		for (int i = 0; i < values.length; i++) {
+			increment(TenderFacets.NAMES.get(i), values[i], 1);
+		}
+	}
+
+	private void remove(Long id) {
+		String[] values = rowValues.remove(id);
+		if (values == null) {
+			return;
+		}
+		for (int i = 0; i < values.length; i++) {
+			increment(TenderFacets.NAMES.get(i), values[i], -1);
+		}
+	}
+
+	private void increment(String facet, String value, long delta) {
+		if (value == null) {
+			return;
+		}
+		Map<String, Long> facetCounts = counts.computeIfAbsent(facet, name -> new HashMap<>());
+		if (facetCounts.merge(value, delta, Long::sum) <= 0) {
+			facetCounts.remove(value);
+		}
+	}
+
+	private void publish() {
+		published = toResponse(rowValues.size(), counts);
+	}
+
+	static TenderFacetsResponse toResponse(long totalCount, Map<String, Map<String, Long>> counts) {
+		Map<String, Map<String, Long>> facets = new LinkedHashMap<>();
+		for (String name : TenderFacets.NAMES) {
+			facets.put(name, TenderFacets.sortedByCount(counts.getOrDefault(name, Map.of())));
+		}
+		return new TenderFacetsResponse(totalCount, facets);
+	}
+
+	// TenderFacets.NAMES 순서의 패싯 값
+	private static String[] valuesOf(TenderFacetView view) {
+		return valuesOf(view.getOrganization(), view.getCategoryFullName(), view.getSido(), view.getSgk(), view.getStatus());
+	}
+
+	static String[] valuesOf(String organization, String categoryFullName, String sido, String sgk, TenderStatus status) {
+		return new String[] {
+				organization,
+				TenderFacets.categoryLevel(categoryFullName, 1),
+				TenderFacets.categoryLevel(categoryFullName, 2),
+				sido,
+				TenderFacets.sgkValue(sido, sgk),
+				status != null ? status.name() : null };
+	}
+}
@@ -0,0 +1,58 @@
+package com.bid.search;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// 공고 패싯(처분방식 / 용도 대·중분류 / 시도 / 시군구 / 상태) 이름과 값 추출 규칙. 카운터와 스냅샷, DB 대체 경로가 같이 씁니다.
+public final class TenderFacets {
+
+	public static final String ORGANIZATION = "organization";
+	public static final String CATEGORY1 = "category1"; // 용도 대분류 (예: "토지")
+	public static final String CATEGORY2 = "category2"; // 용도 중분류까지 (예: "토지 / 대지")
+	public static final String SIDO = "sido";
+	public static final String SGK = "sgk";
+	public static final String STATUS = "status";
+
+	public static final List<String> NAMES = List.of(ORGANIZATION, CATEGORY1, CATEGORY2, SIDO, SGK, STATUS);
+
+	private static final String CATEGORY_SEPARATOR = "/";
+
+	private TenderFacets() {
+	}
+
+	// CTGR_FULL_NM("토지 / 대지 / ...")의 depth 단계까지 잘라 " / " 로 다시 잇습니다. 단계가 모자라면 null
+	public static String categoryLevel(String categoryFullName, int depth) {
+		if (categoryFullName == null || categoryFullName.isBlank()) {
+			return null;
+		}
+		String[] parts = categoryFullName.split(CATEGORY_SEPARATOR);
+		if (parts.length < depth) {
+			return null;
+		}
+		StringBuilder level = new StringBuilder(parts[0].trim());
+		for (int i = 1; i < depth; i++) {
+			level.append(" / ").append(parts[i].trim());
+		}
+		return level.toString();
+	}
+
+	// 시군구 이름은 시도마다 겹치므로(예: 중구) 시도를 붙여 셉니다.
+	public static String sgkValue(String sido, String sgk) {
+		if (sgk == null) {
+			return null;
+		}
+		return sido == null ? sgk : sido + " " + sgk;
+	}
+
+	// 건수 내림차순(같으면 값 오름차순), 0 건은 제외
+	public static Map<String, Long> sortedByCount(Map<String, Long> counts) {
+		Map<String, Long> sorted = new LinkedHashMap<>();
+		counts.entrySet().stream()
+				.filter(entry -> entry.getValue() > 0)
+				.sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder()).thenComparing(Map.Entry.comparingByKey()))
+				.forEach(entry -> sorted.put(entry.getKey(), entry.getValue()));
+		return sorted;
+	}
+}
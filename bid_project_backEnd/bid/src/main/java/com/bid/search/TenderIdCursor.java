@@ -0,0 +1,12 @@
+package com.bid.search;
+
+import java.io.IOException;
+import java.util.List;
+
+// 내보내기용 앞으로만 읽는 id 커서: 한 번에 고정 크기 페이지만 읽고, 다 읽으면 빈 목록을 돌려줍니다.
+// 페이지마다 따로 읽으므로 호출하는 쪽이 페이지 단위로 시간 예산을 걸 수 있고 메모리는 한 페이지입니다.
+@FunctionalInterface
+public interface TenderIdCursor {
+
+	List<Long> next() throws IOException;
+}
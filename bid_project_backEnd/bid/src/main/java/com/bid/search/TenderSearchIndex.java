@@ -0,0 +1,553 @@
+package com.bid.search;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.SortedDocValuesField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.SortedDocValues;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.FieldDoc;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.SimpleCollector;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopFieldDocs;
+import org.apache.lucene.search.similarities.BM25Similarity;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.util.BytesRef;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.stereotype.Component;
+
+import com.bid.dto.projection.TenderListOrderView;
+import com.bid.dto.request.TenderSearchCondition;
+import com.bid.dto.response.TenderFacetsResponse;
+import com.bid.entity.Tender;
+import com.bid.entity.TenderStatus;
+import com.bid.event.TenderStatusChangedEvent;
+import com.bid.event.TenderSyncEvent;
+import com.bid.repository.TenderRepository;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 활성 공고의 물건명/물건 상세/주소/용도명을 담는 디스크 Lucene 인덱스.
+ * 동기화 커밋 이벤트의 변경 집합으로 증분 갱신하고, 마지막으로 반영한 동기화 시각을 워터마크로 커밋 데이터에 남깁니다.
+ * 키워드 검색은 BM25 점수 순(동점이면 목록 정렬 키, id 순)으로 id 만 돌려주고, 엔티티 로딩은 호출자가 합니다.
+ * 문서 필드 구성이 바뀌면 SCHEMA_VERSION 을 올립니다. 커밋 데이터의 버전이 다르면 기동 시 전체 재색인합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TenderSearchIndex {
+
+	private static final String FIELD_ID = "id";
+	private static final String FIELD_TITLE = "title";
+	private static final String FIELD_GOODS = "goods";
+	private static final String FIELD_ADDRESS = "address";
+	private static final String FIELD_CATEGORY = "category";
+	private static final String FIELD_ORGANIZATION = "organization";
+	private static final String FIELD_ANNOUNCEMENT = "announcementDate";
+	private static final String FIELD_DEADLINE = "deadline";
+	private static final String FIELD_PRICE = "apslAsesAvgAmt";
+	private static final String FIELD_LIST_ORDER = "listOrder";
+	private static final String FIELD_ID_ORDER = "idOrder";
+	private static final String WATERMARK_KEY = "watermark";
+	private static final String SCHEMA_VERSION_KEY = "schemaVersion";
+	private static final String SCHEMA_VERSION = "4"; // 2: 감정가 LongPoint, 3: id 정렬 doc value, 4: 패싯 doc value
+	private static final String FACET_FIELD_PREFIX = "facet_";
+	private static final int STATUS_FACET_INDEX = TenderFacets.NAMES.indexOf(TenderFacets.STATUS);
+	private static final int LOAD_BATCH_SIZE = 1000;
+
+	// 물건명 일치를 가장 높게, 물건 상세 설명은 가장 낮게 반영
+	private static final Map<String, Float> KEYWORD_FIELD_BOOSTS = Map.of(
+			FIELD_TITLE, 3.0f, FIELD_ADDRESS, 1.5f, FIELD_CATEGORY, 1.5f, FIELD_GOODS, 1.0f);
+
+	private static final Sort RELEVANCE_SORT = new Sort(SortField.FIELD_SCORE,
+			new SortField(FIELD_LIST_ORDER, SortField.Type.LONG), new SortField(FIELD_ID_ORDER, SortField.Type.LONG));
+
+	private final TenderRepository tenderRepository;
+
+	@Value("${tender.search.lucene.enabled:true}")
+	private boolean enabled;
+
+	@Value("${tender.search.lucene.index-dir:./data/tender-index}")
+	private String indexDir;
+
+	private FSDirectory directory;
+	private IndexWriter writer;
+	private SearcherManager searcherManager;
+	private volatile LocalDateTime watermark; // 인덱스에 반영된 마지막 동기화 시각
+
+	@PostConstruct
+	public void open() {
+		if (!enabled) {
+			log.info("Lucene tender search index is disabled.");
+			return;
+		}
+		try {
+			Path path = Paths.get(indexDir);
+			directory = FSDirectory.open(path);
+			IndexWriterConfig config = new IndexWriterConfig(new KoreanNGramAnalyzer())
+					.setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND)
+					.setSimilarity(new BM25Similarity());
+			writer = new IndexWriter(directory, config);
+			searcherManager = new SearcherManager(writer, null);
+			String schemaVersion = readCommitData(SCHEMA_VERSION_KEY);
+			if (SCHEMA_VERSION.equals(schemaVersion)) {
+				String committed = readCommitData(WATERMARK_KEY);
+				watermark = committed != null ? LocalDateTime.parse(committed) : null;
+			} else if (writer.getDocStats().numDocs > 0) {
+				// 이전 구성으로 색인된 문서는 새 필드가 없으므로 워터마크를 버려 기동 시 전체 재색인되게 함
+				log.info("Lucene tender search index schema changed ({} -> {}). Rebuilding on startup.", schemaVersion,
+						SCHEMA_VERSION);
+			}
+			log.info("Lucene tender search index opened at {}. Docs: {}, Watermark: {}", path.toAbsolutePath(),
+					writer.getDocStats().numDocs, watermark);
+		} catch (IOException e) {
+			log.error("Failed to open Lucene tender search index at {}. Keyword search falls back to DB: {}", indexDir,
+					e.getMessage(), e);
+			close();
+		}
+	}
+
+	@PreDestroy
+	public void close() {
+		try {
+			if (searcherManager != null) {
+				searcherManager.close();
+			}
+			if (writer != null) {
+				writer.close();
+			}
+			if (directory != null) {
+				directory.close();
+			}
+		} catch (IOException e) {
+			log.warn("Error closing Lucene tender search index: {}", e.getMessage());
+		} finally {
+			searcherManager = null;
+			writer = null;
+			directory = null;
+		}
+	}
+
+	// 인덱스가 열려 있고 최소 한 번 이상 동기화/재색인이 반영된 경우에만 검색에 사용합니다.
+	public boolean isReady() {
+		return writer != null && watermark != null;
+	}
+
+	public LocalDateTime getWatermark() {
+		return watermark;
+	}
+
+	public int getDocCount() {
+		return writer == null ? 0 : writer.getDocStats().numDocs;
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void rebuildIfEmpty() {
+		if (writer != null && watermark == null) {
+			rebuild();
+		}
+	}
+
+	// 동기화 커밋 이후 변경분만 반영 (신규/변경은 재색인, 비활성화는 삭제)
+	@EventListener
+	public void onTenderSync(TenderSyncEvent event) {
+		if (writer == null) {
+			return;
+		}
+		if (watermark == null) { // 한 번도 전체 색인되지 않은 인덱스는 변경분만으로는 채울 수 없음
+			rebuild();
+			return;
+		}
+		List<Long> changedIds = new ArrayList<>(event.getCreatedIds());
+		changedIds.addAll(event.getUpdatedIds());
+		try {
+			synchronized (this) {
+				for (int from = 0; from < changedIds.size(); from += LOAD_BATCH_SIZE) {
+					List<Long> batch = changedIds.subList(from, Math.min(from + LOAD_BATCH_SIZE, changedIds.size()));
+					for (Tender tender : tenderRepository.findAllById(batch)) {
+						index(tender);
+					}
+				}
+				for (Long id : event.getDeactivatedIds()) {
+					writer.deleteDocuments(new Term(FIELD_ID, String.valueOf(id)));
+				}
+				commit(event.getSyncedAt());
+			}
+			log.info("Lucene tender search index updated. Indexed: {}, Deleted: {}, Watermark: {}", changedIds.size(),
+					event.getDeactivatedIds().size(), watermark);
+		} catch (IOException e) {
+			log.error("Failed to update Lucene tender search index: {}", e.getMessage(), e);
+		}
+	}
+
+	// 예정 → 진행 중 전환은 DB 의 listOrder 부호를 뒤집으므로 정렬 키 doc value 만 제자리에서 갱신 (문서 재색인 없음)
+	@EventListener
+	public void onStatusChanged(TenderStatusChangedEvent event) {
+		if (writer == null || watermark == null || event.getStatus() != TenderStatus.IN_PROGRESS) {
+			return;
+		}
+		List<Long> ids = event.getTenderIds();
+		try {
+			synchronized (this) {
+				for (int from = 0; from < ids.size(); from += LOAD_BATCH_SIZE) {
+					List<Long> batch = ids.subList(from, Math.min(from + LOAD_BATCH_SIZE, ids.size()));
+					for (TenderListOrderView view : tenderRepository.findListOrdersByIdIn(batch)) {
+						writer.updateNumericDocValue(new Term(FIELD_ID, String.valueOf(view.getId())), FIELD_LIST_ORDER,
+								view.getListOrder() != null ? view.getListOrder() : Long.MAX_VALUE);
+					}
+				}
+				commit(watermark);
+			}
+		} catch (IOException e) {
+			log.error("Failed to update Lucene list order for {} tenders: {}", ids.size(), e.getMessage(), e);
+		}
+	}
+
+	// 전체 재색인: 활성 공고를 페이지 단위로 읽어 새로 색인합니다. (관리자 재색인 명령)
+	public synchronized int rebuild() {
+		if (writer == null) {
+			throw new IllegalStateException("Lucene 검색 인덱스가 비활성화되어 있거나 열리지 않았습니다.");
+		}
+		long startTime = System.currentTimeMillis();
+		LocalDateTime rebuildStartedAt = LocalDateTime.now();
+		int indexed = 0;
+		try {
+			writer.deleteAll();
+			int pageNo = 0;
+			Page<Tender> page;
+			do {
+				page = tenderRepository.findByActiveTrue(PageRequest.of(pageNo++, LOAD_BATCH_SIZE, Direction.ASC, "id"));
+				for (Tender tender : page.getContent()) {
+					index(tender);
+					indexed++;
+				}
+			} while (page.hasNext());
+			commit(rebuildStartedAt);
+		} catch (IOException e) {
+			log.error("Failed to rebuild Lucene tender search index: {}", e.getMessage(), e);
+			throw new IllegalStateException("검색 인덱스 재색인에 실패했습니다.", e);
+		}
+		log.info("Lucene tender search index rebuilt in {}ms. Docs: {}", System.currentTimeMillis() - startTime, indexed);
+		return indexed;
+	}
+
+	public SearchHits search(TenderSearchCondition condition, int pageNo, int numOfRows) throws IOException {
+		Query query = buildQuery(condition);
+		int offset = (pageNo - 1) * numOfRows;
+
+		IndexSearcher searcher = searcherManager.acquire();
+		try {
+			int totalCount = searcher.count(query);
+			List<Long> ids = new ArrayList<>();
+			if (offset < totalCount) {
+				TopFieldDocs topDocs = searcher.search(query, offset + numOfRows, RELEVANCE_SORT, true);
+				ScoreDoc[] scoreDocs = topDocs.scoreDocs;
+				for (int i = offset; i < scoreDocs.length; i++) {
+					ids.add(Long.valueOf(searcher.storedFields().document(scoreDocs[i].doc).get(FIELD_ID)));
+				}
+			}
+			return new SearchHits(ids, totalCount);
+		} finally {
+			searcherManager.release(searcher);
+		}
+	}
+
+	// 내보내기 커서: search 와 같은 순서(관련도 → 목록 정렬 키 → id)로 pageSize 씩 searchAfter 로 읽습니다.
+	// 정렬 키 끝이 id 라 순서가 전순서이므로, 페이지 사이에 검색기가 새로 열려도 마지막 문서 뒤부터 이어 읽습니다.
+	public TenderIdCursor cursor(TenderSearchCondition condition, int pageSize) {
+		Query query = buildQuery(condition);
+		return new TenderIdCursor() {
+			private FieldDoc after;
+			private boolean exhausted;
+
+			@Override
+			public List<Long> next() throws IOException {
+				if (exhausted) {
+					return List.of();
+				}
+				IndexSearcher searcher = searcherManager.acquire();
+				try {
+					ScoreDoc[] scoreDocs = searcher.searchAfter(after, query, pageSize, RELEVANCE_SORT, true).scoreDocs;
+					List<Long> ids = new ArrayList<>(scoreDocs.length);
+					for (ScoreDoc scoreDoc : scoreDocs) {
+						ids.add(Long.valueOf(searcher.storedFields().document(scoreDoc.doc).get(FIELD_ID)));
+					}
+					if (scoreDocs.length < pageSize) {
+						exhausted = true;
+					} else {
+						after = (FieldDoc) scoreDocs[scoreDocs.length - 1];
+					}
+					return ids;
+				} finally {
+					searcherManager.release(searcher);
+				}
+			}
+		};
+	}
+
+	// 키워드 패싯: /search 와 같은 질의에 맞는 문서의 패싯 doc value 를 세고, 상태는 질의 시점 경계로 상태별 건수를 셉니다.
+	public TenderFacetsResponse facetCounts(TenderSearchCondition condition) throws IOException {
+		Query query = buildQuery(condition);
+		long now = toEpochSecond(LocalDateTime.now());
+
+		IndexSearcher searcher = searcherManager.acquire();
+		try {
+			FacetCollector collector = new FacetCollector();
+			searcher.search(query, collector);
+			collector.flush();
+
+			Map<String, Long> statusCounts = new HashMap<>();
+			for (TenderStatus status : TenderStatus.values()) {
+				Query statusFiltered = new BooleanQuery.Builder().add(query, BooleanClause.Occur.FILTER)
+						.add(statusQuery(status, now), BooleanClause.Occur.FILTER).build();
+				statusCounts.put(status.name(), (long) searcher.count(statusFiltered));
+			}
+			collector.counts.put(TenderFacets.STATUS, statusCounts);
+			return TenderFacetCounter.toResponse(collector.totalHits, collector.counts);
+		} finally {
+			searcherManager.release(searcher);
+		}
+	}
+
+	private Query buildQuery(TenderSearchCondition condition) {
+		BooleanQuery.Builder builder = new BooleanQuery.Builder();
+
+		// 물건명 키워드: 모든 조각이 어느 필드에든 있어야 하고(LIKE 와 같은 재현율), 점수는 필드 가중치 + BM25
+		for (String gram : KoreanNGramAnalyzer.queryGrams(condition.getCltrNm())) {
+			BooleanQuery.Builder gramQuery = new BooleanQuery.Builder();
+			KEYWORD_FIELD_BOOSTS.forEach((field, boost) -> gramQuery
+					.add(new BoostQuery(new TermQuery(new Term(field, gram)), boost), BooleanClause.Occur.SHOULD));
+			builder.add(gramQuery.build(), BooleanClause.Occur.MUST);
+		}
+
+		// 시도/시군구/읍면동: 주소에 포함되어야 함. 점수에는 반영하지 않음
+		for (String region : new String[] { condition.getSido(), condition.getSgk(), condition.getEmd() }) {
+			if (region == null || region.isBlank()) {
+				continue;
+			}
+			for (String gram : KoreanNGramAnalyzer.queryGrams(region)) {
+				builder.add(new TermQuery(new Term(FIELD_ADDRESS, gram)), BooleanClause.Occur.FILTER);
+			}
+		}
+
+		if (condition.getOrganization() != null && !condition.getOrganization().isBlank()) {
+			builder.add(new TermQuery(new Term(FIELD_ORGANIZATION, condition.getOrganization())), BooleanClause.Occur.FILTER);
+		}
+		if (condition.getAnnouncementFrom() != null) {
+			builder.add(LongPoint.newRangeQuery(FIELD_ANNOUNCEMENT, toEpochSecond(condition.getAnnouncementFrom()),
+					Long.MAX_VALUE), BooleanClause.Occur.FILTER);
+		}
+		if (condition.getDeadlineTo() != null) {
+			builder.add(LongPoint.newRangeQuery(FIELD_DEADLINE, Long.MIN_VALUE, toEpochSecond(condition.getDeadlineTo())),
+					BooleanClause.Occur.FILTER);
+		}
+		if (condition.hasPriceRange()) {
+			long min = condition.getMinGoodsPrice() != null ? condition.getMinGoodsPrice() : Long.MIN_VALUE;
+			long max = condition.getMaxGoodsPrice() != null ? condition.getMaxGoodsPrice() : Long.MAX_VALUE;
+			builder.add(LongPoint.newRangeQuery(FIELD_PRICE, min, max), BooleanClause.Occur.FILTER);
+		}
+		if (condition.getStatus() != null) {
+			builder.add(statusQuery(condition.getStatus(), toEpochSecond(LocalDateTime.now())), BooleanClause.Occur.FILTER);
+		}
+		return builder.build();
+	}
+
+	// 상태는 시간에 따라 바뀌므로 색인하지 않고 질의 시점 기준 공고일/마감일 범위로 표현합니다. (TenderStatus.of 와 같은 경계)
+	private Query statusQuery(TenderStatus status, long now) {
+		Query hasAnnouncement = LongPoint.newRangeQuery(FIELD_ANNOUNCEMENT, Long.MIN_VALUE, Long.MAX_VALUE);
+		Query hasDeadline = LongPoint.newRangeQuery(FIELD_DEADLINE, Long.MIN_VALUE, Long.MAX_VALUE);
+		BooleanQuery.Builder builder = new BooleanQuery.Builder();
+		switch (status) {
+		case UPCOMING -> builder.add(LongPoint.newRangeQuery(FIELD_ANNOUNCEMENT, now + 1, Long.MAX_VALUE), BooleanClause.Occur.FILTER)
+				.add(hasDeadline, BooleanClause.Occur.FILTER);
+		case IN_PROGRESS -> builder.add(LongPoint.newRangeQuery(FIELD_ANNOUNCEMENT, Long.MIN_VALUE, now), BooleanClause.Occur.FILTER)
+				.add(LongPoint.newRangeQuery(FIELD_DEADLINE, now, Long.MAX_VALUE), BooleanClause.Occur.FILTER);
+		case CLOSED -> builder.add(hasAnnouncement, BooleanClause.Occur.FILTER)
+				.add(LongPoint.newRangeQuery(FIELD_DEADLINE, Long.MIN_VALUE, now - 1), BooleanClause.Occur.FILTER);
+		case UNKNOWN -> builder.add(new BooleanQuery.Builder().add(new MatchAllDocsQuery(), BooleanClause.Occur.FILTER)
+						.add(hasAnnouncement, BooleanClause.Occur.MUST_NOT).build(), BooleanClause.Occur.SHOULD)
+				.add(new BooleanQuery.Builder().add(new MatchAllDocsQuery(), BooleanClause.Occur.FILTER)
+						.add(hasDeadline, BooleanClause.Occur.MUST_NOT).build(), BooleanClause.Occur.SHOULD)
+				.setMinimumNumberShouldMatch(1);
+		}
+		return builder.build();
+	}
+
+	private void index(Tender tender) throws IOException {
+		Term idTerm = new Term(FIELD_ID, String.valueOf(tender.getId()));
+		if (!tender.isActive()) {
+			writer.deleteDocuments(idTerm);
+			return;
+		}
+
+		Document doc = new Document();
+		doc.add(new StringField(FIELD_ID, String.valueOf(tender.getId()), Field.Store.YES));
+		addText(doc, FIELD_TITLE, tender.getTenderTitle());
+		addText(doc, FIELD_GOODS, tender.getGoodsName());
+		addText(doc, FIELD_ADDRESS, tender.getAddress());
+		addText(doc, FIELD_ADDRESS, tender.getRoadAddress());
+		addText(doc, FIELD_CATEGORY, tender.getCategoryFullName());
+		if (tender.getOrganization() != null) {
+			doc.add(new StringField(FIELD_ORGANIZATION, tender.getOrganization(), Field.Store.NO));
+		}
+		if (tender.getAnnouncementDate() != null) {
+			doc.add(new LongPoint(FIELD_ANNOUNCEMENT, toEpochSecond(tender.getAnnouncementDate())));
+		}
+		if (tender.getDeadline() != null) {
+			doc.add(new LongPoint(FIELD_DEADLINE, toEpochSecond(tender.getDeadline())));
+		}
+		if (tender.getApslAsesAvgAmt() != null) {
+			doc.add(new LongPoint(FIELD_PRICE, tender.getApslAsesAvgAmt()));
+		}
+		doc.add(new NumericDocValuesField(FIELD_LIST_ORDER,
+				tender.getListOrder() != null ? tender.getListOrder() : Long.MAX_VALUE));
+		doc.add(new NumericDocValuesField(FIELD_ID_ORDER, tender.getId()));
+		String[] facetValues = TenderFacetCounter.valuesOf(tender.getOrganization(), tender.getCategoryFullName(),
+				tender.getSido(), tender.getSgk(), null);
+		for (int i = 0; i < facetValues.length; i++) {
+			if (i != STATUS_FACET_INDEX && facetValues[i] != null) {
+				doc.add(new SortedDocValuesField(FACET_FIELD_PREFIX + TenderFacets.NAMES.get(i), new BytesRef(facetValues[i])));
+			}
+		}
+
+		writer.updateDocument(idTerm, doc);
+	}
+
+	private void addText(Document doc, String field, String value) {
+		if (value != null && !value.isBlank()) {
+			doc.add(new TextField(field, value, Field.Store.NO));
+		}
+	}
+
+	private void commit(LocalDateTime newWatermark) throws IOException {
+		writer.setLiveCommitData(
+				Map.of(WATERMARK_KEY, newWatermark.toString(), SCHEMA_VERSION_KEY, SCHEMA_VERSION).entrySet());
+		writer.commit();
+		searcherManager.maybeRefresh();
+		watermark = newWatermark;
+	}
+
+	private String readCommitData(String key) {
+		Iterable<Map.Entry<String, String>> commitData = writer.getLiveCommitData();
+		if (commitData == null) {
+			return null;
+		}
+		for (Map.Entry<String, String> entry : commitData) {
+			if (key.equals(entry.getKey())) {
+				return entry.getValue();
+			}
+		}
+		return null;
+	}
+
+	private long toEpochSecond(LocalDateTime dateTime) {
+		return dateTime.atZone(ZoneId.systemDefault()).toEpochSecond();
+	}
+
+	// 세그먼트별로 패싯 값 서수(ordinal)마다 건수를 세고, 세그먼트가 끝날 때 값 문자열로 합칩니다. (상태 패싯은 제외)
+	private static final class FacetCollector extends SimpleCollector {
+
+		private final Map<String, Map<String, Long>> counts = new HashMap<>();
+		private final SortedDocValues[] values = new SortedDocValues[TenderFacets.NAMES.size()];
+		private int[][] segmentCounts;
+		private long totalHits;
+
+		@Override
+		protected void doSetNextReader(LeafReaderContext context) throws IOException {
+			flush();
+			segmentCounts = new int[values.length][];
+			for (int i = 0; i < values.length; i++) {
+				if (i != STATUS_FACET_INDEX) {
+					values[i] = DocValues.getSorted(context.reader(), FACET_FIELD_PREFIX + TenderFacets.NAMES.get(i));
+					segmentCounts[i] = new int[values[i].getValueCount()];
+				}
+			}
+		}
+
+		@Override
+		public void collect(int doc) throws IOException {
+			totalHits++;
+			for (int i = 0; i < values.length; i++) {
+				if (i != STATUS_FACET_INDEX && values[i].advanceExact(doc)) {
+					segmentCounts[i][values[i].ordValue()]++;
+				}
+			}
+		}
+
+		@Override
+		public ScoreMode scoreMode() {
+			return ScoreMode.COMPLETE_NO_SCORES;
+		}
+
+		private void flush() throws IOException {
+			if (segmentCounts == null) {
+				return;
+			}
+			for (int i = 0; i < values.length; i++) {
+				if (i == STATUS_FACET_INDEX) {
+					continue;
+				}
+				Map<String, Long> facet = counts.computeIfAbsent(TenderFacets.NAMES.get(i), name -> new HashMap<>());
+				for (int ord = 0; ord < segmentCounts[i].length; ord++) {
+					if (segmentCounts[i][ord] > 0) {
+						facet.merge(values[i].lookupOrd(ord).utf8ToString(), (long) segmentCounts[i][ord], Long::sum);
+					}
+				}
+			}
+			segmentCounts = null;
+		}
+	}
+
+	// 검색 조건에 쓰인 id 목록 순서를 유지한 채 엔티티를 정렬할 때 사용
+	public static <T> List<T> orderByIds(List<Long> ids, Collection<T> items, Function<T, Long> idOf) {
+		Map<Long, T> byId = new HashMap<>();
+		items.forEach(item -> byId.put(idOf.apply(item), item));
+		List<T> ordered = new ArrayList<>(ids.size());
+		for (Long id : ids) {
+			T item = byId.get(id);
+			if (item != null) {
+				ordered.add(item);
+			}
+		}
+		return ordered;
+	}
+}
@@ -0,0 +1,223 @@
+package com.bid.search;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.lucene.search.suggest.InputIterator;
+import org.apache.lucene.search.suggest.Lookup.LookupResult;
+import org.apache.lucene.search.suggest.fst.WFSTCompletionLookup;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.util.BytesRef;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import com.bid.dto.projection.TenderSuggestView;
+import com.bid.dto.response.TenderSuggestionDTO;
+import com.bid.event.TenderSyncEvent;
+import com.bid.repository.TenderRepository;
+import com.bid.util.HangulUtils;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 물건명/처분방식/지역 자동완성. 가중치 FST(WFSTCompletionLookup)에 "검색 키 + 구분자 + 종류 + 표시 문자열"을 넣어
+ * 접두어로 상위 k 개를 인기도(물건명은 조회수 합, 처분방식/지역은 공고 수) 순으로 바로 꺼냅니다.
+ * 물건명은 단어마다 그 위치부터의 접미 문자열도 키로 넣어 중간 단어로도 찾을 수 있고, 모든 키는 초성 키를 함께 가집니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TenderSuggester {
+
+	public static final String TYPE_TITLE = "TITLE";
+	public static final String TYPE_ORGANIZATION = "ORGANIZATION";
+	public static final String TYPE_REGION = "REGION";
+
+	private static final char KEY_SEPARATOR = '\u0001';
+	private static final int LOAD_BATCH_SIZE = 5000;
+	private static final int MAX_TITLE_WORD_STARTS = 5; // 물건명은 앞쪽 다섯 단어 위치까지만 접미 키로 등록
+	private static final int LOOKUP_OVERFETCH = 4;      // 같은 후보가 여러 키(접미/초성)로 걸리는 만큼 더 읽고 중복 제거
+
+	private final TenderRepository tenderRepository;
+
+	@Value("${tender.suggest.enabled:true}")
+	private boolean enabled;
+
+	private volatile WFSTCompletionLookup lookup;
+
+	@Getter
+	private volatile LocalDateTime builtAt;
+
+	public boolean isReady() {
+		return enabled && lookup != null;
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void loadOnStartup() {
+		if (enabled) {
+			rebuild();
+		}
+	}
+
+	@EventListener
+	public void onTenderSync(TenderSyncEvent event) {
+		if (enabled && !event.isEmpty()) {
+			rebuild();
+		}
+	}
+
+	public synchronized void rebuild() {
+		long startTime = System.currentTimeMillis();
+		LocalDateTime rebuildStartedAt = LocalDateTime.now();
+
+		Map<String, Long> weights = new HashMap<>();
+		long afterId = 0L;
+		List<TenderSuggestView> batch;
+		do {
+			batch = tenderRepository.findSuggestViews(afterId, PageRequest.of(0, LOAD_BATCH_SIZE));
+			for (TenderSuggestView view : batch) {
+				long inquiryCount = view.getInquiryCount() != null ? view.getInquiryCount() : 0L;
+				addTitle(weights, view.getTenderTitle(), inquiryCount);
+				addEntry(weights, TYPE_ORGANIZATION, view.getOrganization(), normalize(view.getOrganization()), 1L);
+				addEntry(weights, TYPE_REGION, view.getSido(), normalize(view.getSido()), 1L);
+				addEntry(weights, TYPE_REGION, view.getSgk(), normalize(view.getSgk()), 1L);
+				addEntry(weights, TYPE_REGION, view.getEmd(), normalize(view.getEmd()), 1L);
+			}
+			if (!batch.isEmpty()) {
+				afterId = batch.get(batch.size() - 1).getId();
+			}
+		} while (batch.size() == LOAD_BATCH_SIZE);
+
+		try {
+			WFSTCompletionLookup built = new WFSTCompletionLookup(new ByteBuffersDirectory(), "tender-suggest");
+			built.build(new WeightedKeyIterator(weights));
+			lookup = built;
+			builtAt = rebuildStartedAt;
+		} catch (IOException e) {
+			log.error("Failed to build tender suggester: {}", e.getMessage(), e);
+			return;
+		}
+		log.info("Tender suggester rebuilt in {}ms. Keys: {}", System.currentTimeMillis() - startTime, weights.size());
+	}
+
+	public List<TenderSuggestionDTO> suggest(String query, int limit) throws IOException {
+		WFSTCompletionLookup current = lookup;
+		String prefix = normalize(query);
+		if (current == null || prefix == null || limit <= 0) {
+			return Collections.emptyList();
+		}
+		// 초성이 섞인 검색어(예: "ㅅㅇ", "서ㅇ")는 검색어 전체를 초성으로 바꿔 초성 키에서 찾습니다.
+		if (HangulUtils.containsChoseong(prefix)) {
+			prefix = HangulUtils.toChoseong(prefix);
+		}
+
+		Set<String> seen = new LinkedHashSet<>();
+		List<TenderSuggestionDTO> suggestions = new ArrayList<>();
+		for (LookupResult result : current.lookup(prefix, false, limit * LOOKUP_OVERFETCH)) {
+			String key = result.key.toString();
+			String entry = key.substring(key.indexOf(KEY_SEPARATOR) + 1); // "종류 + 구분자 + 표시 문자열"
+			if (!seen.add(entry)) {
+				continue;
+			}
+			int separator = entry.indexOf(KEY_SEPARATOR);
+			suggestions.add(new TenderSuggestionDTO(entry.substring(separator + 1), entry.substring(0, separator)));
+			if (suggestions.size() == limit) {
+				break;
+			}
+		}
+		return suggestions;
+	}
+
+	private void addTitle(Map<String, Long> weights, String title, long inquiryCount) {
+		String normalized = normalize(title);
+		if (normalized == null) {
+			return;
+		}
+		// 각 단어 시작 위치부터의 접미 문자열을 키로 등록 (예: "서울 강남구 아파트" → "강남구 아파트" 로도 검색)
+		int wordStart = 0;
+		for (int word = 0; word < MAX_TITLE_WORD_STARTS && wordStart >= 0; word++) {
+			addEntry(weights, TYPE_TITLE, title.trim(), normalized.substring(wordStart), inquiryCount);
+			int space = normalized.indexOf(' ', wordStart);
+			wordStart = space < 0 ? -1 : space + 1;
+		}
+	}
+
+	private void addEntry(Map<String, Long> weights, String type, String display, String matchKey, long weight) {
+		if (display == null || matchKey == null || matchKey.isEmpty()) {
+			return;
+		}
+		String entry = KEY_SEPARATOR + type + KEY_SEPARATOR + display.trim();
+		weights.merge(matchKey + entry, weight, Long::sum);
+		String choseongKey = HangulUtils.toChoseong(matchKey);
+		if (!choseongKey.equals(matchKey)) {
+			weights.merge(choseongKey + entry, weight, Long::sum);
+		}
+	}
+
+	private static String normalize(String text) {
+		if (text == null || text.isBlank()) {
+			return null;
+		}
+		return text.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+	}
+
+	// WFST 가중치는 0 ~ Integer.MAX_VALUE 범위만 허용합니다.
+	private static class WeightedKeyIterator implements InputIterator {
+
+		private final Iterator<Map.Entry<String, Long>> entries;
+		private long weight;
+
+		WeightedKeyIterator(Map<String, Long> weights) {
+			this.entries = weights.entrySet().iterator();
+		}
+
+		@Override
+		public BytesRef next() {
+			if (!entries.hasNext()) {
+				return null;
+			}
+			Map.Entry<String, Long> entry = entries.next();
+			weight = Math.min(entry.getValue(), Integer.MAX_VALUE);
+			return new BytesRef(entry.getKey());
+		}
+
+		@Override
+		public long weight() {
+			return weight;
+		}
+
+		@Override
+		public BytesRef payload() {
+			return null;
+		}
+
+		@Override
+		public boolean hasPayloads() {
+			return false;
+		}
+
+		@Override
+		public Set<BytesRef> contexts() {
+			return null;
+		}
+
+		@Override
+		public boolean hasContexts() {
+			return false;
+		}
+	}
+}
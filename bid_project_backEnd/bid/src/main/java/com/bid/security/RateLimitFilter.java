@@ -0,0 +1,176 @@
+package com.bid.security;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.bid.util.TokenBucket;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 쓰기 엔드포인트(입찰, 즐겨찾기 추가, 회원가입)의 요청 속도 제한.
+ * JwtAuthenticationFilter 뒤에서 실행되어 로그인한 요청은 userId, 아니면 클라이언트 IP 로 규칙별 토큰 버킷을 고릅니다.
+ * 버킷 맵은 Caffeine(내부적으로 잠금 분할된 해시 맵)이고, 일정 시간 쓰이지 않은 버킷은 제거됩니다. (제거돼도 다시 만들면 가득 찬 상태라 결과가 같음)
+ * 버킷이 비면 DB 에 닿기 전에 429 + Retry-After 로 돌려보냅니다.
+ * 프록시 뒤에서는 X-Forwarded-For 의 오른쪽에서 신뢰하는 프록시 수만큼 들어간 항목(가장 바깥 프록시가 본 접속 주소)을 씁니다.
+ * 왼쪽 항목은 클라이언트가 보낸 값이 그대로 남은 것이라 키로 쓰면 요청마다 바꿔 제한을 피할 수 있습니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RateLimitFilter extends OncePerRequestFilter {
+
+	private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+	private final MeterRegistry meterRegistry;
+
+	@Value("${rate-limit.enabled:true}")
+	private boolean enabled;
+
+	@Value("${rate-limit.trust-forwarded-for:false}")
+	private boolean trustForwardedFor; // 프록시 뒤에서만 켭니다. (직접 노출 시 X-Forwarded-For 는 위조 가능)
+
+	@Value("${rate-limit.trusted-proxy-hops:1}")
+	private int trustedProxyHops; // 앱 앞에 있는 (X-Forwarded-For 에 주소를 덧붙이는) 프록시 수
+
+	@Value("${rate-limit.idle-timeout:10m}")
+	private Duration idleTimeout;
+
+	@Value("${rate-limit.max-buckets:100000}")
+	private long maxBuckets;
+
+	@Value("${rate-limit.bids.capacity:10}")
+	private int bidsCapacity;
+
+	@Value("${rate-limit.bids.refill-per-second:2}")
+	private double bidsRefillPerSecond;
+
+	@Value("${rate-limit.favorites.capacity:20}")
+	private int favoritesCapacity;
+
+	@Value("${rate-limit.favorites.refill-per-second:2}")
+	private double favoritesRefillPerSecond;
+
+	@Value("${rate-limit.signup.capacity:5}")
+	private int signupCapacity;
+
+	@Value("${rate-limit.signup.refill-per-second:0.1}")
+	private double signupRefillPerSecond;
+
+	private List<Rule> rules;
+	private Cache<String, TokenBucket> buckets; // 규칙:키
+
+	@PostConstruct
+	void init() {
+		rules = List.of(
+				new Rule("bids", "POST", "/api/bids", bidsCapacity, bidsRefillPerSecond),
+				new Rule("bids", "PUT", "/api/bids/proxy", bidsCapacity, bidsRefillPerSecond),
+				new Rule("favorites", "POST", "/api/favorites/*", favoritesCapacity, favoritesRefillPerSecond),
+				new Rule("signup", "POST", "/api/signup/**", signupCapacity, signupRefillPerSecond));
+		buckets = Caffeine.newBuilder().maximumSize(maxBuckets).expireAfterAccess(idleTimeout).build();
+	}
+
+	@Override
+	protected boolean shouldNotFilter(HttpServletRequest request) {
+		return !enabled || ruleOf(request) == null;
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+			throws ServletException, IOException {
+		Rule rule = ruleOf(request);
+		String key = rule.name + ":" + clientKey(request);
+		long nowNanos = System.nanoTime();
+		TokenBucket bucket = buckets.get(key, k -> new TokenBucket(rule.capacity, rule.refillPerSecond, nowNanos));
+		long waitNanos = bucket.tryConsume(nowNanos);
+		if (waitNanos == 0L) {
+			filterChain.doFilter(request, response);
+			return;
+		}
+
+		long retryAfterSeconds = Math.max(1L, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+		meterRegistry.counter("rate_limit.rejected", "rule", rule.name).increment();
+		log.warn("Rate limit exceeded. rule={}, key={}, uri={}", rule.name, key, request.getRequestURI());
+		response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+		response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+		response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+		response.setCharacterEncoding("UTF-8");
+		response.getWriter().write("{\"message\":\"요청이 너무 많습니다. " + retryAfterSeconds + "초 후 다시 시도해 주세요.\"}");
+	}
+
+	private Rule ruleOf(HttpServletRequest request) {
+		String path = request.getRequestURI().substring(request.getContextPath().length());
+		for (Rule rule : rules) {
+			if (rule.method.equals(request.getMethod()) && PATH_MATCHER.match(rule.pattern, path)) {
+				return rule;
+			}
+		}
+		return null;
+	}
+
+	String clientKey(HttpServletRequest request) {
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		if (authentication != null && authentication.getPrincipal() instanceof CustomUserDetails userDetails) {
+			return "u" + userDetails.getUserId();
+		}
+		if (trustForwardedFor) {
+			String client = forwardedClient(request.getHeader("X-Forwarded-For"), trustedProxyHops);
+			if (client != null) {
+				return "ip" + client;
+			}
+		}
+		return "ip" + request.getRemoteAddr();
+	}
+
+	// 신뢰하는 프록시가 hops 개면 각자 받은 접속 주소를 오른쪽에 덧붙이므로, 뒤에서 hops 번째가 가장 바깥 프록시가 본 클라이언트입니다.
+	// 항목이 그보다 적으면(프록시를 거치지 않은 요청) null
+	static String forwardedClient(String forwardedFor, int hops) {
+		if (!StringUtils.hasText(forwardedFor) || hops < 1) {
+			return null;
+		}
+		String[] entries = forwardedFor.split(",", -1);
+		if (entries.length < hops) {
+			return null;
+		}
+		String client = entries[entries.length - hops].trim();
+		return client.isEmpty() ? null : client;
+	}
+
+	private static class Rule {
+		private final String name;
+		private final String method;
+		private final String pattern;
+		private final int capacity;
+		private final double refillPerSecond;
+
+		private Rule(String name, String method, String pattern, int capacity, double refillPerSecond) {
+			this.name = name;
+			this.method = method;
+			this.pattern = pattern;
+			this.capacity = capacity;
+			this.refillPerSecond = refillPerSecond;
+		}
+	}
+}
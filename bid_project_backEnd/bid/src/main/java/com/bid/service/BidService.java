@@ -1,17 +1,39 @@
 package com.bid.service;
 
 import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.bid.bidding.AcceptedBid;
+import com.bid.bidding.BidIdempotencyStore;
+import com.bid.bidding.BidPreValidator;
+import com.bid.bidding.BidRules;
+import com.bid.bidding.BidSequencer;
+import com.bid.dto.projection.MyBidView;
 import com.bid.dto.request.BidRequestDTO;
+import com.bid.dto.request.ProxyBidRequestDTO;
 import com.bid.dto.response.BidResponseDTO;
+import com.bid.dto.response.MyBidResponseDTO;
+import com.bid.dto.response.PagedMyBidResponse;
+import com.bid.dto.response.ProxyBidResponseDTO;
 import com.bid.entity.Bid;
 import com.bid.entity.Tender;
 import com.bid.entity.User;
+import com.bid.event.TenderBidPlacedEvent;
+import com.bid.event.TenderChangePublisher;
+import com.bid.exception.BidPendingException;
+import com.bid.exception.BidRejectedException;
 import com.bid.repository.BidRepository;
 import com.bid.repository.TenderRepository;
 import com.bid.repository.UserRepository;
@@ -26,34 +48,120 @@ public class BidService {
 	private final TenderRepository tenderRepository;
 	private final UserRepository userRepository;
 	private final BidRepository bidRepository;
+	private final TenderChangePublisher changePublisher;
+	private final TransactionTemplate transactionTemplate;
+	private final BidSequencer bidSequencer;
+	private final BidPreValidator bidPreValidator;
+	private final ProxyBidService proxyBidService;
+	private final BidIdempotencyStore bidIdempotencyStore;
+	private final TenderBidHistoryService tenderBidHistoryService;
 	
-	@Transactional
+	private static final int MAX_MY_BIDS_PAGE_SIZE = 100;
+	
+	@Value("${bid.sequencer.await-timeout-ms:5000}")
+	private long sequencerTimeoutMs;
+	
+	// 입찰의 앞단: 캐시된 공고 스냅샷으로 먼저 사전 검증해서 받아들일 수 없는 입찰은 커넥션/트랜잭션 없이 거절하고,
+	// 통과하면 시퀀서가 켜져 있으면 메모리 판단 + 원장 그룹 커밋, 아니면 DB 트랜잭션 안에서 바로 처리합니다.
+	// (시퀀서 경로는 커밋을 기다리는 동안 커넥션을 쥐지 않도록 트랜잭션 밖에서 기다립니다.)
 	public BidResponseDTO placeBid(BidRequestDTO bidRequestDTO) {
+		return placeBid(bidRequestDTO, null);
+	}
+	
+	// Idempotency-Key 가 있으면 같은 사용자의 같은 키 재전송에는 처음 결과를 그대로 돌려줍니다.
+	public BidResponseDTO placeBid(BidRequestDTO bidRequestDTO, String idempotencyKey) {
 		Long currentUserId = getCurrentUserId();
+		if (idempotencyKey == null) {
+			return submitBid(currentUserId, bidRequestDTO);
+		}
+		return bidIdempotencyStore.execute(currentUserId, idempotencyKey, bidRequestDTO,
+				() -> submitBid(currentUserId, bidRequestDTO));
+	}
+	
+	private BidResponseDTO submitBid(Long currentUserId, BidRequestDTO bidRequestDTO) {
+		if (bidRequestDTO.getBidPrice() == null) {
+			throw new IllegalArgumentException("입찰 가격은 필수입니다.");
+		}
+		Long tenderId = bidRequestDTO.getTenderId();
+		long bidPrice = bidRequestDTO.getBidPrice();
+		bidPreValidator.validate(tenderId, currentUserId, bidPrice);
 		
+		boolean accepted = false;
+		boolean pending = false;
+		try {
+			BidResponseDTO response = bidSequencer.isEnabled()
+					? placeBidSequenced(currentUserId, bidRequestDTO)
+					: transactionTemplate.execute(status -> placeBidInTransaction(currentUserId, bidRequestDTO));
+			accepted = true;
+			return response;
+		} catch (BidRejectedException e) {
+			bidPreValidator.recordRejection("commit", e.getReason());
+			throw e;
+		} catch (BidPendingException e) {
+			// 아직 결과가 정해지지 않았으므로 사전 검증의 진행 중 표시는 실제 결과가 나올 때 정리합니다.
+			pending = true;
+			e.getResult().whenComplete((response, error) ->
+					bidPreValidator.complete(tenderId, currentUserId, bidPrice, error == null));
+			throw e;
+		} finally {
+			if (!pending) {
+				bidPreValidator.complete(tenderId, currentUserId, bidPrice, accepted);
+			}
+		}
+	}
+	
+	// 기다리는 시간 안에 커밋되지 않으면 실패로 보내지 않고 '처리 중'(BidPendingException)으로 알립니다.
+	// 시퀀서가 이미 이 가격으로 다음 입찰을 판단했을 수 있어 큐에서 빼는 방식으로는 되돌릴 수 없고, 입찰은 곧 커밋되기 때문입니다.
+	private BidResponseDTO placeBidSequenced(Long currentUserId, BidRequestDTO bidRequestDTO) {
+		CompletableFuture<BidResponseDTO> result = bidSequencer
+				.submit(bidRequestDTO.getTenderId(), currentUserId, bidRequestDTO.getBidPrice())
+				.thenApply(this::toSequencedResponse);
+		try {
+			return result.get(sequencerTimeoutMs, TimeUnit.MILLISECONDS);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause; // 거절(IllegalArgumentException) 또는 원장 커밋 실패
+			}
+			throw new IllegalStateException("입찰 처리 중 오류가 발생 했습니다.", e.getCause());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("입찰 처리가 중단되었습니다.", e);
+		} catch (TimeoutException e) {
+			throw new BidPendingException("입찰이 접수되어 처리 중입니다. 내 입찰 목록에서 결과를 확인해 주세요.", result);
+		}
+	}
+	
+	private BidResponseDTO toSequencedResponse(AcceptedBid accepted) {
+		return BidResponseDTO.builder()
+				.tenderId(accepted.getPlnmNo())
+				.userId(accepted.getUserId())
+				.bidPrice(accepted.getBidPrice())
+				.bidTime(accepted.getBidTime())
+				.message("입찰이 성공적으로 등록 되었습니다.")
+				.updatedMinBidPrice(accepted.getBidPrice())
+				.build();
+	}
+	
+	private BidResponseDTO placeBidInTransaction(Long currentUserId, BidRequestDTO bidRequestDTO) {
 		Tender tender = tenderRepository.findById(bidRequestDTO.getTenderId())
 				.orElseThrow(() -> new IllegalArgumentException("존재하지 않는 입찰 공고입니다."));
 		
 		User user = userRepository.findById(currentUserId)
 				.orElseThrow(() -> new IllegalArgumentException("인증된 사용자 정보를 찾을 수 없습니다."));
 	
-		Long currentMinBidPrice = tender.getMinBidPrice();
 		Long userBidPrice = bidRequestDTO.getBidPrice();
 		
-		if(currentMinBidPrice == null || currentMinBidPrice == 0L) {
-			if(userBidPrice <= 0) {
-				throw new IllegalArgumentException("입찰 가격은 0보다 커야 합니다.");
-			}
-			if(tender.getInitialOpenPriceFrom() != null && userBidPrice < tender.getInitialOpenPriceFrom()) {
-				throw new IllegalArgumentException("입찰 가격은 공고의 최초 최저 입찰가(" + tender.getInitialOpenPriceFrom() + ")보다 낮을 수 없습니다.");
-			}
-		} else {
-			if (userBidPrice <= currentMinBidPrice) {
-				throw new IllegalArgumentException("입찰 가격은 현재 최저 입찰가(" + currentMinBidPrice + ")보다 높아야 합니다.");
-			}
-		}
+		// 입찰 기간/가격 규칙은 아무것도 쓰기 전에 확인합니다. (사전 검증 이후 마감되었거나 가격이 오른 경우)
+		BidRules.check(tender.getAnnouncementDate(), tender.getDeadline(), tender.getMinBidPrice(),
+				tender.getInitialOpenPriceFrom(), userBidPrice, LocalDateTime.now());
 		
-		tender.setMinBidPrice(userBidPrice);
+		// 읽고 비교한 뒤 setMinBidPrice 로 덮어쓰면 동시에 들어온 낮은 입찰이 높은 입찰을 덮을 수 있으므로,
+		// 비교와 갱신을 조건부 UPDATE 한 문장으로 처리합니다. UPDATE 의 행 잠금은 커밋까지 유지되므로
+		// 뒤따르는 입찰은 이 트랜잭션이 끝난 뒤의 가격과 비교됩니다.
+		if (tenderRepository.raiseMinBidPrice(tender.getId(), userBidPrice) == 0) {
+			Long latestMinBidPrice = tenderRepository.findMinBidPriceById(tender.getId());
+			throw new BidRejectedException("outbid", "입찰 가격은 현재 최저 입찰가(" + latestMinBidPrice + ")보다 높아야 합니다.");
+		}
 		
 		Bid bid = Bid.builder()
 				.tender(tender)
@@ -62,20 +170,13 @@ public class BidService {
 				.bidTime(LocalDateTime.now())
 				.build();
 		Bid savedBid = bidRepository.save(bid);
+		tenderBidHistoryService.recordBid(savedBid);
 		
-		LocalDateTime now = LocalDateTime.now();
+		// 커밋 후 상세 캐시/목록 캐시가 바뀐 최저 입찰가를 반영하도록 알림
+		changePublisher.publishAfterCommit(new TenderBidPlacedEvent(tender.getId(), tender.getCltrMnmtNo(), userBidPrice));
 		
-		if(tender.getAnnouncementDate() == null || tender.getDeadline() ==  null || now.isBefore(tender.getAnnouncementDate()) || now.isAfter(tender.getDeadline())) {
-			String currentStatus;
-			if(tender.getAnnouncementDate() == null || tender.getDeadline() == null) currentStatus = "알 수 없음";
-			else if (now.isBefore(tender.getAnnouncementDate())) currentStatus = "입찰 예정";
-			else if (now.isAfter(tender.getDeadline())) currentStatus = "입찰 마감";
-			else currentStatus = "입찰 진행중";
-			
-			if (!"입찰 진행중".equals(currentStatus)) {
-				throw new IllegalArgumentException("현재 " + currentStatus + "인 공고에는 입찰할 수 없습니다.");
-			}
-		}
+		// 이 입찰을 넘는 자동 입찰이 있으면 같은 트랜잭션에서 바로 응찰합니다.
+		long updatedMinBidPrice = proxyBidService.resolveAfterBid(tender, currentUserId, userBidPrice);
 		
 		return BidResponseDTO.builder()
 				.bidId(savedBid.getBidId())
@@ -83,8 +184,32 @@ public class BidService {
 				.userId(savedBid.getUser().getUserId())
 				.bidPrice(savedBid.getBidPrice())
 				.bidTime(savedBid.getBidTime())
-				.message("입찰이 성공적으로 등록 되었습니다.")
-				.updatedMinBidPrice(tender.getMinBidPrice())
+				.message(updatedMinBidPrice > userBidPrice
+						? "입찰이 등록 되었지만 다른 사용자의 자동 입찰이 더 높은 가격으로 응찰했습니다."
+						: "입찰이 성공적으로 등록 되었습니다.")
+				.updatedMinBidPrice(updatedMinBidPrice)
+				.build();
+	}
+	
+	// 자동 입찰 설정/취소 (해소 로직은 ProxyBidService)
+	public ProxyBidResponseDTO setProxyBid(ProxyBidRequestDTO proxyBidRequestDTO) {
+		return proxyBidService.setProxyBid(getCurrentUserId(), proxyBidRequestDTO);
+	}
+	
+	public boolean cancelProxyBid(Long tenderId) {
+		return proxyBidService.cancelProxyBid(getCurrentUserId(), tenderId);
+	}
+	
+	// 마이페이지 내 입찰: 공고 요약/선두 여부까지 조인 한 번 (입찰마다 공고를 따로 읽지 않음)
+	@Transactional(readOnly = true)
+	public PagedMyBidResponse getMyBids(Long userId, int pageNo, int numOfRows) {
+		int pageSize = Math.max(1, Math.min(numOfRows, MAX_MY_BIDS_PAGE_SIZE));
+		Page<MyBidView> page = bidRepository.findMyBids(userId, PageRequest.of(Math.max(pageNo, 1) - 1, pageSize));
+		return PagedMyBidResponse.builder()
+				.bids(page.getContent().stream().map(MyBidResponseDTO::fromView).toList())
+				.totalCount((int) page.getTotalElements())
+				.pageNo(Math.max(pageNo, 1))
+				.numOfRows(pageSize)
 				.build();
 	}
 	
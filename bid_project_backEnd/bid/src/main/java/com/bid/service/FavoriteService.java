@@ -7,6 +7,7 @@ import java.util.stream.Collectors;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.bid.cache.TenderLookupCache;
 import com.bid.dto.response.TenderResponseDTO;
 import com.bid.entity.Favorite;
 import com.bid.entity.Tender;
@@ -29,6 +30,7 @@ public class FavoriteService {
 	private final FavoriteRepository favoriteRepository;
     private final UserRepository userRepository;
     private final TenderRepository tenderRepository;
+    private final TenderLookupCache tenderLookupCache;
     
  // 즐겨찾기 추가
     @Transactional
@@ -38,12 +40,8 @@ public class FavoriteService {
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + userId));
         log.info("FavoriteService - User found: {}", user.getUsername());
         
-        Tender tender = tenderRepository.findByCltrMnmtNo(cltrMnmtNo)
-        		.orElseThrow(() -> {
-                    log.error("FavoriteService - Tender not found for cltrMnmtNo: {}", cltrMnmtNo); // ✅ 로그
-                    return new ResourceNotFoundException("Tender not found with cltrMnmtNo: " + cltrMnmtNo);
-                });
-        log.info("FavoriteService - Tender found: {}", tender.getTenderTitle());
+        Tender tender = findTenderReference(cltrMnmtNo);
+        log.info("FavoriteService - Tender found: id={}", tender.getId());
         if (favoriteRepository.findByUserAndTender(user, tender).isPresent()) {
         	log.warn("FavoriteService - Favorite already exists for user {} and tender {}", userId, cltrMnmtNo);
         	return false; // 이미 즐겨찾기 됨
@@ -63,8 +61,7 @@ public class FavoriteService {
     public boolean removeFavorite(Long userId, String cltrMnmtNo) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + userId));
-        Tender tender = tenderRepository.findByCltrMnmtNo(cltrMnmtNo)
-                .orElseThrow(() -> new ResourceNotFoundException("Tender not found with id: " + cltrMnmtNo));
+        Tender tender = findTenderReference(cltrMnmtNo);
 
         Optional<Favorite> favoriteOpt = favoriteRepository.findByUserAndTender(user, tender);
         if (favoriteOpt.isPresent()) {
@@ -78,11 +75,20 @@ public class FavoriteService {
     public boolean isFavorite(Long userId, String cltrMnmtNo) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + userId));
-        Tender tender = tenderRepository.findByCltrMnmtNo(cltrMnmtNo)
-                .orElseThrow(() -> new ResourceNotFoundException("Tender not found with id: " + cltrMnmtNo));
+        Tender tender = findTenderReference(cltrMnmtNo);
         return favoriteRepository.findByUserAndTender(user, tender).isPresent();
     }
 
+    // 물건관리번호 → id 는 근거리 캐시에서 찾고, 엔티티는 조회 없이 참조(프록시)만 만듭니다. (즐겨찾기 저장/조회에는 id 만 필요)
+    private Tender findTenderReference(String cltrMnmtNo) {
+        Long tenderId = tenderLookupCache.findId(cltrMnmtNo)
+                .orElseThrow(() -> {
+                    log.error("FavoriteService - Tender not found for cltrMnmtNo: {}", cltrMnmtNo); // ✅ 로그
+                    return new ResourceNotFoundException("Tender not found with cltrMnmtNo: " + cltrMnmtNo);
+                });
+        return tenderRepository.getReferenceById(tenderId);
+    }
+
     // 특정 사용자의 모든 즐겨찾기 목록 조회
     public List<TenderResponseDTO> getFavoriteTendersByUserId(Long userId) {
         User user = userRepository.findById(userId)
@@ -1,6 +1,7 @@
 package com.bid.service;
 
 import java.io.StringReader;
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
@@ -78,9 +79,15 @@ public class OnbidApiParser {
                     String pbctBegnDtm = getTagValue("PBCT_BEGN_DTM", element);
                     String pbctClsDtm = getTagValue("PBCT_CLS_DTM", element);
                     String goodsName = getTagValue("GOODS_NM", element);
+                    String ctgrFullNm = getTagValue("CTGR_FULL_NM", element);
+                    String ldnmAdrs = getTagValue("LDNM_ADRS", element);
+                    String nmrdAdrs = getTagValue("NMRD_ADRS", element);
+                    String apslAsesAvgAmtStr = getTagValue("APSL_ASES_AVG_AMT", element);
+                    String iqryCntStr = getTagValue("IQRY_CNT", element);
 
                     Long plnmNo = (plnmNoStr != null && !plnmNoStr.isEmpty()) ? Long.parseLong(plnmNoStr) : null;
                     Long pbctNo = (pbctNoStr != null && !pbctNoStr.isEmpty()) ? Long.parseLong(pbctNoStr) : null;
+                    Long apslAsesAvgAmt = parseAmount(apslAsesAvgAmtStr);
 
                     dtoList.add(TenderResponseDTO.builder()
                             .tenderId(plnmNo)
@@ -91,6 +98,11 @@ public class OnbidApiParser {
                             .organization(dpslMtdNm)
                             .bidNumber(bidMnmtNo)
                             .goodsName(goodsName)
+                            .categoryFullName(ctgrFullNm)
+                            .address(ldnmAdrs)
+                            .roadAddress(nmrdAdrs)
+                            .apslAsesAvgAmt(apslAsesAvgAmt)
+                            .inquiryCount(parseAmount(iqryCntStr))
                             .announcementDate(parseDateTime(pbctBegnDtm))
                             .deadline(parseDateTime(pbctClsDtm))
                             .build());
@@ -113,6 +125,19 @@ public class OnbidApiParser {
         return null;
     }
 
+    // 금액/건수 필드는 값이 비어 있거나 형식이 달라도 해당 물건 전체를 버리지 않도록 null 로 처리
+    private Long parseAmount(String amountString) {
+        if (amountString == null || amountString.isBlank()) {
+            return null;
+        }
+        try {
+            return new BigDecimal(amountString.trim()).longValue();
+        } catch (NumberFormatException e) {
+            log.warn("Failed to parse amount: '{}'", amountString);
+            return null;
+        }
+    }
+
     private LocalDateTime parseDateTime(String dateTimeString) {
         if (dateTimeString == null || dateTimeString.isEmpty()) {
             return null;
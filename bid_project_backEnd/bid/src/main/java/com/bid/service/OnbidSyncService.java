@@ -10,7 +10,6 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -29,6 +28,8 @@ import org.springframework.web.util.UriComponentsBuilder;
 
 import com.bid.dto.response.TenderResponseDTO;
 import com.bid.entity.Tender;
+import com.bid.event.TenderChangePublisher;
+import com.bid.event.TenderSyncEvent;
 import com.bid.repository.TenderRepository;
 
 import lombok.extern.slf4j.Slf4j;
@@ -42,14 +43,19 @@ public class OnbidSyncService implements ApplicationRunner {
 	private final OnbidApiParser onbidApiParser;
 	private final TransactionTemplate transactionTemplate;
 	private final Executor onbidApiExecutor;
+	private final TenderChangePublisher changePublisher;
+	private final TenderChangeLogService changeLogService;
 
 	public OnbidSyncService(RestTemplate restTemplate, TenderRepository tenderRepository, OnbidApiParser onbidApiParser,
-			TransactionTemplate transactionTemplate, @Qualifier("onbidApiExecutor") Executor onbidApiExecutor) {
+			TransactionTemplate transactionTemplate, @Qualifier("onbidApiExecutor") Executor onbidApiExecutor,
+			TenderChangePublisher changePublisher, TenderChangeLogService changeLogService) {
 		this.restTemplate = restTemplate;
 		this.tenderRepository = tenderRepository;
 		this.onbidApiParser = onbidApiParser;
 		this.transactionTemplate = transactionTemplate;
 		this.onbidApiExecutor = onbidApiExecutor;
+		this.changePublisher = changePublisher;
+		this.changeLogService = changeLogService;
 	}
 
 	@Value("${onbid.api.base-url}")
@@ -94,9 +100,10 @@ public class OnbidSyncService implements ApplicationRunner {
 		log.info("Starting fast sync for initial {} pages...", INITIAL_FAST_SYNC_PAGES);
 		List<TenderResponseDTO> fastSyncTenders = fetchOnbidDataPages(1, INITIAL_FAST_SYNC_PAGES);
 
-		transactionTemplate.execute(status -> { // 트랜잭션 관리
+		TenderSyncEvent syncEvent = transactionTemplate.execute(status -> { // 트랜잭션 관리
 			return saveOrUpdateTenders(fastSyncTenders);
 		});
+		publishSyncEvent(syncEvent);
 		log.info("Fast sync saved/updated {} tenders.", fastSyncTenders.size());
 	}
 
@@ -171,9 +178,10 @@ public class OnbidSyncService implements ApplicationRunner {
 		log.info("Finished fetching all {} unique tenders from Onbid API (parallel). Starting DB sync.",
 				allUniqueTendersFromApi.size());
 
-		transactionTemplate.execute(status -> {
+		TenderSyncEvent syncEvent = transactionTemplate.execute(status -> {
 			return saveOrUpdateTenders(allUniqueTendersFromApi);
 		});
+		publishSyncEvent(syncEvent);
 
 		long fullSyncEndTime = System.currentTimeMillis();
 		log.info("Full Onbid Tender synchronization finished in {}ms (parallel).",
@@ -248,9 +256,18 @@ public class OnbidSyncService implements ApplicationRunner {
 		return collectedTenders;
 	}
 
-	private int saveOrUpdateTenders(List<TenderResponseDTO> apiTenders) {
-		AtomicInteger newCount = new AtomicInteger(0);
-		AtomicInteger updatedCount = new AtomicInteger(0);
+	// 커밋이 끝난 변경 집합만 알립니다. (상태 스케줄러, 검색 인덱스 등이 구독)
+	private void publishSyncEvent(TenderSyncEvent syncEvent) {
+		if (syncEvent != null) {
+			changePublisher.publish(syncEvent);
+		}
+	}
+
+	private TenderSyncEvent saveOrUpdateTenders(List<TenderResponseDTO> apiTenders) {
+		List<Long> createdIds = new ArrayList<>();
+		List<Long> updatedIds = new ArrayList<>();
+		List<Long> deactivatedIds = new ArrayList<>();
+		LocalDateTime now = LocalDateTime.now();
 
 		Set<String> cltrMnmtNosFromApi = apiTenders.stream().map(TenderResponseDTO::getCltrMnmtNo)
 				.filter(Objects::nonNull).collect(Collectors.toSet());
@@ -271,6 +288,7 @@ public class OnbidSyncService implements ApplicationRunner {
 
 			if (existingTenderOpt.isPresent()) {
 				Tender existingTender = existingTenderOpt.get();
+				boolean changed = hasApiChanges(existingTender, dto);
 				// 모든 필드 업데이트 (필요에 따라 더 세분화 가능)
 				existingTender.setTenderId(dto.getTenderId());
 				existingTender.setPbctNo(dto.getPbctNo());
@@ -279,22 +297,31 @@ public class OnbidSyncService implements ApplicationRunner {
 				existingTender.setOrganization(dto.getOrganization());
 				existingTender.setBidNumber(dto.getBidNumber());
 				existingTender.setGoodsName(dto.getGoodsName());
+				existingTender.setCategoryFullName(dto.getCategoryFullName());
+				existingTender.setAddress(dto.getAddress());
+				existingTender.setRoadAddress(dto.getRoadAddress());
+				existingTender.refreshRegion();
+				existingTender.setApslAsesAvgAmt(dto.getApslAsesAvgAmt());
+				existingTender.setInquiryCount(dto.getInquiryCount()); // 조회수는 매번 바뀌므로 변경 감지(hasApiChanges) 대상에서는 제외
 				existingTender.setAnnouncementDate(dto.getAnnouncementDate());
 				existingTender.setDeadline(dto.getDeadline());
-				existingTender.setLastSyncedAt(LocalDateTime.now());
+				existingTender.refreshListOrder(now);
+				existingTender.refreshStatus(now);
+				existingTender.setLastSyncedAt(now);
 				existingTender.setActive(true); // API에서 조회되었으므로 활성 상태
 
 				tenderRepository.save(existingTender);
-				updatedCount.incrementAndGet();
+				if (changed) {
+					updatedIds.add(existingTender.getId());
+				}
 			} else {
 				Tender newTender = Tender.fromDto(dto);
 				tenderRepository.save(newTender);
-				newCount.incrementAndGet();
+				createdIds.add(newTender.getId());
 			}
 		}
 
 		// 비활성화 처리: API에서 더 이상 조회되지 않지만 DB에는 있는 항목
-		AtomicInteger deactivatedCount = new AtomicInteger(0);
 		Set<String> cltrMnmtNosToDeactivate = existingCltrMnmtNosInDb.stream()
 				.filter(mnmtNo -> !cltrMnmtNosFromApi.contains(mnmtNo)).collect(Collectors.toSet());
 
@@ -304,14 +331,34 @@ public class OnbidSyncService implements ApplicationRunner {
 			tendersToDeactivate.forEach(t -> {
 				if (t.isActive()) { // 이미 비활성화된 것은 스킵
 					t.setActive(false);
-					deactivatedCount.incrementAndGet();
+					deactivatedIds.add(t.getId());
 				}
 			});
 			tenderRepository.saveAll(tendersToDeactivate);
 		}
 
-		log.info("DB sync summary - New: {}, Updated: {}, Deactivated: {}", newCount.get(), updatedCount.get(),
-				deactivatedCount.get());
-		return apiTenders.size(); // 동기화 처리된 API 항목 수 반환 (주요 지표는 아님)
+		log.info("DB sync summary - New: {}, Updated: {}, Deactivated: {}", createdIds.size(), updatedIds.size(),
+				deactivatedIds.size());
+		TenderSyncEvent syncEvent = new TenderSyncEvent(createdIds, updatedIds, deactivatedIds, now);
+		changeLogService.record(syncEvent); // 변경 피드용 로그 (같은 트랜잭션에서 커밋)
+		return syncEvent;
+	}
+
+	// 검색/상태에 영향을 주는 필드가 실제로 바뀌었는지 (재활성화 포함)
+	private boolean hasApiChanges(Tender tender, TenderResponseDTO dto) {
+		return !tender.isActive()
+				|| !Objects.equals(tender.getTenderId(), dto.getTenderId())
+				|| !Objects.equals(tender.getPbctNo(), dto.getPbctNo())
+				|| !Objects.equals(tender.getCltrHstrNo(), dto.getCltrHstrNo())
+				|| !Objects.equals(tender.getTenderTitle(), dto.getTenderTitle())
+				|| !Objects.equals(tender.getOrganization(), dto.getOrganization())
+				|| !Objects.equals(tender.getBidNumber(), dto.getBidNumber())
+				|| !Objects.equals(tender.getGoodsName(), dto.getGoodsName())
+				|| !Objects.equals(tender.getCategoryFullName(), dto.getCategoryFullName())
+				|| !Objects.equals(tender.getAddress(), dto.getAddress())
+				|| !Objects.equals(tender.getRoadAddress(), dto.getRoadAddress())
+				|| !Objects.equals(tender.getApslAsesAvgAmt(), dto.getApslAsesAvgAmt())
+				|| !Objects.equals(tender.getAnnouncementDate(), dto.getAnnouncementDate())
+				|| !Objects.equals(tender.getDeadline(), dto.getDeadline());
 	}
 }
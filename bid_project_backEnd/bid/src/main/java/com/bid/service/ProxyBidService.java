@@ -0,0 +1,195 @@
+package com.bid.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.bid.bidding.BidRules;
+import com.bid.bidding.BidSequencer;
+import com.bid.dto.request.ProxyBidRequestDTO;
+import com.bid.dto.response.ProxyBidResponseDTO;
+import com.bid.entity.Bid;
+import com.bid.entity.ProxyBid;
+import com.bid.entity.Tender;
+import com.bid.event.TenderBidPlacedEvent;
+import com.bid.event.TenderChangePublisher;
+import com.bid.repository.BidRepository;
+import com.bid.repository.ProxyBidRepository;
+import com.bid.repository.TenderRepository;
+import com.bid.repository.UserRepository;
+
+import lombok.AllArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 자동(대리) 입찰.
+ * 사용자는 공고마다 최고가를 맡겨 두고, 가격이 바뀔 때(수동 입찰 커밋 직전, 자동 입찰 설정 시) 같은 트랜잭션 안에서
+ * 경쟁하는 최고가들을 한 번에 해소합니다. 우선순위(최고가 내림차순, 먼저 설정한 순) 앞의 두 건만 보면 되므로
+ * 자동 입찰이 몇 건이든 해소 비용은 같고, 결과는 최소 단위만큼만 올린 Bid 행 몇 개입니다.
+ * 공고 행 잠금(조건부 UPDATE / findByIdForUpdate) 안에서 실행되므로 같은 공고의 해소는 한 번에 하나씩입니다.
+ * 시퀀서(bid.sequencer.enabled=true)는 트랜잭션 밖에서 가격을 정하므로 자동 입찰을 쓰지 않습니다.
+ * 새 설정은 거절하고, 이전에 저장된 자동 입찰은 기동 시 모두 비활성화합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ProxyBidService {
+
+	private final TenderRepository tenderRepository;
+	private final UserRepository userRepository;
+	private final BidRepository bidRepository;
+	private final ProxyBidRepository proxyBidRepository;
+	private final TenderChangePublisher changePublisher;
+	private final BidSequencer bidSequencer;
+	private final TenderBidHistoryService tenderBidHistoryService;
+
+	@Value("${bid.proxy.increment:1000}")
+	private long increment; // 자동 입찰이 한 번에 올리는 최소 단위
+
+	@Transactional
+	public ProxyBidResponseDTO setProxyBid(Long userId, ProxyBidRequestDTO request) {
+		if (bidSequencer.isEnabled()) {
+			// 시퀀서는 가격을 메모리에서 판단하므로 DB 트랜잭션 안의 해소와 섞을 수 없습니다.
+			throw new IllegalArgumentException("현재 자동 입찰을 사용할 수 없습니다.");
+		}
+		Tender tender = tenderRepository.findByIdForUpdate(request.getTenderId())
+				.orElseThrow(() -> new IllegalArgumentException("존재하지 않는 입찰 공고입니다."));
+		LocalDateTime now = LocalDateTime.now();
+		// 최고가 자체가 지금 낼 수 있는 입찰이어야 합니다.
+		BidRules.check(tender.getAnnouncementDate(), tender.getDeadline(), tender.getMinBidPrice(),
+				tender.getInitialOpenPriceFrom(), request.getMaxPrice(), now);
+
+		ProxyBid proxyBid = proxyBidRepository.findByTender_IdAndUser_UserId(tender.getId(), userId)
+				.orElseGet(() -> ProxyBid.builder()
+						.tender(tender)
+						.user(userRepository.getReferenceById(userId))
+						.build());
+		if (!request.getMaxPrice().equals(proxyBid.getMaxPrice()) || !proxyBid.isActive()) {
+			proxyBid.setMaxPrice(request.getMaxPrice());
+			proxyBid.setCreatedAt(now);
+		}
+		proxyBid.setActive(true);
+		proxyBidRepository.save(proxyBid);
+
+		Long leaderUserId = bidRepository.findFirstByTender_IdOrderByBidPriceDescBidIdAsc(tender.getId())
+				.map(bid -> bid.getUser().getUserId())
+				.orElse(null);
+		Resolution resolution = resolve(tender, leaderUserId, tender.getMinBidPrice());
+		boolean leading = userId.equals(resolution.leaderUserId);
+
+		return ProxyBidResponseDTO.builder()
+				.tenderId(tender.getTenderId())
+				.maxPrice(proxyBid.getMaxPrice())
+				.active(proxyBid.isActive())
+				.leading(leading)
+				.updatedMinBidPrice(resolution.price)
+				.message(leading ? "자동 입찰이 설정되었습니다. 현재 최고 입찰자입니다." : "자동 입찰이 설정되었지만 더 높은 자동 입찰이 있습니다.")
+				.build();
+	}
+
+	// 시퀀서 경로에서는 해소가 불리지 않으므로, 켜진 채 남은 자동 입찰이 대신 입찰하는 것처럼 보이지 않게 끕니다.
+	@EventListener(ApplicationReadyEvent.class)
+	@Transactional
+	public void deactivateWhenSequenced() {
+		if (!bidSequencer.isEnabled()) {
+			return;
+		}
+		int deactivated = proxyBidRepository.deactivateAllActive();
+		if (deactivated > 0) {
+			log.warn("Bid sequencer is enabled; deactivated {} stored proxy bids.", deactivated);
+		}
+	}
+
+	@Transactional
+	public boolean cancelProxyBid(Long userId, Long tenderId) {
+		return proxyBidRepository.findByTender_IdAndUser_UserId(tenderId, userId)
+				.filter(ProxyBid::isActive)
+				.map(proxyBid -> {
+					proxyBid.setActive(false);
+					return true;
+				})
+				.orElse(false);
+	}
+
+	// 수동 입찰이 공고 가격을 올린 직후, 같은 트랜잭션에서 (조건부 UPDATE 로 공고 행이 잠긴 상태) 호출합니다.
+	@Transactional(propagation = Propagation.MANDATORY)
+	public long resolveAfterBid(Tender tender, Long bidderUserId, long bidPrice) {
+		return resolve(tender, bidderUserId, bidPrice).price;
+	}
+
+	private Resolution resolve(Tender tender, Long leaderUserId, Long currentPrice) {
+		boolean hasBids = currentPrice != null && currentPrice != 0L;
+		long price = hasBids ? currentPrice : 0L;
+		List<ProxyBid> contenders = proxyBidRepository.findContenders(tender.getId(), price, PageRequest.of(0, 2));
+		if (contenders.isEmpty()) {
+			// 해소할 경쟁은 없어도 방금 수동 입찰로 최고가를 넘어선 자동 입찰은 정리해야 합니다.
+			proxyBidRepository.deactivateExhausted(tender.getId(), price);
+			return new Resolution(price, leaderUserId);
+		}
+		ProxyBid first = contenders.get(0);
+		ProxyBid second = contenders.size() > 1 ? contenders.get(1) : null;
+		Long leader = leaderUserId;
+
+		if (second == null) {
+			// 혼자 남은 자동 입찰: 선두가 아니면 현재 가격을 한 단위만 넘깁니다.
+			if (!first.getUser().getUserId().equals(leaderUserId)) {
+				long openingPrice = tender.getInitialOpenPriceFrom() != null ? Math.max(tender.getInitialOpenPriceFrom(), 1L) : 1L;
+				long target = Math.min(first.getMaxPrice(), hasBids ? price + increment : openingPrice);
+				if (emit(tender, first, target)) {
+					price = target;
+					leader = first.getUser().getUserId();
+				}
+			}
+		} else if (second.getMaxPrice().equals(first.getMaxPrice())) {
+			// 최고가가 같으면 먼저 설정한 쪽이 그 최고가로 선두가 되고, 다른 쪽은 더 올릴 수 없습니다.
+			if (emit(tender, first, first.getMaxPrice())) {
+				price = first.getMaxPrice();
+				leader = first.getUser().getUserId();
+			}
+		} else {
+			// 두 번째는 자기 최고가까지 올라갔다가 밀리고, 첫 번째는 그보다 한 단위 위(최고가 한도)에서 멈춥니다.
+			if (emit(tender, second, second.getMaxPrice())) {
+				price = second.getMaxPrice();
+				leader = second.getUser().getUserId();
+			}
+			long target = Math.min(first.getMaxPrice(), price + increment);
+			if (target > price && emit(tender, first, target)) {
+				price = target;
+				leader = first.getUser().getUserId();
+			}
+		}
+		proxyBidRepository.deactivateExhausted(tender.getId(), price);
+		return new Resolution(price, leader);
+	}
+
+	// 자동 입찰 한 건을 Bid 행으로 남기고 공고 가격을 올립니다. 가격 규칙(최초 최저 입찰가 등)에 맞지 않으면 false
+	private boolean emit(Tender tender, ProxyBid proxyBid, long bidPrice) {
+		if (tenderRepository.raiseMinBidPrice(tender.getId(), bidPrice) == 0) {
+			return false;
+		}
+		Bid savedBid = bidRepository.save(Bid.builder()
+				.tender(tender)
+				.user(proxyBid.getUser())
+				.bidPrice(bidPrice)
+				.bidTime(LocalDateTime.now())
+				.build());
+		tenderBidHistoryService.recordBid(savedBid);
+		changePublisher.publishAfterCommit(new TenderBidPlacedEvent(tender.getId(), tender.getCltrMnmtNo(), bidPrice));
+		log.debug("Proxy bid emitted: tender={}, user={}, price={}", tender.getId(), proxyBid.getUser().getUserId(), bidPrice);
+		return true;
+	}
+
+	@AllArgsConstructor
+	private static class Resolution {
+		private final long price;
+		private final Long leaderUserId; // 해소 후 선두 (입찰이 없으면 null)
+	}
+}
@@ -0,0 +1,105 @@
+package com.bid.service;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.bid.cache.TenderLookupCache;
+import com.bid.dto.projection.BidHistoryView;
+import com.bid.dto.response.BidHistoryItemDTO;
+import com.bid.dto.response.TenderBidHistoryResponse;
+import com.bid.entity.Bid;
+import com.bid.entity.TenderBidStats;
+import com.bid.repository.BidRepository;
+import com.bid.repository.TenderBidStatsRepository;
+import com.bid.repository.TenderBidderRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 공고별 입찰 내역(키셋 페이지)과 집계(입찰 수/최고가/고유 입찰자/마지막 입찰 시각).
+ * 집계는 입찰을 저장하는 트랜잭션에서 tender_bid_stats 한 행을 증가시켜 유지하고, 읽을 때는 그 행만 봅니다.
+ * 고유 입찰자는 tender_bidders 에 (공고, 사용자)를 INSERT IGNORE 해서 새로 들어간 경우만 셉니다.
+ * (기존 입찰을 잠금 없이 조회하면 같은 사용자의 동시 입찰이 서로를 보지 못해 두 번 세어짐)
+ * (시퀀서 원장은 같은 집계 SQL(TenderBidStatsSql)을 배치 단위로 BidLedger 에서 직접 실행합니다.)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TenderBidHistoryService {
+
+	public static final int MAX_PAGE_SIZE = 100;
+
+	private final BidRepository bidRepository;
+	private final TenderBidStatsRepository bidStatsRepository;
+	private final TenderBidderRepository tenderBidderRepository;
+	private final TenderLookupCache tenderLookupCache;
+
+	// 방금 저장한 입찰 한 건을 집계에 반영 (같은 트랜잭션)
+	@Transactional(propagation = Propagation.MANDATORY)
+	public void recordBid(Bid savedBid) {
+		Long tenderId = savedBid.getTender().getId();
+		boolean newBidder = tenderBidderRepository.addBidder(tenderId, savedBid.getUser().getUserId()) > 0;
+		bidStatsRepository.recordBids(tenderId, 1, savedBid.getBidPrice(), newBidder ? 1 : 0, savedBid.getBidTime());
+	}
+
+	@Transactional(readOnly = true)
+	public TenderBidHistoryResponse getHistory(String cltrMnmtNo, Long cursor, int size) {
+		Long tenderId = tenderLookupCache.findId(cltrMnmtNo)
+				.orElseThrow(() -> new NoSuchElementException("Tender not found with CLTR_MNMT_NO: " + cltrMnmtNo));
+		int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+
+		List<BidHistoryView> rows = bidRepository.findHistory(tenderId, cursor != null ? cursor : Long.MAX_VALUE,
+				PageRequest.of(0, pageSize + 1));
+		boolean hasMore = rows.size() > pageSize;
+		if (hasMore) {
+			rows = rows.subList(0, pageSize);
+		}
+		List<BidHistoryItemDTO> bids = rows.stream()
+				.map(row -> new BidHistoryItemDTO(row.getBidId(), row.getBidPrice(), row.getBidTime(), maskUsername(row.getUsername())))
+				.toList();
+		Long nextCursor = bids.isEmpty() ? cursor : bids.get(bids.size() - 1).getBidId();
+
+		TenderBidStats stats = bidStatsRepository.findById(tenderId).orElse(null);
+		return new TenderBidHistoryResponse(cltrMnmtNo,
+				stats != null ? stats.getBidCount() : 0L,
+				stats != null ? stats.getTopPrice() : null,
+				stats != null ? stats.getUniqueBidders() : 0L,
+				stats != null ? stats.getLastBidTime() : null,
+				bids, nextCursor, hasMore);
+	}
+
+	// 집계/입찰자 테이블을 새로 만든 배포에서 기존 입찰을 한 번 채웁니다.
+	@EventListener(ApplicationReadyEvent.class)
+	@Transactional
+	public void backfillOnStartup() {
+		if (bidRepository.count() == 0) {
+			return;
+		}
+		if (tenderBidderRepository.count() == 0) {
+			long startTime = System.currentTimeMillis();
+			int bidders = tenderBidderRepository.backfill();
+			log.info("Tender bidders backfilled in {}ms. Rows: {}", System.currentTimeMillis() - startTime, bidders);
+		}
+		if (bidStatsRepository.count() == 0) {
+			long startTime = System.currentTimeMillis();
+			int tenders = bidStatsRepository.backfill();
+			log.info("Tender bid stats backfilled in {}ms. Tenders: {}", System.currentTimeMillis() - startTime, tenders);
+		}
+	}
+
+	// 앞 두 글자만 남기고 가립니다. (abcdef → ab****)
+	private static String maskUsername(String username) {
+		if (username == null || username.length() <= 2) {
+			return "**";
+		}
+		return username.substring(0, 2) + "*".repeat(username.length() - 2);
+	}
+}
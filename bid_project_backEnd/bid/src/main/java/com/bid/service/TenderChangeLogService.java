@@ -0,0 +1,131 @@
+package com.bid.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.bid.dto.projection.TenderFieldSet;
+import com.bid.dto.response.TenderChangeDTO;
+import com.bid.dto.response.TenderChangeFeedResponse;
+import com.bid.dto.response.TenderResponseDTO;
+import com.bid.entity.TenderChange;
+import com.bid.entity.TenderChangeType;
+import com.bid.entity.TenderSyncRun;
+import com.bid.event.TenderSyncEvent;
+import com.bid.exception.ChangeFeedExpiredException;
+import com.bid.repository.TenderChangeRepository;
+import com.bid.repository.TenderRepository;
+import com.bid.repository.TenderSyncRunRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 온비드 동기화 변경 로그와 변경 피드(GET /api/tenders/changes).
+ * 변경이 있었던 동기화마다 세대(TenderSyncRun)를 하나 만들고 신규/변경/비활성화된 공고를 한 줄씩 남깁니다.
+ * 미러 클라이언트는 마지막으로 받은 세대 이후의 항목만 변경 id 키셋으로 이어 받습니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TenderChangeLogService {
+
+	public static final int MAX_PAGE_SIZE = 1000;
+
+	private final TenderSyncRunRepository syncRunRepository;
+	private final TenderChangeRepository changeRepository;
+	private final TenderRepository tenderRepository;
+
+	@Value("${tender.changes.retention-days:30}")
+	private int retentionDays;
+
+	// 동기화 트랜잭션 안에서 호출: 공고 변경과 변경 로그가 함께 커밋되거나 함께 롤백됩니다.
+	@Transactional
+	public void record(TenderSyncEvent event) {
+		if (event.isEmpty()) {
+			return;
+		}
+		TenderSyncRun run = syncRunRepository.save(TenderSyncRun.builder()
+				.syncedAt(event.getSyncedAt())
+				.createdCount(event.getCreatedIds().size())
+				.updatedCount(event.getUpdatedIds().size())
+				.deactivatedCount(event.getDeactivatedIds().size())
+				.build());
+
+		List<TenderChange> changes = new ArrayList<>();
+		addChanges(changes, run, event.getCreatedIds(), TenderChangeType.CREATED);
+		addChanges(changes, run, event.getUpdatedIds(), TenderChangeType.UPDATED);
+		addChanges(changes, run, event.getDeactivatedIds(), TenderChangeType.DEACTIVATED);
+		changeRepository.saveAll(changes);
+		log.info("Tender change log generation {} recorded. Changes: {}", run.getId(), changes.size());
+	}
+
+	@Transactional(readOnly = true)
+	public TenderChangeFeedResponse getChanges(long since, Long cursor, int limit, TenderFieldSet fieldSet) {
+		long purgedThrough = syncRunRepository.findPurgedThroughGeneration().orElse(0L);
+		if (since < purgedThrough) {
+			throw new ChangeFeedExpiredException("세대 " + since + " 이후 변경 로그 일부가 보관 기간이 지나 삭제되었습니다. (삭제된 세대: ~"
+					+ purgedThrough + ")");
+		}
+		// 세대를 먼저 읽어야 이 값을 since 로 쓰는 다음 호출이 읽는 사이 커밋된 변경을 놓치지 않습니다.
+		long generation = syncRunRepository.findLatestGeneration().orElse(0L);
+		int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+		long afterId = cursor != null ? cursor : 0L;
+
+		List<TenderChange> rows = changeRepository.findChanges(since, afterId, PageRequest.of(0, pageSize + 1));
+		boolean hasMore = rows.size() > pageSize;
+		if (hasMore) {
+			rows = rows.subList(0, pageSize);
+		}
+
+		// 공고 데이터는 항목마다가 아니라 페이지 단위로 한 번에 현재 값을 읽습니다. (같은 공고가 여러 세대에 나와도 한 번)
+		Map<Long, TenderResponseDTO> tenders = new HashMap<>();
+		List<Long> tenderIds = rows.stream().map(TenderChange::getTenderId).distinct().toList();
+		if (!tenderIds.isEmpty()) {
+			for (Object row : tenderRepository.findByIdIn(tenderIds, fieldSet.getType())) {
+				tenders.put(fieldSet.idOf(row), fieldSet.toDto(row));
+			}
+		}
+
+		List<TenderChangeDTO> changes = new ArrayList<>(rows.size());
+		for (TenderChange change : rows) {
+			TenderResponseDTO tender = tenders.get(change.getTenderId());
+			changes.add(new TenderChangeDTO(change.getId(), change.getGeneration(), change.getChangeType(),
+					tender != null ? tender.getCltrMnmtNo() : null, change.getChangedAt(),
+					change.getChangeType() != TenderChangeType.DEACTIVATED ? tender : null));
+		}
+		Long nextCursor = rows.isEmpty() ? cursor : rows.get(rows.size() - 1).getId();
+		return new TenderChangeFeedResponse(generation, changes, nextCursor, hasMore);
+	}
+
+	// 매일 새벽 보관 기간이 지난 세대의 변경 로그를 지웁니다. (세대 행은 삭제 표시만 남겨 410 판단에 사용)
+	@Scheduled(cron = "${tender.changes.purge-cron:0 30 4 * * *}")
+	@Transactional
+	public void purgeExpired() {
+		LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+		syncRunRepository.findLastExpiredGeneration(cutoff).ifPresent(generation -> {
+			int deleted = changeRepository.deleteThrough(generation);
+			syncRunRepository.markPurgedThrough(generation);
+			log.info("Tender change log purged through generation {}. Deleted: {}", generation, deleted);
+		});
+	}
+
+	private static void addChanges(List<TenderChange> changes, TenderSyncRun run, List<Long> tenderIds, TenderChangeType type) {
+		for (Long tenderId : tenderIds) {
+			changes.add(TenderChange.builder()
+					.generation(run.getId())
+					.tenderId(tenderId)
+					.changeType(type)
+					.changedAt(run.getSyncedAt())
+					.build());
+		}
+	}
+}
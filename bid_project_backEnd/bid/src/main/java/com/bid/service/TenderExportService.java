@@ -0,0 +1,146 @@
+package com.bid.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+
+import org.springframework.stereotype.Service;
+
+import com.bid.dto.projection.TenderSummaryView;
+import com.bid.dto.response.TenderResponseDTO;
+import com.bid.repository.TenderRepository;
+import com.bid.search.TenderIdCursor;
+import com.bid.search.TenderSearchIndex;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 상세 검색 결과 전체를 NDJSON / CSV 로 내려보냅니다.
+ * 대상 id 는 /search 와 같은 검색 경로의 앞으로만 읽는 커서(TenderService.openExportCursor)로 한 페이지씩 받고,
+ * 페이지마다 id 와 행을 검색 시간 예산이 걸린 짧은 읽기 전용 트랜잭션으로 읽어 바로 응답에 씁니다.
+ * 느린 클라이언트가 커넥션을 오래 붙잡지 않고, 메모리는 결과 크기와 상관없이 한 페이지입니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TenderExportService {
+
+	private static final String[] CSV_HEADER = { "cltrMnmtNo", "pbctNo", "tenderTitle", "organization", "categoryFullName",
+			"address", "roadAddress", "apslAsesAvgAmt", "minBidPrice", "announcementDate", "deadline", "status", "bidNumber",
+			"inquiryCount" };
+
+	private final TenderRepository tenderRepository;
+	private final TenderQueryGuard queryGuard;
+	private final ObjectMapper objectMapper;
+
+	@Getter
+	public enum Format {
+		NDJSON("application/x-ndjson", "ndjson"),
+		CSV("text/csv;charset=UTF-8", "csv");
+
+		private final String contentType;
+		private final String extension;
+
+		Format(String contentType, String extension) {
+			this.contentType = contentType;
+			this.extension = extension;
+		}
+
+		// 비어 있으면 NDJSON. 알 수 없는 값은 IllegalArgumentException
+		public static Format from(String format) {
+			if (format == null || format.isBlank()) {
+				return NDJSON;
+			}
+			return valueOf(format.trim().toUpperCase(Locale.ROOT));
+		}
+	}
+
+	// StreamingResponseBody 의 작업 스레드에서 호출됩니다. 트랜잭션은 페이지를 읽는 동안만 열리고,
+	// 클라이언트가 다운로드를 끊으면 쓰기에서 IOException 이 나 다음 페이지를 읽지 않고 끝납니다.
+	// 응답을 시작한 뒤의 시간 초과는 상태 코드로 알릴 수 없으므로 스트림을 끊는 것으로 끝납니다.
+	public void export(TenderIdCursor cursor, Format format, OutputStream out) throws IOException {
+		long startTime = System.currentTimeMillis();
+		Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+		long count = 0;
+		if (format == Format.CSV) {
+			writer.write('\uFEFF'); // 엑셀이 UTF-8 로 열도록 BOM
+			writeCsvRow(writer, CSV_HEADER);
+		}
+		List<TenderSummaryView> rows;
+		while ((rows = nextRows(cursor)) != null) {
+			for (TenderSummaryView row : rows) {
+				TenderResponseDTO dto = TenderResponseDTO.fromSummary(row);
+				if (format == Format.CSV) {
+					writeCsvRow(writer, toCsvValues(dto));
+				} else {
+					writer.write(objectMapper.writeValueAsString(dto));
+					writer.write('\n');
+				}
+				count++;
+			}
+		}
+		writer.flush();
+		log.info("Tender export ({}) finished in {}ms. Rows: {}", format, System.currentTimeMillis() - startTime, count);
+	}
+
+	// 커서의 다음 페이지 id 와 그 행을 한 번의 검색 시간 예산 안에서 읽습니다. 커서가 끝나면 null
+	private List<TenderSummaryView> nextRows(TenderIdCursor cursor) {
+		return queryGuard.withinSearchBudget(() -> {
+			List<Long> ids;
+			try {
+				ids = cursor.next();
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+			if (ids.isEmpty()) {
+				return null;
+			}
+			return TenderSearchIndex.orderByIds(ids, tenderRepository.findByIdIn(ids, TenderSummaryView.class),
+					TenderSummaryView::getId);
+		});
+	}
+
+	private static String[] toCsvValues(TenderResponseDTO dto) {
+		return new String[] { dto.getCltrMnmtNo(), str(dto.getPbctNo()), dto.getTenderTitle(), dto.getOrganization(),
+				dto.getCategoryFullName(), dto.getAddress(), dto.getRoadAddress(), str(dto.getApslAsesAvgAmt()),
+				str(dto.getMinBidPrice()), str(dto.getAnnouncementDate()), str(dto.getDeadline()), dto.getStatus(),
+				dto.getBidNumber(), str(dto.getInquiryCount()) };
+	}
+
+	private static void writeCsvRow(Writer writer, String[] values) throws IOException {
+		for (int i = 0; i < values.length; i++) {
+			if (i > 0) {
+				writer.write(',');
+			}
+			writeCsvValue(writer, values[i]);
+		}
+		writer.write("\r\n");
+	}
+
+	// RFC 4180: 쉼표/따옴표/줄바꿈이 있으면 따옴표로 감싸고 따옴표는 두 번
+	private static void writeCsvValue(Writer writer, String value) throws IOException {
+		if (value == null) {
+			return;
+		}
+		if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+			writer.write(value);
+			return;
+		}
+		writer.write('"');
+		writer.write(value.replace("\"", "\"\""));
+		writer.write('"');
+	}
+
+	private static String str(Object value) {
+		return value != null ? value.toString() : null;
+	}
+}
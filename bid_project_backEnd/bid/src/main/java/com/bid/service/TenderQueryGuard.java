@@ -0,0 +1,115 @@
+package com.bid.service;
+
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionTimedOutException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.bid.dto.request.TenderSearchCondition;
+import com.bid.exception.SearchRejectedException;
+import com.bid.exception.SearchTimeoutException;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 목록/검색 조회의 가드레일과 시간 예산.
+ * - 실행 전: 너무 짧은 키워드(전체 LIKE 스캔), 너무 깊은 검색 OFFSET, 너무 큰 페이지는 바로 거절 (400)
+ *   (OFFSET 한도는 검색에만 적용합니다. 기본 목록은 정렬 키 인덱스를 따라 읽으므로 깊은 페이지도 허용)
+ * - 실행 중: 엔드포인트별 타임아웃을 건 읽기 전용 트랜잭션 안에서 조회합니다. 스프링이 남은 시간을 JDBC query timeout 으로 넘겨
+ *   드라이버가 시간을 넘긴 문장을 DB 에서 취소하고, 호출자는 SearchTimeoutException(503)을 받습니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TenderQueryGuard {
+
+	private final PlatformTransactionManager transactionManager;
+	private final MeterRegistry meterRegistry;
+
+	@Value("${tender.search.timeout-seconds:3}")
+	private int searchTimeoutSeconds;
+
+	@Value("${tender.list.timeout-seconds:2}")
+	private int listTimeoutSeconds;
+
+	@Value("${tender.search.min-keyword-length:2}")
+	private int minKeywordLength;
+
+	@Value("${tender.search.max-offset:5000}")
+	private int maxOffset;
+
+	@Value("${tender.search.max-page-size:100}")
+	private int maxPageSize;
+
+	private TransactionTemplate searchTransaction;
+	private TransactionTemplate listTransaction;
+
+	@PostConstruct
+	void init() {
+		searchTransaction = readOnlyTransaction(searchTimeoutSeconds);
+		listTransaction = readOnlyTransaction(listTimeoutSeconds);
+	}
+
+	public void checkSearch(TenderSearchCondition condition, int pageNo, int numOfRows) {
+		checkKeyword(condition);
+		checkPage(pageNo, numOfRows);
+		if ((long) (pageNo - 1) * numOfRows > maxOffset) {
+			throw reject("offset_too_deep", "앞에서부터 " + maxOffset + "건을 넘는 페이지는 조회할 수 없습니다. 조건을 좁혀 주세요.");
+		}
+	}
+
+	// 페이지가 없는 조회(내보내기 등)도 같은 최소 키워드 길이를 적용
+	public void checkKeyword(TenderSearchCondition condition) {
+		if (condition.hasKeyword() && condition.getCltrNm().trim().length() < minKeywordLength) {
+			throw reject("keyword_too_short", "검색어는 " + minKeywordLength + "자 이상이어야 합니다.");
+		}
+	}
+
+	// 목록(정렬 키 인덱스 순서 조회)은 페이지 크기와 번호 범위만 확인
+	public void checkPage(int pageNo, int numOfRows) {
+		if (numOfRows < 1 || numOfRows > maxPageSize) {
+			throw reject("page_too_large", "numOfRows 는 1 ~ " + maxPageSize + " 사이여야 합니다.");
+		}
+		if (pageNo < 1) {
+			throw reject("invalid_page", "pageNo 는 1 이상이어야 합니다.");
+		}
+	}
+
+	public <T> T withinSearchBudget(Supplier<T> query) {
+		return withinBudget(searchTransaction, "search", query);
+	}
+
+	public <T> T withinListBudget(Supplier<T> query) {
+		return withinBudget(listTransaction, "list", query);
+	}
+
+	private <T> T withinBudget(TransactionTemplate transaction, String endpoint, Supplier<T> query) {
+		try {
+			return transaction.execute(status -> query.get());
+		} catch (QueryTimeoutException | TransactionTimedOutException e) {
+			meterRegistry.counter("tender.query.timeout", "endpoint", endpoint).increment();
+			log.warn("Tender {} query exceeded its time budget ({}s) and was cancelled: {}", endpoint,
+					transaction.getTimeout(), e.getMessage());
+			throw new SearchTimeoutException("조회 시간이 초과되었습니다. 조건을 좁혀 다시 시도해 주세요.", e);
+		}
+	}
+
+	private SearchRejectedException reject(String reason, String message) {
+		meterRegistry.counter("tender.query.rejected", "reason", reason).increment();
+		return new SearchRejectedException(reason, message);
+	}
+
+	private TransactionTemplate readOnlyTransaction(int timeoutSeconds) {
+		TransactionTemplate template = new TransactionTemplate(transactionManager);
+		template.setReadOnly(true);
+		template.setTimeout(timeoutSeconds);
+		return template;
+	}
+}
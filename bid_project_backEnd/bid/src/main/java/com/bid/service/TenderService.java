@@ -1,5 +1,6 @@
 package com.bid.service;
 
+import java.io.IOException;
 import java.io.StringReader;
 import java.net.URI;
 import java.time.LocalDateTime;
@@ -26,6 +27,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
@@ -34,11 +36,30 @@ import org.w3c.dom.Element;
 import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
 import org.xml.sax.InputSource;
+import com.bid.cache.TenderLookupCache;
 import com.bid.dto.OnbidItem;
+import com.bid.dto.projection.TenderFieldSet;
+import com.bid.dto.projection.TenderListOrderView;
+import com.bid.dto.request.TenderSearchCondition;
 import com.bid.dto.response.PagedTenderResponse;
+import com.bid.dto.response.TenderBatchItemDTO;
+import com.bid.dto.response.TenderFacetsResponse;
 import com.bid.dto.response.TenderResponseDTO;
+import com.bid.dto.response.TenderSuggestionDTO;
 import com.bid.entity.Tender;
+import com.bid.entity.TenderStatus;
 import com.bid.repository.TenderRepository;
+import com.bid.search.SearchHits;
+import com.bid.search.TenderColumnarSearchEngine;
+import com.bid.search.TenderFacetCounter;
+import com.bid.search.TenderIdCursor;
+import com.bid.search.TenderSearchIndex;
+import com.bid.search.TenderSuggester;
+import com.bid.util.SingleFlight;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -53,6 +74,16 @@ import lombok.extern.slf4j.Slf4j;
 public class TenderService {
 
 	private final TenderRepository tenderRepository;
+	private final TenderSearchIndex tenderSearchIndex;
+	private final TenderColumnarSearchEngine tenderColumnarSearchEngine;
+	private final TenderSuggester tenderSuggester;
+	private final TenderFacetCounter tenderFacetCounter;
+	private final TenderLookupCache tenderLookupCache;
+	private final MeterRegistry meterRegistry;
+	private final TenderQueryGuard queryGuard;
+
+	// 같은 목록/검색 요청이 동시에 몰리면 DB 조회(목록 + COUNT)를 한 번만 실행하고 결과를 나눠 받습니다.
+	private final SingleFlight<String, PagedTenderResponse> listSingleFlight = new SingleFlight<>();
 
 	@Value("${onbid.api.base-url}")
 	private String onbidApiBaseUrl;
@@ -60,66 +91,208 @@ public class TenderService {
 	@Value("${onbid.api.service-key}")
 	private String onbidApiServiceKey;
 
+	private static final int MAX_SUGGESTIONS = 20;
+
+	// 내보내기 커서 한 페이지의 id 수 (페이지마다 행을 읽고 바로 응답에 씁니다)
+	private static final int EXPORT_PAGE_SIZE = 500;
+
+	@PostConstruct
+	void registerMetrics() {
+		// 합쳐진 비율 = shared / (executed + shared)
+		FunctionCounter.builder("tender.list.singleflight", listSingleFlight, SingleFlight::getExecutions)
+				.tag("result", "executed").description("목록/검색 DB 조회를 실제로 실행한 횟수").register(meterRegistry);
+		FunctionCounter.builder("tender.list.singleflight", listSingleFlight, SingleFlight::getSharedResults)
+				.tag("result", "shared").description("진행 중인 같은 조회의 결과를 받아 간 요청 수").register(meterRegistry);
+	}
+
 	private static final DateTimeFormatter ONBID_DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
 
+	// 진행 중(최근 공고 먼저) → 예정(임박한 공고 먼저) 순서. listOrder 가 같으면 id 로 고정해 페이지 경계가 흔들리지 않게 합니다.
+	private static final Sort LIST_ORDER_SORT = Sort.by(Sort.Order.asc("listOrder"), Sort.Order.asc("id"));
+
 	public PagedTenderResponse getAllTenders(int pageNo, int numOfRows) {
-		// 1. 온비드 API 호출을 위한 URI 구성
+		return getAllTenders(null, TenderFieldSet.CARD, pageNo, numOfRows);
+	}
 
-		Pageable pageable = PageRequest.of(pageNo - 1, numOfRows, Sort.by(Sort.Direction.DESC, "announcementDate"));
+	// status 가 주어지면 저장된 상태 컬럼으로 필터링합니다. (예: 진행 중 공고만)
+	// fieldSet 프로젝션의 컬럼만 읽으므로 기본(CARD) 목록은 goodsName 을 읽지 않습니다.
+	// 기다리는 요청이 커넥션을 쥐고 있지 않도록 트랜잭션 없이 들어와, 실행하는 쪽만 시간 예산이 걸린 트랜잭션에서 조회합니다.
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public PagedTenderResponse getAllTenders(TenderStatus status, TenderFieldSet fieldSet, int pageNo, int numOfRows) {
+		queryGuard.checkPage(pageNo, numOfRows);
+		String key = "list\u0001" + status + '\u0001' + fieldSet + '\u0001' + pageNo + '\u0001' + numOfRows;
+		return listSingleFlight.execute(key, () -> queryGuard.withinListBudget(() -> {
+			Pageable pageable = PageRequest.of(pageNo - 1, numOfRows, LIST_ORDER_SORT);
 
-		Page<Tender> tenderPage = tenderRepository.findByActiveTrue(pageable);
+			Page<?> tenderPage = status == null ? tenderRepository.findByActiveTrue(pageable, fieldSet.getType())
+					: tenderRepository.findByActiveTrueAndStatus(status, pageable, fieldSet.getType());
 
-		List<TenderResponseDTO> dtoList = tenderPage.getContent().stream().map(TenderResponseDTO::fromEntity)
-				.collect(Collectors.toList());
+			return toPagedResponse(tenderPage, fieldSet, pageNo, numOfRows);
+		}));
+	}
 
-		LocalDateTime now = LocalDateTime.now();
-		dtoList.sort((dto1, dto2) -> {
-			LocalDateTime ann1 = dto1.getAnnouncementDate();
-			LocalDateTime ann2 = dto2.getAnnouncementDate();
-			if (ann1 == null && ann2 == null)
-				return 0;
-			if (ann1 == null)
-				return 1;
-			if (ann2 == null)
-				return -1;
-			boolean isDto1Started = !ann1.isAfter(now);
-			boolean isDto2Started = !ann2.isAfter(now);
-			if (isDto1Started && !isDto2Started) {
-				return -1;
-			}
-			if (!isDto1Started && isDto2Started) {
-				return 1;
-			}
-			if (isDto1Started && isDto2Started) {
-				return ann2.compareTo(ann1);
-			} else {
-				return ann1.compareTo(ann2);
-			}
-		});
+	// 진행 중이면서 hours 시간 안에 마감되는 공고 (마감 임박 순)
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public PagedTenderResponse getClosingSoonTenders(int hours, TenderFieldSet fieldSet, int pageNo, int numOfRows) {
+		queryGuard.checkPage(pageNo, numOfRows);
+		return queryGuard.withinListBudget(() -> {
+			LocalDateTime now = LocalDateTime.now();
+			Pageable pageable = PageRequest.of(pageNo - 1, numOfRows,
+					Sort.by(Sort.Order.asc("deadline"), Sort.Order.asc("id")));
+
+			Page<?> tenderPage = tenderRepository.findByActiveTrueAndStatusAndDeadlineBetween(
+					TenderStatus.IN_PROGRESS, now, now.plusHours(hours), pageable, fieldSet.getType());
 
-		return PagedTenderResponse.builder().tenders(dtoList).totalCount((int) tenderPage.getTotalElements()) // Long을
-																												// int로
-																												// 캐스팅
-				.pageNo(pageNo).numOfRows(numOfRows).build();
+			return toPagedResponse(tenderPage, fieldSet, pageNo, numOfRows);
+		});
 	}
 
 	public TenderResponseDTO getTenderDetail(String cltrMnmtNo) {
-		Tender tender = tenderRepository.findByCltrMnmtNo(cltrMnmtNo)
+		// 근거리 캐시 (없는 번호는 블룸 필터에서 바로 걸러짐)
+		return tenderLookupCache.findDetail(cltrMnmtNo)
 				.orElseThrow(() -> new NoSuchElementException("물건관리번호 " + cltrMnmtNo + "를 찾을 수 없습니다."));
+	}
 
-		return TenderResponseDTO.fromEntity(tender);
+	// 일괄 조회: 요청 순서 그대로, 없는 번호는 found=false (중복 번호는 같은 결과를 반복)
+	public List<TenderBatchItemDTO> getTenderDetails(List<String> cltrMnmtNos) {
+		Map<String, TenderResponseDTO> details = tenderLookupCache.findDetails(cltrMnmtNos);
+		return cltrMnmtNos.stream()
+				.map(no -> new TenderBatchItemDTO(no, details.containsKey(no), details.get(no)))
+				.collect(Collectors.toList());
 	}
 
+	// 자동완성은 메모리 사전에서만 답하고, 사전이 꺼져 있을 때만 물건명 접두어 DB 조회로 대신합니다. (초성 검색은 사전 전용)
+	public List<TenderSuggestionDTO> suggestTenders(String query, int limit) throws IOException {
+		if (query == null || query.isBlank()) {
+			return Collections.emptyList();
+		}
+		int size = Math.max(1, Math.min(limit, MAX_SUGGESTIONS));
+		if (tenderSuggester.isReady()) {
+			return tenderSuggester.suggest(query, size);
+		}
+		return tenderRepository.findTop20ByActiveTrueAndTenderTitleStartingWithOrderByInquiryCountDesc(query.trim()).stream()
+				.map(Tender::getTenderTitle).distinct().limit(size)
+				.map(title -> new TenderSuggestionDTO(title, TenderSuggester.TYPE_TITLE))
+				.collect(Collectors.toList());
+	}
+
+	// 패싯 건수: 조건이 없으면 증분 카운터, 키워드 없는 조건은 컬럼형 스냅샷, 키워드 조건은 /search 와 같은 Lucene 인덱스,
+	// 모두 준비되지 않았으면 DB 에서 패싯 값 조합별 GROUP BY 건수로 집계
+	// 인덱스/DB 경로는 검색과 같은 가드레일(최소 키워드 길이)과 검색 시간 예산 안에서 실행합니다.
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public TenderFacetsResponse getFacets(
+            String cltrNm, String dpslMtdCd, String sido, String sgk, String emd,
+            String goodsPriceFrom, String goodsPriceTo, String pbctBegnDtmStr, String pbctClsDtmStr,
+            TenderStatus status) {
+        TenderSearchCondition condition = toSearchCondition(cltrNm, dpslMtdCd, sido, sgk, emd,
+                goodsPriceFrom, goodsPriceTo, pbctBegnDtmStr, pbctClsDtmStr, status);
+
+        if (!condition.hasAnyFilter() && tenderFacetCounter.isReady()) {
+            return tenderFacetCounter.getCounts();
+        }
+        queryGuard.checkKeyword(condition);
+        if (!condition.hasKeyword() && tenderColumnarSearchEngine.isReady()) {
+            return tenderColumnarSearchEngine.facetCounts(condition);
+        }
+        return queryGuard.withinSearchBudget(() -> {
+            if (condition.hasKeyword() && tenderSearchIndex.isReady()) {
+                try {
+                    return tenderSearchIndex.facetCounts(condition);
+                } catch (IOException e) {
+                    log.warn("Search index facet query failed, falling back to DB: {}", e.getMessage());
+                }
+            }
+            return TenderFacetCounter.tally(tenderRepository.countFacetGroupsByCriteria(
+                    condition.getCltrNm(), condition.getOrganization(), condition.getSido(), condition.getSgk(), condition.getEmd(),
+                    condition.getMinGoodsPrice(), condition.getMaxGoodsPrice(),
+                    condition.getAnnouncementFrom(), condition.getDeadlineTo(),
+                    condition.getStatus()));
+        });
+	}
+
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
 	public PagedTenderResponse searchTenders(
             String cltrNm, String dpslMtdCd, String sido, String sgk, String emd,
             String goodsPriceFrom, String goodsPriceTo, String openPriceFrom, String openPriceTo,
             String pbctBegnDtmStr, String pbctClsDtmStr, // ✅ String으로 받아서 파싱
+            TenderStatus status, TenderFieldSet fieldSet,
             int pageNo, int numOfRows) {
 
         long startTime = System.currentTimeMillis();
 
-        Pageable pageable = PageRequest.of(pageNo - 1, numOfRows, Sort.by(Sort.Direction.DESC, "announcementDate"));
+        TenderSearchCondition condition = toSearchCondition(cltrNm, dpslMtdCd, sido, sgk, emd,
+                goodsPriceFrom, goodsPriceTo, pbctBegnDtmStr, pbctClsDtmStr, status);
+
+        // ✅ 가드레일(키워드 길이/OFFSET 깊이/페이지 크기) 위반은 실행 전에 거절
+        queryGuard.checkSearch(condition, pageNo, numOfRows);
+
+        // ✅ 정규화한 조건이 같은 동시 요청은 한 번만, 검색 시간 예산 안에서 조회
+        String key = "search\u0001" + condition.normalizedKey() + fieldSet + '\u0001' + pageNo + '\u0001' + numOfRows;
+        return listSingleFlight.execute(key,
+                () -> queryGuard.withinSearchBudget(() -> runSearch(condition, fieldSet, pageNo, numOfRows, startTime)));
+    }
 
+    private PagedTenderResponse runSearch(TenderSearchCondition condition, TenderFieldSet fieldSet, int pageNo, int numOfRows,
+            long startTime) {
+        // ✅ 키워드 없는 필터 검색은 메모리 컬럼형 스냅샷으로 처리 (비활성화/미준비 시 DB 쿼리)
+        if (!condition.hasKeyword() && tenderColumnarSearchEngine.isReady()) {
+            PagedTenderResponse response = toHitsResponse(tenderColumnarSearchEngine.search(condition, pageNo, numOfRows), fieldSet, pageNo, numOfRows);
+            log.info("searchTenders from columnar snapshot finished in {}ms. Total elements: {}",
+                    (System.currentTimeMillis() - startTime), response.getTotalCount());
+            return response;
+        }
+
+        // ✅ 키워드 검색은 Lucene 인덱스(관련도 순)로, 그 외(또는 인덱스 미준비 시)는 DB 쿼리로 처리
+        if (condition.hasKeyword() && tenderSearchIndex.isReady()) {
+            try {
+                PagedTenderResponse response = searchFromIndex(condition, fieldSet, pageNo, numOfRows);
+                log.info("searchTenders from index finished in {}ms. Total elements: {}",
+                        (System.currentTimeMillis() - startTime), response.getTotalCount());
+                return response;
+            } catch (IOException e) {
+                log.warn("Search index query failed, falling back to DB: {}", e.getMessage());
+            }
+        }
+
+        PagedTenderResponse response = searchFromDb(condition, fieldSet, pageNo, numOfRows);
+        log.info("searchTenders from DB finished in {}ms. Total elements: {}", (System.currentTimeMillis() - startTime), response.getTotalCount());
+        return response;
+    }
+
+    // 내보내기 대상 id 커서: /search 와 같은 경로(컬럼형 스냅샷 / Lucene / DB 키셋)로 목록 순서대로 EXPORT_PAGE_SIZE 씩 읽습니다.
+    // 가드레일(최소 키워드 길이)은 스트리밍을 시작하기 전에 검사하고, 검색 시간 예산은 내보내기가 페이지마다 겁니다.
+    public TenderIdCursor openExportCursor(TenderSearchCondition condition) {
+        queryGuard.checkKeyword(condition);
+        if (!condition.hasKeyword() && tenderColumnarSearchEngine.isReady()) {
+            return tenderColumnarSearchEngine.cursor(condition, EXPORT_PAGE_SIZE);
+        }
+        if (condition.hasKeyword() && tenderSearchIndex.isReady()) {
+            return tenderSearchIndex.cursor(condition, EXPORT_PAGE_SIZE);
+        }
+        return keysetCursor(condition);
+    }
+
+    // DB 대체 경로: 마지막으로 읽은 (listOrder, id) 뒤부터 한 페이지씩
+    private TenderIdCursor keysetCursor(TenderSearchCondition condition) {
+        long[] after = { Long.MIN_VALUE, 0L };
+        return () -> {
+            List<TenderListOrderView> page = tenderRepository.findIdPageByCriteria(
+                    condition.getCltrNm(), condition.getOrganization(), condition.getSido(), condition.getSgk(), condition.getEmd(),
+                    condition.getMinGoodsPrice(), condition.getMaxGoodsPrice(),
+                    condition.getAnnouncementFrom(), condition.getDeadlineTo(),
+                    condition.getStatus(), after[0], after[1], PageRequest.of(0, EXPORT_PAGE_SIZE));
+            if (!page.isEmpty()) {
+                TenderListOrderView last = page.get(page.size() - 1);
+                after[0] = last.getListOrder();
+                after[1] = last.getId();
+            }
+            return page.stream().map(TenderListOrderView::getId).toList();
+        };
+    }
+
+    // 컨트롤러의 문자열 검색 파라미터를 검색 조건으로 파싱 (목록 검색과 패싯이 같은 규칙을 씁니다)
+    public TenderSearchCondition toSearchCondition(String cltrNm, String dpslMtdCd, String sido, String sgk, String emd,
+            String goodsPriceFrom, String goodsPriceTo, String pbctBegnDtmStr, String pbctClsDtmStr, TenderStatus status) {
         // ✅ 날짜 String을 LocalDateTime으로 파싱
         LocalDateTime pbctBegnDtm = parseDateTime(pbctBegnDtmStr);
         LocalDateTime pbctClsDtm = parseDateTime(pbctClsDtmStr);
@@ -134,42 +307,70 @@ public class TenderService {
             log.warn("감정가 필드 파싱 오류: {} 또는 {}. 검색에서 제외합니다.", goodsPriceFrom, goodsPriceTo);
         }
 
+        return TenderSearchCondition.builder()
+                .cltrNm(cltrNm).organization(dpslMtdCd).sido(sido).sgk(sgk).emd(emd)
+                .minGoodsPrice(minGoodsPrice).maxGoodsPrice(maxGoodsPrice)
+                .announcementFrom(pbctBegnDtm).deadlineTo(pbctClsDtm)
+                .status(status)
+                .build();
+    }
 
-        // ✅ TenderRepository의 searchTendersByCriteria 메서드 호출
-        Page<Tender> tenderPage = tenderRepository.searchTendersByCriteria(
-                cltrNm, dpslMtdCd, sido, sgk, emd,
-                minGoodsPrice, maxGoodsPrice, 
-                pbctBegnDtm, pbctClsDtm,
-                pageable
-        );
+    private PagedTenderResponse searchFromIndex(TenderSearchCondition condition, TenderFieldSet fieldSet, int pageNo, int numOfRows) throws IOException {
+        return toHitsResponse(tenderSearchIndex.search(condition, pageNo, numOfRows), fieldSet, pageNo, numOfRows);
+    }
 
-        List<TenderResponseDTO> dtoList = tenderPage.getContent().stream()
-                .map(TenderResponseDTO::fromEntity)
+    // 검색 엔진이 돌려준 id 순서 그대로 프로젝션 행을 읽어 응답으로 변환
+    private PagedTenderResponse toHitsResponse(SearchHits hits, TenderFieldSet fieldSet, int pageNo, int numOfRows) {
+        List<?> rows = TenderSearchIndex.orderByIds(hits.getTenderIds(),
+                tenderRepository.findByIdIn(hits.getTenderIds(), fieldSet.getType()), fieldSet::idOf);
+        List<TenderResponseDTO> dtoList = rows.stream()
+                .map(fieldSet::toDto)
                 .collect(Collectors.toList());
 
-        // ✅ getAllTenders와 동일한 메모리 정렬 적용
-        LocalDateTime now = LocalDateTime.now();
-        dtoList.sort((dto1, dto2) -> {
-            LocalDateTime ann1 = dto1.getAnnouncementDate();
-            LocalDateTime ann2 = dto2.getAnnouncementDate();
-            if (ann1 == null && ann2 == null) return 0;
-            if (ann1 == null) return 1;
-            if (ann2 == null) return -1;
-            boolean isDto1Started = ann1.isBefore(now) || ann1.isEqual(now); // ann1 <= now
-            boolean isDto2Started = ann2.isBefore(now) || ann2.isEqual(now); // ann2 <= now
-            if (isDto1Started && !isDto2Started) { return -1; }
-            if (!isDto1Started && isDto2Started) { return 1; }
-            if (isDto1Started && isDto2Started) { return ann2.compareTo(ann1); }
-            else { return ann1.compareTo(ann2); }
-        });
+        return PagedTenderResponse.builder()
+                .tenders(dtoList)
+                .totalCount(hits.getTotalCount())
+                .pageNo(pageNo)
+                .numOfRows(numOfRows)
+                .build();
+    }
+
+    private PagedTenderResponse searchFromDb(TenderSearchCondition condition, TenderFieldSet fieldSet, int pageNo, int numOfRows) {
+        Pageable pageable = PageRequest.of(pageNo - 1, numOfRows, LIST_ORDER_SORT);
 
+        // ✅ fields 에 맞는 프로젝션 쿼리 호출 (CARD/SUMMARY 는 goodsName 을 읽지 않음)
+        Page<?> tenderPage = switch (fieldSet) {
+        case CARD -> tenderRepository.searchTenderCardsByCriteria(
+                condition.getCltrNm(), condition.getOrganization(), condition.getSido(), condition.getSgk(), condition.getEmd(),
+                condition.getMinGoodsPrice(), condition.getMaxGoodsPrice(),
+                condition.getAnnouncementFrom(), condition.getDeadlineTo(),
+                condition.getStatus(),
+                pageable);
+        case SUMMARY -> tenderRepository.searchTenderSummariesByCriteria(
+                condition.getCltrNm(), condition.getOrganization(), condition.getSido(), condition.getSgk(), condition.getEmd(),
+                condition.getMinGoodsPrice(), condition.getMaxGoodsPrice(),
+                condition.getAnnouncementFrom(), condition.getDeadlineTo(),
+                condition.getStatus(),
+                pageable);
+        case FULL -> tenderRepository.searchTendersByCriteria(
+                condition.getCltrNm(), condition.getOrganization(), condition.getSido(), condition.getSgk(), condition.getEmd(),
+                condition.getMinGoodsPrice(), condition.getMaxGoodsPrice(),
+                condition.getAnnouncementFrom(), condition.getDeadlineTo(),
+                condition.getStatus(),
+                pageable);
+        };
 
-        long endTime = System.currentTimeMillis();
-        log.info("searchTenders from DB finished in {}ms. Total elements: {}", (endTime - startTime), tenderPage.getTotalElements());
+        return toPagedResponse(tenderPage, fieldSet, pageNo, numOfRows);
+    }
+
+    private PagedTenderResponse toPagedResponse(Page<?> page, TenderFieldSet fieldSet, int pageNo, int numOfRows) {
+        List<TenderResponseDTO> dtoList = page.getContent().stream()
+                .map(fieldSet::toDto)
+                .collect(Collectors.toList());
 
         return PagedTenderResponse.builder()
                 .tenders(dtoList)
-                .totalCount((int) tenderPage.getTotalElements())
+                .totalCount((int) page.getTotalElements())
                 .pageNo(pageNo)
                 .numOfRows(numOfRows)
                 .build();
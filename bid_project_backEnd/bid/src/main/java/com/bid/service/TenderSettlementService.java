@@ -0,0 +1,156 @@
+package com.bid.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.bid.entity.TenderStatus;
+import com.bid.event.TenderChangePublisher;
+import com.bid.event.TenderSettledEvent;
+import com.bid.event.TenderStatusChangedEvent;
+import com.bid.repository.ProxyBidRepository;
+import com.bid.repository.TenderSettlementRepository;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 마감 정산: 마감된 공고의 낙찰 입찰을 확정해 tender_settlements 에 기록하고 TenderSettledEvent 를 발행합니다.
+ * 마감 시각은 TenderStatusScheduler 의 타이밍 휠이 이미 추적하므로 테이블을 훑지 않고, 휠이 CLOSED 로 전환한 묶음을 그대로 받습니다.
+ * 마감 직전에 판단을 통과한 입찰의 커밋(원장 포함)을 기다리도록 유예 시간 뒤에, 전용 스레드에서 묶음마다 집합 연산 한 번으로 정산하므로
+ * 같은 분에 수천 건이 마감돼도 상태 전환 틱을 붙잡지 않습니다.
+ * 실패한 묶음은 같은 스레드에서 간격을 두 배씩 늘려 다시 시도하고, 그래도 남은 공고는 주기적인 복구 순회(기동 시 포함)가 정산합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TenderSettlementService {
+
+	private static final int SETTLE_BATCH_SIZE = 1000;
+
+	private final TenderSettlementRepository settlementRepository;
+	private final ProxyBidRepository proxyBidRepository;
+	private final TransactionTemplate transactionTemplate;
+	private final TenderChangePublisher changePublisher;
+
+	@Value("${bid.settlement.grace-ms:5000}")
+	private long graceMillis;
+
+	@Value("${bid.settlement.retry-max-attempts:5}")
+	private int retryMaxAttempts;
+
+	@Value("${bid.settlement.retry-backoff-ms:10000}")
+	private long retryBackoffMillis; // 첫 재시도 간격 (이후 두 배씩)
+
+	private ScheduledExecutorService executor;
+
+	@PostConstruct
+	void start() {
+		executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "tender-settlement");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	@PreDestroy
+	void stop() throws InterruptedException {
+		executor.shutdown();
+		executor.awaitTermination(10, TimeUnit.SECONDS);
+	}
+
+	// 휠이 마감으로 전환한 묶음 (최대 1000건, 전환 트랜잭션 커밋 후)
+	@EventListener
+	public void onStatusChanged(TenderStatusChangedEvent event) {
+		if (event.getStatus() != TenderStatus.CLOSED) {
+			return;
+		}
+		List<Long> ids = List.copyOf(event.getTenderIds());
+		executor.schedule(() -> settleSafely(ids, 0), graceMillis, TimeUnit.MILLISECONDS);
+	}
+
+	// 내려가 있던 동안 마감된 공고(기동 시 상태 보정으로만 CLOSED 가 된 공고)를 같은 스레드에서 이어서 정산합니다.
+	@EventListener(ApplicationReadyEvent.class)
+	public void settleMissedOnStartup() {
+		executor.execute(this::recoverUnsettled);
+	}
+
+	// 재시도를 다 쓰고도 실패한 묶음을 주기적으로 다시 정산합니다. (정산 스레드에서 실행되므로 이벤트 정산과 겹치지 않음)
+	@Scheduled(initialDelayString = "${bid.settlement.sweep-ms:600000}", fixedDelayString = "${bid.settlement.sweep-ms:600000}")
+	public void sweepUnsettled() {
+		executor.execute(this::recoverUnsettled);
+	}
+
+	private void recoverUnsettled() {
+		long startTime = System.currentTimeMillis();
+		// 유예 시간이 지나지 않은 공고는 이벤트 정산이 맡습니다.
+		LocalDateTime closedBefore = LocalDateTime.now().minusNanos(graceMillis * 1_000_000L);
+		long afterId = 0L;
+		int settled = 0;
+		List<Long> batch;
+		do {
+			batch = settlementRepository.findUnsettledIds(TenderStatus.CLOSED, afterId, closedBefore,
+					PageRequest.of(0, SETTLE_BATCH_SIZE));
+			if (!batch.isEmpty()) {
+				afterId = batch.get(batch.size() - 1);
+				settled += settleSafely(batch, retryMaxAttempts); // 다음 순회가 다시 보므로 여기서는 재시도하지 않음
+			}
+		} while (batch.size() == SETTLE_BATCH_SIZE);
+		if (settled > 0) {
+			log.info("Missed tender settlements recovered in {}ms. Tenders: {}", System.currentTimeMillis() - startTime, settled);
+		}
+	}
+
+	// 실패하면 retry-backoff-ms × 2^attempt 뒤에 같은 묶음을 다시 시도합니다. (이미 정산된 공고는 settle 이 건너뜀)
+	private int settleSafely(List<Long> ids, int attempt) {
+		try {
+			return settle(ids);
+		} catch (RuntimeException e) {
+			if (attempt >= retryMaxAttempts) {
+				log.error("Tender settlement failed for {} tenders, leaving them to the recovery sweep: {}",
+						ids.size(), e.getMessage(), e);
+				return 0;
+			}
+			long delay = retryBackoffMillis << attempt;
+			log.warn("Tender settlement failed for {} tenders (attempt {}), retrying in {}ms: {}",
+					ids.size(), attempt + 1, delay, e.getMessage());
+			executor.schedule(() -> settleSafely(ids, attempt + 1), delay, TimeUnit.MILLISECONDS);
+			return 0;
+		}
+	}
+
+	public int settle(List<Long> ids) {
+		int total = 0;
+		for (int from = 0; from < ids.size(); from += SETTLE_BATCH_SIZE) {
+			List<Long> batch = ids.subList(from, Math.min(from + SETTLE_BATCH_SIZE, ids.size()));
+			LocalDateTime now = LocalDateTime.now();
+			List<Long> settled = transactionTemplate.execute(status -> {
+				List<Long> settleable = settlementRepository.findSettleableIds(batch, now);
+				if (!settleable.isEmpty()) {
+					settlementRepository.settle(settleable, now);
+					proxyBidRepository.deactivateByTenderIds(settleable);
+				}
+				settlementRepository.markSettled(batch);
+				return settleable;
+			});
+			if (settled != null && !settled.isEmpty()) {
+				log.info("Settled {} closed tenders.", settled.size());
+				changePublisher.publish(new TenderSettledEvent(settled));
+				total += settled.size();
+			}
+		}
+		return total;
+	}
+}
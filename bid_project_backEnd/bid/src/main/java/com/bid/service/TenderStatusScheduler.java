@@ -0,0 +1,157 @@
+package com.bid.service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.bid.dto.projection.TenderScheduleView;
+import com.bid.entity.Tender;
+import com.bid.entity.TenderStatus;
+import com.bid.event.TenderChangePublisher;
+import com.bid.event.TenderStatusChangedEvent;
+import com.bid.event.TenderSyncEvent;
+import com.bid.repository.TenderRepository;
+import com.bid.util.TimingWheel;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 공고 상태(status 컬럼)를 공고일/마감일 경계에서 전환하는 스케줄러.
+ * 남은 경계 시각을 타이밍 휠에 적재해 두고, 매 틱마다 만료된 공고만 모아 id IN (...) 일괄 UPDATE 합니다.
+ * 동기화 커밋 시(그리고 기동 시) 휠을 다시 적재하고, 내려가 있던 동안 지난 경계는 집합 연산으로 보정합니다.
+ */
+@Service
+@Slf4j
+public class TenderStatusScheduler {
+
+	private static final int UPDATE_BATCH_SIZE = 1000;
+
+	private final TenderRepository tenderRepository;
+	private final TransactionTemplate transactionTemplate;
+	private final TenderChangePublisher changePublisher;
+	private final TimingWheel<Transition> wheel;
+
+	public TenderStatusScheduler(TenderRepository tenderRepository, TransactionTemplate transactionTemplate,
+			TenderChangePublisher changePublisher,
+			@Value("${tender.status.wheel.tick-ms:1000}") long tickMillis,
+			@Value("${tender.status.wheel.size:3600}") int wheelSize) {
+		this.tenderRepository = tenderRepository;
+		this.transactionTemplate = transactionTemplate;
+		this.changePublisher = changePublisher;
+		this.wheel = new TimingWheel<>(tickMillis, wheelSize, System.currentTimeMillis());
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void onApplicationReady() {
+		reload();
+	}
+
+	@EventListener
+	public void onTenderSync(TenderSyncEvent event) {
+		if (!event.isEmpty()) {
+			reload();
+		}
+	}
+
+	// 상태를 보정한 뒤 아직 남은 전환(예정→진행 중, →마감)을 휠에 다시 적재합니다.
+	public synchronized void reload() {
+		long startTime = System.currentTimeMillis();
+		LocalDateTime now = LocalDateTime.now();
+
+		Integer reconciled = transactionTemplate.execute(status -> reconcile(now));
+
+		List<TenderScheduleView> pending = tenderRepository
+				.findSchedulesByStatusIn(EnumSet.of(TenderStatus.UPCOMING, TenderStatus.IN_PROGRESS));
+		wheel.clear();
+		for (TenderScheduleView view : pending) {
+			if (view.getStatus() == TenderStatus.UPCOMING) {
+				wheel.schedule(new Transition(view.getId(), TenderStatus.IN_PROGRESS), toEpochMilli(view.getAnnouncementDate()));
+			}
+			// 마감은 deadline "이후"부터이므로 1ms 뒤 틱에 전환
+			wheel.schedule(new Transition(view.getId(), TenderStatus.CLOSED), toEpochMilli(view.getDeadline()) + 1);
+		}
+
+		log.info("Tender status wheel reloaded in {}ms. Reconciled: {}, Pending transitions: {}",
+				System.currentTimeMillis() - startTime, reconciled, wheel.size());
+	}
+
+	@Scheduled(fixedDelayString = "${tender.status.wheel.tick-ms:1000}")
+	public void tick() {
+		List<Transition> expired = wheel.advance(System.currentTimeMillis());
+		if (expired.isEmpty()) {
+			return;
+		}
+
+		LocalDateTime now = LocalDateTime.now();
+		// EnumMap 은 선언 순서(IN_PROGRESS → CLOSED)로 순회하므로 같은 틱에 마감까지 지난 공고도 정렬 키가 먼저 옮겨집니다.
+		Map<TenderStatus, List<Long>> idsByTarget = expired.stream()
+				.collect(Collectors.groupingBy(Transition::target, () -> new EnumMap<>(TenderStatus.class),
+						Collectors.mapping(Transition::tenderId, Collectors.toList())));
+
+		idsByTarget.forEach((target, ids) -> {
+			for (int from = 0; from < ids.size(); from += UPDATE_BATCH_SIZE) {
+				List<Long> batch = ids.subList(from, Math.min(from + UPDATE_BATCH_SIZE, ids.size()));
+				List<Long> changed = transactionTemplate.execute(status -> apply(target, batch, now));
+				if (changed != null && !changed.isEmpty()) {
+					log.info("Tender status switched to {} for {} tenders.", target, changed.size());
+					changePublisher.publish(new TenderStatusChangedEvent(target, changed));
+				}
+			}
+		});
+	}
+
+	public int getPendingTransitionCount() {
+		return wheel.size();
+	}
+
+	private List<Long> apply(TenderStatus target, List<Long> ids, LocalDateTime now) {
+		if (target == TenderStatus.IN_PROGRESS) {
+			List<Long> startable = tenderRepository.findStartableIds(ids, TenderStatus.UPCOMING, now);
+			if (!startable.isEmpty()) {
+				tenderRepository.markStarted(startable, TenderStatus.IN_PROGRESS);
+			}
+			return startable;
+		}
+		List<Long> closable = tenderRepository.findClosableIds(ids, target, now);
+		if (!closable.isEmpty()) {
+			tenderRepository.updateStatus(closable, target);
+		}
+		return closable;
+	}
+
+	private int reconcile(LocalDateTime now) {
+		int changed = tenderRepository.reconcileUnknown(TenderStatus.UNKNOWN)
+				+ tenderRepository.reconcileClosed(TenderStatus.CLOSED, now)
+				+ tenderRepository.reconcileInProgress(TenderStatus.IN_PROGRESS, now)
+				+ tenderRepository.reconcileUpcoming(TenderStatus.UPCOMING, now);
+
+		// 상태와 별개로 정렬 키가 늦은 레코드(예: 컬럼 추가 이전 데이터) 보정
+		changed += tenderRepository.flipStartedListOrder(now.atZone(ZoneId.systemDefault()).toEpochSecond());
+		List<Tender> missing = tenderRepository.findTop500ByActiveTrueAndListOrderIsNull();
+		while (!missing.isEmpty()) {
+			missing.forEach(tender -> tender.refreshListOrder(now));
+			tenderRepository.saveAllAndFlush(missing);
+			changed += missing.size();
+			missing = tenderRepository.findTop500ByActiveTrueAndListOrderIsNull();
+		}
+		return changed;
+	}
+
+	private long toEpochMilli(LocalDateTime dateTime) {
+		return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+	}
+
+	private record Transition(Long tenderId, TenderStatus target) {
+	}
+}
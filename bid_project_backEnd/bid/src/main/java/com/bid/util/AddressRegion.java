@@ -0,0 +1,49 @@
+package com.bid.util;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 지번주소에서 시도 / 시군구 / 읍면동을 분리합니다. (예: "경기도 성남시 분당구 정자동 1-2" → 경기도 / 성남시 분당구 / 정자동)
+@Getter
+@AllArgsConstructor
+public class AddressRegion {
+
+	public static final AddressRegion EMPTY = new AddressRegion(null, null, null);
+
+	private final String sido;
+	private final String sgk;
+	private final String emd;
+
+	public static AddressRegion parse(String address) {
+		if (address == null || address.isBlank()) {
+			return EMPTY;
+		}
+		String[] tokens = address.trim().split("\\s+");
+		String sido = tokens[0];
+		int index = 1;
+
+		String sgk = null;
+		if (index < tokens.length && isSgk(tokens[index])) {
+			sgk = tokens[index++];
+			// 일반구가 있는 시 (예: 성남시 분당구)
+			if (sgk.endsWith("시") && index < tokens.length && tokens[index].endsWith("구")) {
+				sgk = sgk + " " + tokens[index++];
+			}
+		}
+
+		String emd = null;
+		if (index < tokens.length && isEmd(tokens[index])) {
+			emd = tokens[index];
+		}
+		return new AddressRegion(sido, sgk, emd);
+	}
+
+	private static boolean isSgk(String token) {
+		return token.endsWith("시") || token.endsWith("군") || token.endsWith("구");
+	}
+
+	private static boolean isEmd(String token) {
+		return token.endsWith("읍") || token.endsWith("면") || token.endsWith("동") || token.endsWith("가")
+				|| token.endsWith("리");
+	}
+}
@@ -0,0 +1,61 @@
+package com.bid.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// 문자열 키용 블룸 필터. "없음"은 확실하고 "있을 수 있음"은 오탐(fpp)이 있습니다. add 는 여러 스레드에서 동시에 호출해도 안전합니다.
+public class BloomFilter {
+
+	private final AtomicLongArray bits;
+	private final long bitCount;
+	private final int hashCount;
+
+	public BloomFilter(long expectedInsertions, double falsePositiveRate) {
+		long n = Math.max(1, expectedInsertions);
+		long m = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+		this.bitCount = Math.max(64, m);
+		this.hashCount = Math.max(1, (int) Math.round((double) bitCount / n * Math.log(2)));
+		this.bits = new AtomicLongArray((int) ((bitCount + 63) / 64));
+	}
+
+	public void add(String key) {
+		long hash1 = hash(key, 0x9747b28cL);
+		long hash2 = hash(key, 0x5bd1e995L);
+		for (int i = 0; i < hashCount; i++) {
+			long bit = Math.floorMod(hash1 + i * hash2, bitCount);
+			int index = (int) (bit >>> 6);
+			long mask = 1L << bit;
+			long current;
+			do {
+				current = bits.get(index);
+			} while ((current & mask) == 0 && !bits.compareAndSet(index, current, current | mask));
+		}
+	}
+
+	public boolean mightContain(String key) {
+		long hash1 = hash(key, 0x9747b28cL);
+		long hash2 = hash(key, 0x5bd1e995L);
+		for (int i = 0; i < hashCount; i++) {
+			long bit = Math.floorMod(hash1 + i * hash2, bitCount);
+			if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	// FNV-1a 변형 + 64비트 finalizer (서로 다른 seed 두 개로 이중 해싱)
+	private static long hash(String key, long seed) {
+		long h = seed ^ 0xcbf29ce484222325L;
+		for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+			h ^= b;
+			h *= 0x100000001b3L;
+		}
+		h ^= h >>> 33;
+		h *= 0xff51afd7ed558ccdL;
+		h ^= h >>> 33;
+		h *= 0xc4ceb93fe53a87cdL;
+		h ^= h >>> 33;
+		return h;
+	}
+}
@@ -0,0 +1,39 @@
+package com.bid.util;
+
+// 한글 초성 변환 (자동완성 초성 검색용)
+public final class HangulUtils {
+
+	private static final char SYLLABLE_BEGIN = '가';
+	private static final char SYLLABLE_END = '힣';
+	private static final int SYLLABLES_PER_CHOSEONG = 21 * 28;
+	private static final char[] CHOSEONG = {
+			'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ', 'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ' };
+
+	private HangulUtils() {
+	}
+
+	// 완성형 음절은 초성으로 바꾸고 나머지 문자(공백/숫자/영문/자모)는 그대로 둡니다. (예: "서울 1동" → "ㅅㅇ 1ㄷ")
+	public static String toChoseong(String text) {
+		StringBuilder builder = new StringBuilder(text.length());
+		for (int i = 0; i < text.length(); i++) {
+			char c = text.charAt(i);
+			if (c >= SYLLABLE_BEGIN && c <= SYLLABLE_END) {
+				builder.append(CHOSEONG[(c - SYLLABLE_BEGIN) / SYLLABLES_PER_CHOSEONG]);
+			} else {
+				builder.append(c);
+			}
+		}
+		return builder.toString();
+	}
+
+	// 초성(호환 자모 자음)이 하나라도 섞여 있으면 초성 검색어로 취급합니다.
+	public static boolean containsChoseong(String text) {
+		for (int i = 0; i < text.length(); i++) {
+			char c = text.charAt(i);
+			if (c >= 'ㄱ' && c <= 'ㅎ') {
+				return true;
+			}
+		}
+		return false;
+	}
+}
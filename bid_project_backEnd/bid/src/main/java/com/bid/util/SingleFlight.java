@@ -0,0 +1,64 @@
+package com.bid.util;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키의 작업이 이미 실행 중이면 새로 실행하지 않고 그 결과를 함께 받습니다. (single-flight)
+ * 결과는 실행이 끝나는 즉시 잊으므로 캐시가 아니라 "동시에 들어온 같은 요청"만 하나로 합칩니다.
+ * 실행 중 예외는 기다리던 모든 호출자에게 그대로 전달됩니다.
+ */
+public class SingleFlight<K, V> {
+
+	private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+	private final AtomicLong executions = new AtomicLong();
+	private final AtomicLong sharedResults = new AtomicLong();
+
+	public V execute(K key, Supplier<V> task) {
+		CompletableFuture<V> mine = new CompletableFuture<>();
+		CompletableFuture<V> running = inFlight.putIfAbsent(key, mine);
+		if (running != null) {
+			sharedResults.incrementAndGet();
+			return await(running);
+		}
+		executions.incrementAndGet();
+		try {
+			V value = task.get();
+			mine.complete(value);
+			return value;
+		} catch (RuntimeException | Error e) {
+			mine.completeExceptionally(e);
+			throw e;
+		} finally {
+			inFlight.remove(key, mine);
+		}
+	}
+
+	// 실제로 실행한 횟수
+	public long getExecutions() {
+		return executions.get();
+	}
+
+	// 다른 호출의 실행 결과를 받아 간 횟수 (합쳐진 요청 수)
+	public long getSharedResults() {
+		return sharedResults.get();
+	}
+
+	private static <V> V await(CompletableFuture<V> running) {
+		try {
+			return running.join();
+		} catch (CompletionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			if (cause instanceof Error error) {
+				throw error;
+			}
+			throw e;
+		}
+	}
+}
@@ -0,0 +1,104 @@
+package com.bid.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * 해시드 타이밍 휠. 한 바퀴(tickMillis * wheelSize) 안에 만료되는 항목은 슬롯에,
+ * 그 이후 항목은 overflow 큐에 두었다가 휠 범위로 들어올 때 슬롯으로 옮깁니다.
+ * advance() 는 지나간 슬롯만 훑으므로 등록된 전체 항목 수와 무관하게 만료 항목만 꺼냅니다.
+ */
+public class TimingWheel<T> {
+
+	private final long tickMillis;
+	private final ArrayDeque<Entry<T>>[] slots;
+	private final PriorityQueue<Entry<T>> overflow = new PriorityQueue<>(Comparator.comparingLong(Entry::dueTick));
+	private long currentTick;
+	private int size;
+
+	@SuppressWarnings("unchecked")
+	public TimingWheel(long tickMillis, int wheelSize, long startMillis) {
+		if (tickMillis <= 0 || wheelSize <= 1) {
+			throw new IllegalArgumentException("tickMillis 는 0보다, wheelSize 는 1보다 커야 합니다.");
+		}
+		this.tickMillis = tickMillis;
+		this.slots = new ArrayDeque[wheelSize];
+		for (int i = 0; i < wheelSize; i++) {
+			slots[i] = new ArrayDeque<>();
+		}
+		this.currentTick = startMillis / tickMillis;
+	}
+
+	// dueMillis 시점(이후 첫 틱)에 item 이 만료되도록 등록합니다. 이미 지난 시각이면 다음 틱에 만료됩니다.
+	public synchronized void schedule(T item, long dueMillis) {
+		long dueTick = Math.max(Math.floorDiv(dueMillis + tickMillis - 1, tickMillis), currentTick + 1);
+		place(new Entry<>(item, dueTick));
+		size++;
+	}
+
+	// nowMillis 까지 지나간 틱을 진행시키고 만료된 항목을 등록 순서대로 반환합니다.
+	public synchronized List<T> advance(long nowMillis) {
+		long nowTick = nowMillis / tickMillis;
+		if (nowTick <= currentTick) {
+			return List.of();
+		}
+
+		List<T> expired = new ArrayList<>();
+		long steps = Math.min(nowTick - currentTick, slots.length);
+		for (long tick = nowTick - steps + 1; tick <= nowTick; tick++) {
+			Iterator<Entry<T>> it = slots[slotOf(tick)].iterator();
+			while (it.hasNext()) {
+				Entry<T> entry = it.next();
+				if (entry.dueTick() <= nowTick) {
+					expired.add(entry.item());
+					it.remove();
+				}
+			}
+		}
+		currentTick = nowTick;
+
+		// 휠 범위로 들어온 overflow 항목을 슬롯으로 옮기고, 이미 지난 항목은 바로 만료 처리
+		while (!overflow.isEmpty() && overflow.peek().dueTick() - currentTick < slots.length) {
+			Entry<T> entry = overflow.poll();
+			if (entry.dueTick() <= currentTick) {
+				expired.add(entry.item());
+			} else {
+				slots[slotOf(entry.dueTick())].add(entry);
+			}
+		}
+
+		size -= expired.size();
+		return expired;
+	}
+
+	public synchronized void clear() {
+		for (ArrayDeque<Entry<T>> slot : slots) {
+			slot.clear();
+		}
+		overflow.clear();
+		size = 0;
+	}
+
+	public synchronized int size() {
+		return size;
+	}
+
+	private void place(Entry<T> entry) {
+		if (entry.dueTick() - currentTick < slots.length) {
+			slots[slotOf(entry.dueTick())].add(entry);
+		} else {
+			overflow.add(entry);
+		}
+	}
+
+	private int slotOf(long tick) {
+		return (int) Math.floorMod(tick, (long) slots.length);
+	}
+
+	private record Entry<T>(T item, long dueTick) {
+	}
+}
@@ -0,0 +1,40 @@
+package com.bid.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 잠금 없는 토큰 버킷. 토큰 수 대신 "버킷이 다시 가득 차는 이론상 시각"(GCRA 의 TAT) 하나를 CAS 로 갱신하므로
+ * 리필 타이머가 필요 없고, 오래 쓰지 않은 버킷은 저절로 가득 찬 상태가 됩니다.
+ * capacity 만큼 연속으로 허용하고, 이후에는 refillPerSecond 속도로 하나씩 허용합니다.
+ */
+public class TokenBucket {
+
+	private final long emissionIntervalNanos; // 토큰 하나가 다시 차는 시간
+	private final long burstNanos;            // capacity 개가 다 차는 시간
+	private final AtomicLong theoreticalArrival;
+
+	public TokenBucket(int capacity, double refillPerSecond, long nowNanos) {
+		if (capacity <= 0 || refillPerSecond <= 0) {
+			throw new IllegalArgumentException("capacity 와 refillPerSecond 는 0보다 커야 합니다.");
+		}
+		this.emissionIntervalNanos = Math.max(1L, (long) (1_000_000_000L / refillPerSecond));
+		this.burstNanos = emissionIntervalNanos * capacity;
+		this.theoreticalArrival = new AtomicLong(nowNanos);
+	}
+
+	// 토큰 하나를 쓰면 0, 부족하면 다음 토큰까지 기다려야 하는 나노초
+	public long tryConsume(long nowNanos) {
+		while (true) {
+			long current = theoreticalArrival.get();
+			long base = current - nowNanos > 0 ? current : nowNanos; // 오래 쉬었으면 지금부터 (가득 참)
+			long next = base + emissionIntervalNanos;
+			long excess = next - nowNanos - burstNanos;
+			if (excess > 0) {
+				return excess;
+			}
+			if (theoreticalArrival.compareAndSet(current, next)) {
+				return 0L;
+			}
+		}
+	}
+}
@@ -0,0 +1,108 @@
+package com.bid.bidding;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.bid.dto.request.BidRequestDTO;
+import com.bid.dto.response.BidResponseDTO;
+import com.bid.exception.BidPendingException;
+import com.bid.exception.BidRejectedException;
+
+import lombok.extern.slf4j.Slf4j;
+
+// 같은 Idempotency-Key 재시도: 처리 중인 입찰은 결과를 기다려 한 번만 처리되고, 일시적인 거절은 다시 처리되는지 확인합니다.
+@SpringBootTest(properties = "bid.idempotency.await-timeout-ms=100")
+@Slf4j
+class BidIdempotencyStoreTests {
+
+	private static final Long USER_ID = -1L; // 저장소 키에만 쓰이는 값 (DB 를 건드리지 않음)
+
+	@Autowired
+	private BidIdempotencyStore idempotencyStore;
+
+	private final BidRequestDTO request = BidRequestDTO.builder().tenderId(1L).bidPrice(10_000L).build();
+
+	@Test
+	void pendingBidKeepsTheKeyAndRetriesReceiveTheCommittedResult() {
+		String key = UUID.randomUUID().toString();
+		AtomicInteger attempts = new AtomicInteger();
+		CompletableFuture<BidResponseDTO> committed = new CompletableFuture<>();
+
+		assertThatThrownBy(() -> idempotencyStore.execute(USER_ID, key, request, () -> {
+			attempts.incrementAndGet();
+			throw new BidPendingException("처리 중", committed);
+		})).isInstanceOf(BidPendingException.class);
+
+		// 아직 커밋 전: 재시도는 다시 입찰하지 않고 '처리 중'으로 응답합니다.
+		assertThatThrownBy(() -> idempotencyStore.execute(USER_ID, key, request, () -> {
+			attempts.incrementAndGet();
+			return response();
+		})).isInstanceOf(BidPendingException.class);
+
+		committed.complete(response());
+
+		BidResponseDTO replayed = idempotencyStore.execute(USER_ID, key, request, () -> {
+			attempts.incrementAndGet();
+			return response();
+		});
+		assertThat(replayed.getBidPrice()).isEqualTo(10_000L);
+		assertThat(attempts).hasValue(1);
+	}
+
+	@Test
+	void pendingBidThatFailsToCommitReleasesTheKey() {
+		String key = UUID.randomUUID().toString();
+		CompletableFuture<BidResponseDTO> committed = new CompletableFuture<>();
+
+		assertThatThrownBy(() -> idempotencyStore.execute(USER_ID, key, request, () -> {
+			throw new BidPendingException("처리 중", committed);
+		})).isInstanceOf(BidPendingException.class);
+		committed.completeExceptionally(new IllegalStateException("ledger commit failed"));
+
+		assertThat(idempotencyStore.execute(USER_ID, key, request, this::response).getBidPrice()).isEqualTo(10_000L);
+	}
+
+	@Test
+	void transientRejectionIsNotCached() {
+		String key = UUID.randomUUID().toString();
+		AtomicInteger attempts = new AtomicInteger();
+
+		assertThatThrownBy(() -> idempotencyStore.execute(USER_ID, key, request, () -> {
+			attempts.incrementAndGet();
+			throw new BidRejectedException("outbid", "밀림");
+		})).isInstanceOf(BidRejectedException.class);
+
+		BidResponseDTO retried = idempotencyStore.execute(USER_ID, key, request, () -> {
+			attempts.incrementAndGet();
+			return response();
+		});
+		assertThat(retried.getBidPrice()).isEqualTo(10_000L);
+		assertThat(attempts).hasValue(2);
+	}
+
+	@Test
+	void finalRejectionIsReplayed() {
+		String key = UUID.randomUUID().toString();
+		AtomicInteger attempts = new AtomicInteger();
+
+		for (int i = 0; i < 2; i++) {
+			assertThatThrownBy(() -> idempotencyStore.execute(USER_ID, key, request, () -> {
+				attempts.incrementAndGet();
+				throw new BidRejectedException("not_in_window", "기간 밖");
+			})).isInstanceOf(BidRejectedException.class).hasMessage("기간 밖");
+		}
+		assertThat(attempts).hasValue(1);
+	}
+
+	private BidResponseDTO response() {
+		return BidResponseDTO.builder().bidPrice(10_000L).message("입찰이 성공적으로 등록 되었습니다.").build();
+	}
+}
@@ -0,0 +1,49 @@
+package com.bid.bidding;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+
+import com.bid.exception.BidRejectedException;
+
+// 입찰 수락 규칙: 입찰 기간, 첫 입찰의 최초 최저 입찰가, 이후 입찰의 현재 가격 초과 (DB 없이)
+class BidRulesTests {
+
+	private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 15, 12, 0);
+	private static final LocalDateTime OPENED = NOW.minusDays(1);
+	private static final LocalDateTime CLOSES = NOW.plusDays(1);
+
+	@Test
+	void rejectsBidsOutsideTheWindow() {
+		assertRejected(NOW.plusHours(1), CLOSES, null, null, 10_000L, "not_in_window"); // 예정
+		assertRejected(OPENED, NOW.minusHours(1), null, null, 10_000L, "not_in_window"); // 마감
+		assertRejected(null, CLOSES, null, null, 10_000L, "not_in_window"); // 기간 모름
+	}
+
+	@Test
+	void firstBidMustBePositiveAndReachTheOpeningPrice() {
+		assertRejected(OPENED, CLOSES, null, null, 0L, "below_minimum");
+		assertRejected(OPENED, CLOSES, 0L, 5_000L, 4_999L, "below_minimum");
+
+		assertThatCode(() -> BidRules.check(OPENED, CLOSES, null, 5_000L, 5_000L, NOW)).doesNotThrowAnyException();
+		assertThatCode(() -> BidRules.check(OPENED, CLOSES, null, null, 1L, NOW)).doesNotThrowAnyException();
+	}
+
+	@Test
+	void laterBidsMustBeatTheCurrentPrice() {
+		assertRejected(OPENED, CLOSES, 20_000L, 5_000L, 20_000L, "below_minimum");
+
+		assertThatCode(() -> BidRules.check(OPENED, CLOSES, 20_000L, 5_000L, 20_001L, NOW)).doesNotThrowAnyException();
+	}
+
+	private static void assertRejected(LocalDateTime announcementDate, LocalDateTime deadline, Long minBidPrice,
+			Long initialOpenPriceFrom, long bidPrice, String reason) {
+		assertThatThrownBy(() -> BidRules.check(announcementDate, deadline, minBidPrice, initialOpenPriceFrom, bidPrice, NOW))
+				.isInstanceOfSatisfying(BidRejectedException.class,
+						e -> assertThat(e.getReason()).isEqualTo(reason));
+	}
+}
@@ -0,0 +1,185 @@
+package com.bid.bidding;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.bid.dto.request.BidRequestDTO;
+import com.bid.dto.request.ProxyBidRequestDTO;
+import com.bid.dto.response.BidResponseDTO;
+import com.bid.entity.ProxyBid;
+import com.bid.entity.Tender;
+import com.bid.entity.User;
+import com.bid.exception.BidPendingException;
+import com.bid.repository.BidRepository;
+import com.bid.repository.ProxyBidRepository;
+import com.bid.repository.TenderBidStatsRepository;
+import com.bid.repository.TenderRepository;
+import com.bid.service.BidService;
+import com.bid.service.ProxyBidService;
+import com.bid.support.BidTestFixture;
+
+import lombok.extern.slf4j.Slf4j;
+
+// 시퀀서 경로: 자동 입찰은 꺼지고 새로 설정할 수 없는지, 응답 대기 시간을 0 으로 두어 '처리 중' 응답이 나도 입찰은 커밋되는지, 상태를 내린 뒤에도 커밋된 가격으로 판단하는지 확인합니다.
+@SpringBootTest(properties = {
+		"bid.sequencer.enabled=true",
+		"bid.sequencer.await-timeout-ms=0",
+		"bid.sequencer.idle-timeout=0s"
+})
+@Slf4j
+class BidSequencerTests {
+
+	@Autowired
+	private BidService bidService;
+
+	@Autowired
+	private BidSequencer bidSequencer;
+
+	@Autowired
+	private TenderRepository tenderRepository;
+
+	@Autowired
+	private BidRepository bidRepository;
+
+	@Autowired
+	private TenderBidStatsRepository bidStatsRepository;
+
+	@Autowired
+	private ProxyBidService proxyBidService;
+
+	@Autowired
+	private ProxyBidRepository proxyBidRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private BidTestFixture fixture;
+
+	private Tender tender;
+	private User user;
+
+	@BeforeEach
+	void setUp() {
+		user = fixture.createUser("bid-seq");
+		tender = fixture.createTender("SEQ");
+		fixture.authenticate(user);
+	}
+
+	@AfterEach
+	void tearDown() {
+		fixture.cleanUp(tender, List.of(user));
+	}
+
+	@Test
+	void timedOutBidIsReportedPendingAndStillCommits() throws Exception {
+		BidResponseDTO response = placeAndAwait(10_000L);
+
+		assertThat(response.getBidPrice()).isEqualTo(10_000L);
+		assertThat(bidRepository.findByTender_Id(tender.getId())).hasSize(1);
+		assertThat(tenderRepository.findMinBidPriceById(tender.getId())).isEqualTo(10_000L);
+		assertThat(bidStatsRepository.findById(tender.getId()))
+				.hasValueSatisfying(stats -> assertThat(stats.getBidCount()).isEqualTo(1));
+	}
+
+	@Test
+	void evictedStateIsReloadedFromCommittedPrice() throws Exception {
+		placeAndAwait(10_000L);
+
+		// idle-timeout=0s 이고 커밋 대기 중인 입찰이 없으므로 공고 상태가 내려갑니다.
+		bidSequencer.evictIdle();
+
+		assertThatThrownBy(() -> placeAndAwait(9_000L)).isInstanceOf(IllegalArgumentException.class);
+		assertThat(placeAndAwait(12_000L).getBidPrice()).isEqualTo(12_000L);
+		assertThat(tenderRepository.findMinBidPriceById(tender.getId())).isEqualTo(12_000L);
+	}
+
+	@Test
+	void ledgerStatsMatchGroupByRecountUnderConcurrentBids() throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		for (int t = 0; t < 8; t++) {
+			executor.submit(() -> {
+				fixture.authenticate(user);
+				try {
+					long price = 0;
+					for (int i = 0; i < 25; i++) {
+						price += ThreadLocalRandom.current().nextLong(1, 10_000);
+						try {
+							placeAndAwait(price);
+						} catch (IllegalArgumentException e) {
+							// 밀린 입찰
+						}
+					}
+				} finally {
+					SecurityContextHolder.clearContext();
+				}
+				return null;
+			});
+		}
+		executor.shutdown();
+		assertThat(executor.awaitTermination(5, TimeUnit.MINUTES)).isTrue();
+
+		// 같은 사용자의 입찰이 여러 배치에 나뉘어 커밋돼도 고유 입찰자는 1 이어야 합니다.
+		Map<String, Object> recount = jdbcTemplate.queryForMap(
+				"SELECT COUNT(*) AS bid_count, COUNT(DISTINCT user_id) AS unique_bidders FROM bids WHERE tender_id = ? GROUP BY tender_id",
+				tender.getId());
+		assertThat(bidStatsRepository.findById(tender.getId())).hasValueSatisfying(stats -> {
+			assertThat(stats.getBidCount()).isEqualTo(((Number) recount.get("bid_count")).longValue());
+			assertThat(stats.getUniqueBidders()).isEqualTo(((Number) recount.get("unique_bidders")).longValue()).isEqualTo(1L);
+		});
+	}
+
+	@Test
+	void storedProxyBidsAreDeactivatedAndNewOnesRejected() {
+		ProxyBid stored = proxyBidRepository.save(ProxyBid.builder()
+				.tender(tender)
+				.user(user)
+				.maxPrice(50_000L)
+				.active(true)
+				.createdAt(LocalDateTime.now())
+				.build());
+
+		// 기동 시 한 번 실행되는 정리를 다시 불러 테스트 중에 저장한 자동 입찰도 꺼지는지 확인합니다.
+		proxyBidService.deactivateWhenSequenced();
+
+		assertThat(proxyBidRepository.findById(stored.getId()))
+				.hasValueSatisfying(proxyBid -> assertThat(proxyBid.isActive()).isFalse());
+		ProxyBidRequestDTO request = new ProxyBidRequestDTO();
+		request.setTenderId(tender.getId());
+		request.setMaxPrice(60_000L);
+		assertThatThrownBy(() -> proxyBidService.setProxyBid(user.getUserId(), request))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	// 즉시 응답이든 '처리 중'이든 실제 결과가 나올 때까지 기다립니다.
+	private BidResponseDTO placeAndAwait(long price) throws Exception {
+		BidRequestDTO request = BidRequestDTO.builder().tenderId(tender.getId()).bidPrice(price).build();
+		try {
+			return bidService.placeBid(request);
+		} catch (BidPendingException e) {
+			log.info("Bid {} reported pending, waiting for the ledger commit.", price);
+			try {
+				return e.getResult().get(10, TimeUnit.SECONDS);
+			} catch (ExecutionException failed) {
+				throw (Exception) failed.getCause();
+			}
+		}
+	}
+}
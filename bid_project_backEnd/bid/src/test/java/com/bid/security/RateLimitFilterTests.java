@@ -0,0 +1,76 @@
+package com.bid.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import lombok.extern.slf4j.Slf4j;
+
+// 속도 제한 키: 프록시 뒤에서 클라이언트가 X-Forwarded-For 왼쪽에 넣은 값으로 키를 바꿀 수 없는지 확인합니다.
+@SpringBootTest(properties = {
+		"rate-limit.trust-forwarded-for=true",
+		"rate-limit.trusted-proxy-hops=1"
+})
+@Slf4j
+class RateLimitFilterTests {
+
+	private static final String PROXY_ADDR = "10.0.0.1";
+
+	@Autowired
+	private RateLimitFilter rateLimitFilter;
+
+	@AfterEach
+	void tearDown() {
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	void usesTheEntryAppendedByTheTrustedProxy() {
+		assertThat(rateLimitFilter.clientKey(request("203.0.113.7"))).isEqualTo("ip203.0.113.7");
+		// 클라이언트가 보낸 X-Forwarded-For 는 왼쪽에 남고, 프록시가 실제 접속 주소를 오른쪽에 덧붙입니다.
+		assertThat(rateLimitFilter.clientKey(request("1.2.3.4, 203.0.113.7"))).isEqualTo("ip203.0.113.7");
+		assertThat(rateLimitFilter.clientKey(request("5.6.7.8, 1.2.3.4,203.0.113.7"))).isEqualTo("ip203.0.113.7");
+	}
+
+	@Test
+	void fallsBackToRemoteAddressWithoutForwardedFor() {
+		assertThat(rateLimitFilter.clientKey(request(null))).isEqualTo("ip" + PROXY_ADDR);
+		assertThat(rateLimitFilter.clientKey(request(" "))).isEqualTo("ip" + PROXY_ADDR);
+	}
+
+	@Test
+	void authenticatedRequestsUseTheUserId() {
+		CustomUserDetails principal = new CustomUserDetails(42L, "rate-limit-user", "{noop}pw",
+				List.of(new SimpleGrantedAuthority("ROLE_USER")));
+		SecurityContextHolder.getContext().setAuthentication(
+				new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+
+		assertThat(rateLimitFilter.clientKey(request("1.2.3.4, 203.0.113.7"))).isEqualTo("u42");
+	}
+
+	@Test
+	void countsTrustedHopsFromTheRight() {
+		// 프록시 두 단: 바깥 프록시가 클라이언트 주소를, 안쪽 프록시가 바깥 프록시 주소를 덧붙임
+		assertThat(RateLimitFilter.forwardedClient("1.2.3.4, 203.0.113.7, 10.0.0.9", 2)).isEqualTo("203.0.113.7");
+		assertThat(RateLimitFilter.forwardedClient("203.0.113.7", 2)).isNull();
+		assertThat(RateLimitFilter.forwardedClient("1.2.3.4, ", 1)).isNull();
+	}
+
+	private MockHttpServletRequest request(String forwardedFor) {
+		MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/bids");
+		request.setRemoteAddr(PROXY_ADDR);
+		if (forwardedFor != null) {
+			request.addHeader("X-Forwarded-For", forwardedFor);
+		}
+		return request;
+	}
+}
@@ -0,0 +1,116 @@
+package com.bid.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.bid.dto.request.BidRequestDTO;
+import com.bid.entity.Bid;
+import com.bid.entity.Tender;
+import com.bid.entity.User;
+import com.bid.repository.BidRepository;
+import com.bid.repository.TenderRepository;
+import com.bid.support.BidTestFixture;
+
+import lombok.extern.slf4j.Slf4j;
+
+// 한 공고에 동시 입찰을 몰아 lost update 가 없는지 확인하고 처리량(bids/sec)을 기록합니다.
+@SpringBootTest
+@Slf4j
+class BidServiceConcurrencyTests {
+
+	private static final int THREADS = 16;
+	private static final int BIDS_PER_THREAD = 50;
+
+	@Autowired
+	private BidService bidService;
+
+	@Autowired
+	private TenderRepository tenderRepository;
+
+	@Autowired
+	private BidRepository bidRepository;
+
+	@Autowired
+	private BidTestFixture fixture;
+
+	private Tender tender;
+	private User user;
+
+	@BeforeEach
+	void setUp() {
+		user = fixture.createUser("bid-stress");
+		tender = fixture.createTender("STRESS");
+	}
+
+	@AfterEach
+	void tearDown() {
+		fixture.cleanUp(tender, List.of(user));
+	}
+
+	@Test
+	void concurrentBidsNeverLoseTheHighestPrice() throws InterruptedException {
+		ConcurrentLinkedQueue<Long> acceptedPrices = new ConcurrentLinkedQueue<>();
+		AtomicInteger rejected = new AtomicInteger();
+		CountDownLatch start = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+		for (int t = 0; t < THREADS; t++) {
+			executor.submit(() -> {
+				fixture.authenticate(user);
+				try {
+					start.await();
+					long price = 0;
+					for (int i = 0; i < BIDS_PER_THREAD; i++) {
+						// 스레드마다 오르는 가격이지만 스레드끼리는 엇갈려 낮은 입찰이 높은 입찰 뒤에 도착하는 경우가 생깁니다.
+						price += ThreadLocalRandom.current().nextLong(1, 10_000);
+						try {
+							bidService.placeBid(BidRequestDTO.builder().tenderId(tender.getId()).bidPrice(price).build());
+							acceptedPrices.add(price);
+						} catch (IllegalArgumentException e) {
+							rejected.incrementAndGet();
+						}
+					}
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				} finally {
+					SecurityContextHolder.clearContext();
+				}
+				return null;
+			});
+		}
+
+		long startTime = System.nanoTime();
+		start.countDown();
+		executor.shutdown();
+		assertThat(executor.awaitTermination(5, TimeUnit.MINUTES)).isTrue();
+		double seconds = (System.nanoTime() - startTime) / 1_000_000_000.0;
+
+		long highestAccepted = acceptedPrices.stream().mapToLong(Long::longValue).max().orElseThrow();
+		List<Bid> bids = bidRepository.findByTender_Id(tender.getId());
+		Long finalPrice = tenderRepository.findMinBidPriceById(tender.getId());
+
+		log.info("Concurrent bids on one tender: {} attempted, {} accepted, {} rejected in {}s ({} bids/sec)",
+				THREADS * BIDS_PER_THREAD, acceptedPrices.size(), rejected.get(), String.format("%.2f", seconds),
+				String.format("%.1f", THREADS * BIDS_PER_THREAD / seconds));
+
+		// 받아들여진 입찰 중 가장 높은 가격이 최종 가격이어야 하고(lost update 없음), 받아들여진 입찰만 저장돼야 합니다.
+		assertThat(finalPrice).isEqualTo(highestAccepted);
+		assertThat(bids).hasSize(acceptedPrices.size());
+		assertThat(acceptedPrices.size() + rejected.get()).isEqualTo(THREADS * BIDS_PER_THREAD);
+	}
+}
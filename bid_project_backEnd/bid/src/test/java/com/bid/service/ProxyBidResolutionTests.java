@@ -0,0 +1,131 @@
+package com.bid.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.bid.bidding.BidSequencer;
+import com.bid.entity.Bid;
+import com.bid.entity.ProxyBid;
+import com.bid.entity.Tender;
+import com.bid.entity.User;
+import com.bid.event.TenderChangePublisher;
+import com.bid.repository.BidRepository;
+import com.bid.repository.ProxyBidRepository;
+import com.bid.repository.TenderRepository;
+import com.bid.repository.UserRepository;
+
+// 자동 입찰 해소의 분기(경쟁 없음 / 한 건 / 같은 최고가 / 두 건)를 리포지토리 목으로 확인합니다. (DB 없이)
+class ProxyBidResolutionTests {
+
+	private static final Long TENDER_ID = 1L;
+	private static final long INCREMENT = 1000L;
+
+	private final TenderRepository tenderRepository = mock(TenderRepository.class);
+	private final BidRepository bidRepository = mock(BidRepository.class);
+	private final ProxyBidRepository proxyBidRepository = mock(ProxyBidRepository.class);
+
+	private final User manual = User.builder().userId(10L).build();
+	private final User first = User.builder().userId(11L).build();
+	private final User second = User.builder().userId(12L).build();
+	private final Tender tender = Tender.builder().id(TENDER_ID).cltrMnmtNo("PROXY-UNIT").initialOpenPriceFrom(5_000L).build();
+
+	private final List<Bid> emitted = new ArrayList<>();
+	private ProxyBidService proxyBidService;
+
+	@BeforeEach
+	void setUp() {
+		proxyBidService = new ProxyBidService(tenderRepository, mock(UserRepository.class), bidRepository, proxyBidRepository,
+				mock(TenderChangePublisher.class), mock(BidSequencer.class), mock(TenderBidHistoryService.class));
+		ReflectionTestUtils.setField(proxyBidService, "increment", INCREMENT);
+		when(tenderRepository.raiseMinBidPrice(anyLong(), anyLong())).thenReturn(1);
+		when(bidRepository.save(any(Bid.class))).thenAnswer(invocation -> {
+			Bid bid = invocation.getArgument(0);
+			emitted.add(bid);
+			return bid;
+		});
+	}
+
+	@Test
+	void withoutContendersOnlyExhaustedProxiesAreDeactivated() {
+		contenders(20_000L);
+
+		assertThat(proxyBidService.resolveAfterBid(tender, manual.getUserId(), 20_000L)).isEqualTo(20_000L);
+		assertThat(emitted).isEmpty();
+		verify(proxyBidRepository).deactivateExhausted(TENDER_ID, 20_000L);
+	}
+
+	@Test
+	void singleProxyBeatsTheManualBidByOneIncrement() {
+		contenders(20_000L, proxy(first, 50_000L));
+
+		assertThat(proxyBidService.resolveAfterBid(tender, manual.getUserId(), 20_000L)).isEqualTo(21_000L);
+		assertEmitted(first, 21_000L);
+		verify(proxyBidRepository).deactivateExhausted(TENDER_ID, 21_000L);
+	}
+
+	@Test
+	void singleProxyOpensAtTheInitialPriceWhenThereAreNoBids() {
+		contenders(0L, proxy(first, 50_000L));
+
+		assertThat(proxyBidService.resolveAfterBid(tender, null, 0L)).isEqualTo(5_000L);
+		assertEmitted(first, 5_000L);
+	}
+
+	@Test
+	void leadingSingleProxyDoesNotBidAgainstItself() {
+		contenders(20_000L, proxy(first, 50_000L));
+
+		assertThat(proxyBidService.resolveAfterBid(tender, first.getUserId(), 20_000L)).isEqualTo(20_000L);
+		assertThat(emitted).isEmpty();
+		verify(tenderRepository, never()).raiseMinBidPrice(anyLong(), anyLong());
+	}
+
+	@Test
+	void tiedMaximumsGoToTheEarlierProxyAtThatMaximum() {
+		contenders(20_000L, proxy(first, 40_000L), proxy(second, 40_000L));
+
+		assertThat(proxyBidService.resolveAfterBid(tender, manual.getUserId(), 20_000L)).isEqualTo(40_000L);
+		assertEmitted(first, 40_000L);
+		verify(proxyBidRepository).deactivateExhausted(TENDER_ID, 40_000L);
+	}
+
+	@Test
+	void higherProxyStopsOneIncrementAboveTheLowerMaximum() {
+		contenders(20_000L, proxy(first, 50_000L), proxy(second, 30_000L));
+
+		assertThat(proxyBidService.resolveAfterBid(tender, manual.getUserId(), 20_000L)).isEqualTo(31_000L);
+		assertEmitted(second, 30_000L, first, 31_000L);
+		verify(proxyBidRepository).deactivateExhausted(TENDER_ID, 31_000L);
+	}
+
+	private void contenders(long price, ProxyBid... proxies) {
+		when(proxyBidRepository.findContenders(eq(TENDER_ID), eq(price), any())).thenReturn(List.of(proxies));
+	}
+
+	private static ProxyBid proxy(User user, long maxPrice) {
+		return ProxyBid.builder().user(user).maxPrice(maxPrice).active(true).createdAt(LocalDateTime.now()).build();
+	}
+
+	// (사용자, 가격) 쌍의 순서대로 Bid 행이 남았는지
+	private void assertEmitted(Object... userAndPrice) {
+		assertThat(emitted).hasSize(userAndPrice.length / 2);
+		for (int i = 0; i < emitted.size(); i++) {
+			assertThat(emitted.get(i).getUser()).isSameAs(userAndPrice[i * 2]);
+			assertThat(emitted.get(i).getBidPrice()).isEqualTo(userAndPrice[i * 2 + 1]);
+		}
+	}
+}
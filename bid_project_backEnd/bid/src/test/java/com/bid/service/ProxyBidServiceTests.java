@@ -0,0 +1,103 @@
+package com.bid.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.bid.dto.request.BidRequestDTO;
+import com.bid.dto.request.ProxyBidRequestDTO;
+import com.bid.dto.response.ProxyBidResponseDTO;
+import com.bid.entity.ProxyBid;
+import com.bid.entity.Tender;
+import com.bid.entity.User;
+import com.bid.repository.BidRepository;
+import com.bid.repository.ProxyBidRepository;
+import com.bid.repository.TenderRepository;
+import com.bid.support.BidTestFixture;
+
+import lombok.extern.slf4j.Slf4j;
+
+// 자동 입찰 해소: 두 자동 입찰의 경쟁 결과와, 수동 입찰이 모든 최고가를 넘었을 때 자동 입찰이 정리되는지 확인합니다.
+@SpringBootTest(properties = "bid.proxy.increment=1000")
+@Slf4j
+class ProxyBidServiceTests {
+
+	@Autowired
+	private BidService bidService;
+
+	@Autowired
+	private ProxyBidService proxyBidService;
+
+	@Autowired
+	private TenderRepository tenderRepository;
+
+	@Autowired
+	private BidRepository bidRepository;
+
+	@Autowired
+	private ProxyBidRepository proxyBidRepository;
+
+	@Autowired
+	private BidTestFixture fixture;
+
+	private Tender tender;
+	private User first;
+	private User second;
+	private User manual;
+
+	@BeforeEach
+	void setUp() {
+		first = fixture.createUser("proxy-first");
+		second = fixture.createUser("proxy-second");
+		manual = fixture.createUser("proxy-manual");
+		tender = fixture.createTender("PROXY");
+	}
+
+	@AfterEach
+	void tearDown() {
+		fixture.cleanUp(tender, List.of(first, second, manual));
+	}
+
+	@Test
+	void higherProxyLeadsOneIncrementAboveTheLowerMaximum() {
+		setProxy(first, 50_000L);
+		ProxyBidResponseDTO response = setProxy(second, 30_000L);
+
+		// 두 번째 자동 입찰은 자기 최고가(30,000)까지 올라갔다가 밀리고, 첫 번째가 한 단위 위에서 선두가 됩니다.
+		assertThat(response.getLeading()).isFalse();
+		assertThat(tenderRepository.findMinBidPriceById(tender.getId())).isEqualTo(31_000L);
+		assertThat(proxyOf(first).isActive()).isTrue();
+		assertThat(proxyOf(second).isActive()).isFalse();
+		assertThat(bidRepository.findFirstByTender_IdOrderByBidPriceDescBidIdAsc(tender.getId()))
+				.hasValueSatisfying(bid -> assertThat(bid.getUser().getUserId()).isEqualTo(first.getUserId()));
+	}
+
+	@Test
+	void manualBidAboveEveryMaximumDeactivatesExhaustedProxies() {
+		setProxy(first, 50_000L);
+
+		fixture.authenticate(manual);
+		bidService.placeBid(BidRequestDTO.builder().tenderId(tender.getId()).bidPrice(60_000L).build());
+
+		// 해소할 경쟁이 없어도(최고가 > 60,000 인 자동 입찰 없음) 넘어선 자동 입찰은 비활성화됩니다.
+		assertThat(tenderRepository.findMinBidPriceById(tender.getId())).isEqualTo(60_000L);
+		assertThat(proxyOf(first).isActive()).isFalse();
+	}
+
+	private ProxyBidResponseDTO setProxy(User user, long maxPrice) {
+		ProxyBidRequestDTO request = new ProxyBidRequestDTO();
+		request.setTenderId(tender.getId());
+		request.setMaxPrice(maxPrice);
+		return proxyBidService.setProxyBid(user.getUserId(), request);
+	}
+
+	private ProxyBid proxyOf(User user) {
+		return proxyBidRepository.findByTender_IdAndUser_UserId(tender.getId(), user.getUserId()).orElseThrow();
+	}
+}
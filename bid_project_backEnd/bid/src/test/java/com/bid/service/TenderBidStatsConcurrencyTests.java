@@ -0,0 +1,120 @@
+package com.bid.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.bid.dto.request.BidRequestDTO;
+import com.bid.entity.Tender;
+import com.bid.entity.TenderBidStats;
+import com.bid.entity.User;
+import com.bid.repository.TenderBidStatsRepository;
+import com.bid.repository.TenderBidderRepository;
+import com.bid.support.BidTestFixture;
+
+import lombok.extern.slf4j.Slf4j;
+
+// 같은 사용자(여러 스레드)와 서로 다른 사용자가 동시에 입찰한 뒤, tender_bid_stats 가 bids 를 GROUP BY 로 다시 센 값과 같은지 확인합니다.
+@SpringBootTest
+@Slf4j
+class TenderBidStatsConcurrencyTests {
+
+	private static final int USERS = 4;
+	private static final int THREADS_PER_USER = 4;
+	private static final int BIDS_PER_THREAD = 25;
+
+	@Autowired
+	private BidService bidService;
+
+	@Autowired
+	private TenderBidStatsRepository bidStatsRepository;
+
+	@Autowired
+	private TenderBidderRepository tenderBidderRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private BidTestFixture fixture;
+
+	private Tender tender;
+	private final List<User> users = new ArrayList<>();
+
+	@BeforeEach
+	void setUp() {
+		for (int u = 0; u < USERS; u++) {
+			users.add(fixture.createUser("bid-stats-" + u));
+		}
+		tender = fixture.createTender("STATS");
+	}
+
+	@AfterEach
+	void tearDown() {
+		fixture.cleanUp(tender, users);
+		users.clear();
+	}
+
+	@Test
+	void statsMatchGroupByRecountUnderConcurrentBids() throws InterruptedException {
+		CountDownLatch start = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(USERS * THREADS_PER_USER);
+
+		for (User user : users) {
+			for (int t = 0; t < THREADS_PER_USER; t++) {
+				executor.submit(() -> {
+					fixture.authenticate(user);
+					try {
+						start.await();
+						long price = 0;
+						for (int i = 0; i < BIDS_PER_THREAD; i++) {
+							price += ThreadLocalRandom.current().nextLong(1, 10_000);
+							try {
+								bidService.placeBid(BidRequestDTO.builder().tenderId(tender.getId()).bidPrice(price).build());
+							} catch (IllegalArgumentException e) {
+								// 밀린 입찰은 저장되지 않으므로 집계에도 들어가지 않음
+							}
+						}
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					} finally {
+						SecurityContextHolder.clearContext();
+					}
+					return null;
+				});
+			}
+		}
+
+		start.countDown();
+		executor.shutdown();
+		assertThat(executor.awaitTermination(5, TimeUnit.MINUTES)).isTrue();
+
+		Map<String, Object> recount = jdbcTemplate.queryForMap(
+				"SELECT COUNT(*) AS bid_count, COUNT(DISTINCT user_id) AS unique_bidders, MAX(bid_price) AS top_price " +
+				"FROM bids WHERE tender_id = ? GROUP BY tender_id", tender.getId());
+		TenderBidStats stats = bidStatsRepository.findById(tender.getId()).orElseThrow();
+
+		log.info("Bid stats after concurrent bids: stats(count={}, unique={}, top={}) recount={}",
+				stats.getBidCount(), stats.getUniqueBidders(), stats.getTopPrice(), recount);
+
+		assertThat(stats.getBidCount()).isEqualTo(((Number) recount.get("bid_count")).longValue());
+		assertThat(stats.getUniqueBidders()).isEqualTo(((Number) recount.get("unique_bidders")).longValue());
+		assertThat(stats.getTopPrice()).isEqualTo(((Number) recount.get("top_price")).longValue());
+		assertThat(tenderBidderRepository.findByTenderId(tender.getId())).hasSize((int) stats.getUniqueBidders());
+	}
+}
@@ -0,0 +1,110 @@
+package com.bid.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+
+import com.bid.entity.Bid;
+import com.bid.entity.Tender;
+import com.bid.entity.TenderBidStats;
+import com.bid.entity.TenderStatus;
+import com.bid.entity.User;
+import com.bid.repository.BidRepository;
+import com.bid.repository.TenderBidStatsRepository;
+import com.bid.repository.TenderRepository;
+import com.bid.repository.TenderSettlementRepository;
+import com.bid.support.BidTestFixture;
+
+import lombok.extern.slf4j.Slf4j;
+
+// 마감 정산: 최고가 입찰이 낙찰로 기록되고, 정산된 공고는 표시되어 복구 순회에서 빠지며, 다시 정산해도 행이 늘지 않는지 확인합니다.
+@SpringBootTest
+@Slf4j
+class TenderSettlementServiceTests {
+
+	@Autowired
+	private TenderSettlementService settlementService;
+
+	@Autowired
+	private TenderSettlementRepository settlementRepository;
+
+	@Autowired
+	private TenderRepository tenderRepository;
+
+	@Autowired
+	private BidRepository bidRepository;
+
+	@Autowired
+	private TenderBidStatsRepository bidStatsRepository;
+
+	@Autowired
+	private BidTestFixture fixture;
+
+	private Tender tender;
+	private User user;
+	private Bid winningBid;
+
+	@BeforeEach
+	void setUp() {
+		LocalDateTime now = LocalDateTime.now();
+		user = fixture.createUser("bid-settle");
+		tender = tenderRepository.save(fixture.tender("SETTLE")
+				.announcementDate(now.minusDays(2))
+				.deadline(now.minusHours(1))
+				.status(TenderStatus.CLOSED)
+				.minBidPrice(20_000L)
+				.build());
+		bidRepository.save(Bid.builder().tender(tender).user(user).bidPrice(10_000L).bidTime(now.minusHours(3)).build());
+		winningBid = bidRepository.save(Bid.builder().tender(tender).user(user).bidPrice(20_000L).bidTime(now.minusHours(2)).build());
+		bidStatsRepository.save(TenderBidStats.builder()
+				.tenderId(tender.getId())
+				.bidCount(2)
+				.topPrice(20_000L)
+				.uniqueBidders(1)
+				.lastBidTime(now.minusHours(2))
+				.build());
+	}
+
+	@AfterEach
+	void tearDown() {
+		fixture.cleanUp(tender, List.of(user));
+	}
+
+	@Test
+	void settlesHighestBidAndLeavesTheRecoverySweep() {
+		assertThat(unsettledIds()).contains(tender.getId());
+
+		assertThat(settlementService.settle(List.of(tender.getId()))).isEqualTo(1);
+
+		assertThat(settlementRepository.findById(tender.getId())).hasValueSatisfying(settlement -> {
+			assertThat(settlement.getWinningBidId()).isEqualTo(winningBid.getBidId());
+			assertThat(settlement.getWinnerUserId()).isEqualTo(user.getUserId());
+			assertThat(settlement.getWinningPrice()).isEqualTo(20_000L);
+			assertThat(settlement.getBidCount()).isEqualTo(2);
+		});
+		assertThat(tenderRepository.findById(tender.getId())).hasValueSatisfying(t -> assertThat(t.isSettled()).isTrue());
+		assertThat(unsettledIds()).doesNotContain(tender.getId());
+	}
+
+	@Test
+	void settlingAgainIsANoOp() {
+		settlementService.settle(List.of(tender.getId()));
+
+		// 재시도/복구 순회가 같은 공고를 다시 넘겨도 정산 행은 하나이고 이벤트도 다시 나가지 않습니다.
+		assertThat(settlementService.settle(List.of(tender.getId()))).isZero();
+		assertThat(settlementRepository.findAllById(List.of(tender.getId()))).hasSize(1);
+	}
+
+	private List<Long> unsettledIds() {
+		return settlementRepository.findUnsettledIds(TenderStatus.CLOSED, tender.getId() - 1, LocalDateTime.now(),
+				PageRequest.of(0, 10));
+	}
+}
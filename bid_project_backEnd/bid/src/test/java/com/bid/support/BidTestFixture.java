@@ -0,0 +1,92 @@
+package com.bid.support;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import com.bid.entity.Tender;
+import com.bid.entity.TenderStatus;
+import com.bid.entity.User;
+import com.bid.repository.BidRepository;
+import com.bid.repository.ProxyBidRepository;
+import com.bid.repository.TenderBidStatsRepository;
+import com.bid.repository.TenderBidderRepository;
+import com.bid.repository.TenderRepository;
+import com.bid.repository.TenderSettlementRepository;
+import com.bid.repository.UserRepository;
+import com.bid.security.CustomUserDetails;
+
+import lombok.RequiredArgsConstructor;
+
+// 실제 DB 를 쓰는 입찰 테스트의 공통 준비/정리: 이름이 겹치지 않는 사용자와 목록에 나타나지 않는 진행 중 공고,
+// 현재 스레드의 로그인 사용자, 그리고 공고에 딸린 행(자동 입찰/입찰/입찰자/집계/정산)을 지우는 순서.
+@Component
+@RequiredArgsConstructor
+public class BidTestFixture {
+
+	private final TenderRepository tenderRepository;
+	private final UserRepository userRepository;
+	private final BidRepository bidRepository;
+	private final ProxyBidRepository proxyBidRepository;
+	private final TenderBidderRepository tenderBidderRepository;
+	private final TenderBidStatsRepository bidStatsRepository;
+	private final TenderSettlementRepository settlementRepository;
+
+	public User createUser(String prefix) {
+		return userRepository.save(User.builder()
+				.username(prefix + "-" + uniqueSuffix())
+				.password("{noop}test")
+				.userRoles(new HashSet<>())
+				.userInterestBids(new HashSet<>())
+				.build());
+	}
+
+	public Tender createTender(String prefix) {
+		return tenderRepository.save(tender(prefix).build());
+	}
+
+	// 지금 입찰할 수 있는 공고의 기본값. 상태/기간/가격을 바꿔 저장할 때 씁니다.
+	public Tender.TenderBuilder tender(String prefix) {
+		String suffix = uniqueSuffix();
+		LocalDateTime now = LocalDateTime.now();
+		return Tender.builder()
+				.cltrMnmtNo(prefix + "-" + suffix)
+				.tenderTitle(prefix + " 테스트 " + suffix)
+				.announcementDate(now.minusDays(1))
+				.deadline(now.plusDays(1))
+				.status(TenderStatus.IN_PROGRESS)
+				.listOrder(Long.MAX_VALUE)
+				.active(false); // 목록/캐시에 나타나지 않게
+	}
+
+	// 현재 스레드의 로그인 사용자로 설정 (작업 스레드마다 따로 불러야 함)
+	public void authenticate(User user) {
+		CustomUserDetails principal = new CustomUserDetails(user.getUserId(), user.getUsername(), user.getPassword(),
+				List.of(new SimpleGrantedAuthority("ROLE_USER")));
+		SecurityContextHolder.getContext().setAuthentication(
+				new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+	}
+
+	// 공고를 참조하는 행부터 지우고 공고와 사용자를 지웁니다.
+	public void cleanUp(Tender tender, List<User> users) {
+		SecurityContextHolder.clearContext();
+		Long tenderId = tender.getId();
+		settlementRepository.findById(tenderId).ifPresent(settlementRepository::delete);
+		proxyBidRepository.deleteAllInBatch(proxyBidRepository.findByTender_Id(tenderId));
+		bidRepository.deleteAllInBatch(bidRepository.findByTender_Id(tenderId));
+		tenderBidderRepository.deleteByTenderId(tenderId);
+		bidStatsRepository.findById(tenderId).ifPresent(bidStatsRepository::delete);
+		tenderRepository.deleteById(tenderId);
+		users.forEach(user -> userRepository.deleteById(user.getUserId()));
+	}
+
+	private static String uniqueSuffix() {
+		return UUID.randomUUID().toString().substring(0, 8);
+	}
+}
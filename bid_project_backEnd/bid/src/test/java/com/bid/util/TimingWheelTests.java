@@ -0,0 +1,66 @@
+package com.bid.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+// 타이밍 휠: 틱 경계의 만료, 한 바퀴 밖(overflow) 항목, 여러 바퀴를 한 번에 건너뛴 진행, 지난 시각 등록
+class TimingWheelTests {
+
+	private static final long TICK = 100L;
+	private static final int WHEEL_SIZE = 8; // 한 바퀴 = 800ms
+
+	@Test
+	void expiresItemsOnTheirDueTickInRegistrationOrder() {
+		TimingWheel<String> wheel = new TimingWheel<>(TICK, WHEEL_SIZE, 0L);
+		wheel.schedule("a", 250L); // 250ms 이후 첫 틱 = 300ms
+		wheel.schedule("b", 300L);
+		wheel.schedule("c", 120L); // 200ms
+
+		assertThat(wheel.advance(199L)).isEmpty();
+		assertThat(wheel.advance(200L)).containsExactly("c");
+		assertThat(wheel.advance(299L)).isEmpty();
+		assertThat(wheel.advance(300L)).containsExactly("a", "b");
+		assertThat(wheel.size()).isZero();
+	}
+
+	@Test
+	void overflowItemsMoveIntoTheWheelWhenTheyComeInRange() {
+		TimingWheel<String> wheel = new TimingWheel<>(TICK, WHEEL_SIZE, 0L);
+		wheel.schedule("later", 5_000L);
+
+		assertThat(wheel.advance(4_000L)).isEmpty();
+		assertThat(wheel.advance(4_300L)).isEmpty(); // 이제 휠 범위 안의 슬롯으로 옮겨짐
+		assertThat(wheel.size()).isEqualTo(1);
+		assertThat(wheel.advance(4_999L)).isEmpty();
+		assertThat(wheel.advance(5_000L)).containsExactly("later");
+	}
+
+	@Test
+	void advancingPastSeveralTurnsExpiresEverythingDue() {
+		TimingWheel<String> wheel = new TimingWheel<>(TICK, WHEEL_SIZE, 0L);
+		wheel.schedule("slot", 1_000L);
+		wheel.schedule("overflow", 5_000L);
+		wheel.schedule("future", 200_000L);
+
+		assertThat(wheel.advance(100_000L)).containsExactly("slot", "overflow");
+		assertThat(wheel.size()).isEqualTo(1);
+	}
+
+	@Test
+	void pastDueItemsExpireOnTheNextTick() {
+		TimingWheel<String> wheel = new TimingWheel<>(TICK, WHEEL_SIZE, 0L);
+		wheel.advance(1_000L);
+		wheel.schedule("late", 0L);
+
+		assertThat(wheel.advance(1_099L)).isEmpty();
+		assertThat(wheel.advance(1_100L)).containsExactly("late");
+	}
+
+	@Test
+	void rejectsInvalidGeometry() {
+		assertThatThrownBy(() -> new TimingWheel<>(0L, WHEEL_SIZE, 0L)).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> new TimingWheel<>(TICK, 1, 0L)).isInstanceOf(IllegalArgumentException.class);
+	}
+}
@@ -0,0 +1,67 @@
+package com.bid.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+// 토큰 버킷(GCRA): capacity 만큼 연속 허용, 이후 리필 속도, 거절은 토큰을 쓰지 않음, 오래 쉬면 다시 가득 참
+class TokenBucketTests {
+
+	private static final long INTERVAL = TimeUnit.MILLISECONDS.toNanos(100); // 초당 10개
+
+	@Test
+	void allowsABurstOfCapacityThenReportsTheWait() {
+		TokenBucket bucket = new TokenBucket(3, 10.0, 0L);
+
+		assertThat(bucket.tryConsume(0L)).isZero();
+		assertThat(bucket.tryConsume(0L)).isZero();
+		assertThat(bucket.tryConsume(0L)).isZero();
+		assertThat(bucket.tryConsume(0L)).isEqualTo(INTERVAL);
+	}
+
+	@Test
+	void refillsOneTokenPerInterval() {
+		TokenBucket bucket = new TokenBucket(3, 10.0, 0L);
+		for (int i = 0; i < 3; i++) {
+			bucket.tryConsume(0L);
+		}
+
+		assertThat(bucket.tryConsume(INTERVAL / 2)).isEqualTo(INTERVAL / 2);
+		assertThat(bucket.tryConsume(INTERVAL)).isZero();
+		assertThat(bucket.tryConsume(INTERVAL)).isEqualTo(INTERVAL);
+	}
+
+	@Test
+	void rejectedAttemptsDoNotConsumeTokens() {
+		TokenBucket bucket = new TokenBucket(1, 10.0, 0L);
+		bucket.tryConsume(0L);
+
+		for (int i = 0; i < 5; i++) {
+			assertThat(bucket.tryConsume(0L)).isEqualTo(INTERVAL);
+		}
+		assertThat(bucket.tryConsume(INTERVAL)).isZero();
+	}
+
+	@Test
+	void idleBucketIsFullAgain() {
+		TokenBucket bucket = new TokenBucket(3, 10.0, 0L);
+		for (int i = 0; i < 3; i++) {
+			bucket.tryConsume(0L);
+		}
+
+		long later = TimeUnit.SECONDS.toNanos(10);
+		for (int i = 0; i < 3; i++) {
+			assertThat(bucket.tryConsume(later)).isZero();
+		}
+		assertThat(bucket.tryConsume(later)).isPositive();
+	}
+
+	@Test
+	void rejectsNonPositiveLimits() {
+		assertThatThrownBy(() -> new TokenBucket(0, 10.0, 0L)).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> new TokenBucket(3, 0.0, 0L)).isInstanceOf(IllegalArgumentException.class);
+	}
+}